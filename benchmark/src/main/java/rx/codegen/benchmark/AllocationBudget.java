@@ -0,0 +1,263 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Allocation budgets of the generated code. Compiles the fixture {@code Item} and its probes
+ * with and without lambdas, calls each kind of generated factory and {@code call} method in a
+ * loop, measures the allocated bytes per call with {@code ThreadMXBean.getThreadAllocatedBytes}
+ * and exits with 1 if a path exceeds its budget. Runs in the {@code verify} phase of the
+ * benchmark module.
+ *
+ * <p>The budget of a path is calibrated on the running JVM: a hand-written equivalent of the
+ * path allocates the objects the generated code is expected to allocate, so the budgets hold
+ * with and without compressed oops. Escape analysis eliminates allocations depending on the
+ * inlining, run with {@code -XX:-DoEscapeAnalysis} to count every allocation.
+ *
+ * <pre>
+ * usage: java -XX:-DoEscapeAnalysis AllocationBudget [--warmup n] [--iterations n]
+ * </pre>
+ *
+ * @author Matthias
+ */
+public class AllocationBudget {
+
+    private static final String PROBES = "rx.codegen.benchmark.budget.probes.Probes";
+    private static final String[] SOURCES = {
+        "rx/codegen/benchmark/budget/Item.java",
+        "rx/codegen/benchmark/budget/package-info.java",
+        "rx/codegen/benchmark/budget/probes/Probes.java",
+        "rx/codegen/benchmark/budget/probes/package-info.java"
+    };
+
+    /**
+     * Bytes per call a path may allocate beyond its budget, covers the allocations of the
+     * measurement itself.
+     */
+    private static final double TOLERANCE = 1.0d;
+
+    /**
+     * A generated path and its hand-written equivalent. The probes are compiled with the fixture.
+     */
+    public abstract static class Probe {
+
+        private final String path;
+
+        protected Probe(String path) {
+            this.path = path;
+        }
+
+        public abstract Object generated();
+
+        public abstract Object handWritten();
+    }
+
+    private int warmup = 100000;
+    private int iterations = 1000000;
+    private Object sink;
+
+    public static void main(String[] args) throws Exception {
+        final AllocationBudget budget = new AllocationBudget();
+        budget.parseArgs(args);
+        if (!budget.run()) {
+            System.exit(1);
+        }
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            if (arg.equals("--warmup") && i + 1 < args.length) {
+                warmup = Integer.parseInt(args[++i]);
+            } else if (arg.equals("--iterations") && i + 1 < args.length) {
+                iterations = Math.max(1, Integer.parseInt(args[++i]));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the fixture does not compile or a path exceeds its budget
+     */
+    private boolean run() throws Exception {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            System.err.println("Allocated bytes per thread are not supported by this JVM, skipping the check");
+            return true;
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler, run the benchmark with a JDK");
+        }
+
+        if (isEscapeAnalysisEnabled()) {
+            System.err.println("Escape analysis is enabled, the measured allocations depend on the inlining,"
+                    + " run with -XX:-DoEscapeAnalysis");
+        }
+
+        final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadBean;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        System.out.println(String.format(Locale.US, "%-10s %-28s %10s %10s", "variant", "path", "budget", "bytes/call"));
+
+        boolean ret = true;
+        for (boolean lambdas : new boolean[]{false, true}) {
+            final String variant = lambdas ? "lambdas" : "anonymous";
+            final Map<String, byte[]> classFiles = compile(compiler, lambdas);
+            if (classFiles == null) {
+                System.err.println(variant + ": the fixture does not compile");
+                ret = false;
+                continue;
+            }
+
+            for (Probe probe : createProbes(classFiles)) {
+                final double budget = measure(allocations, probe, false);
+                final double bytesPerCall = measure(allocations, probe, true);
+
+                final boolean exceeded = bytesPerCall > budget + TOLERANCE;
+                System.out.println(String.format(Locale.US, "%-10s %-28s %10.1f %10.1f%s",
+                        variant, probe.path, budget, bytesPerCall, exceeded ? "  EXCEEDED" : ""));
+                ret &= !exceeded;
+            }
+        }
+        return ret;
+    }
+
+    private static boolean isEscapeAnalysisEnabled() {
+        final HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        try {
+            return diagnostics != null && Boolean.parseBoolean(diagnostics.getVMOption("DoEscapeAnalysis").getValue());
+        } catch (IllegalArgumentException ex) {
+            return false; //not a HotSpot JVM
+        }
+    }
+
+    /**
+     * @return the class files by binary name or {@code null} if the compilation failed
+     */
+    private static Map<String, byte[]> compile(JavaCompiler compiler, boolean lambdas) throws IOException {
+        final ProcessorBenchmark.ErrorCollector errors = new ProcessorBenchmark.ErrorCollector();
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(errors, Locale.US, Charset.forName("UTF-8")));
+
+        final List<String> options = new ArrayList<String>(Arrays.asList(
+                "-nowarn",
+                "-processor", ProcessorBenchmark.PROCESSORS,
+                "-Arx.codegen.lambdas=" + lambdas,
+                "-classpath", System.getProperty("java.class.path")));
+        if (!System.getProperty("java.specification.version").startsWith("1.")) {
+            //the generated code needs javax.annotation.Generated
+            options.addAll(Arrays.asList("--release", "8"));
+        }
+
+        final List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+        for (String source : SOURCES) {
+            sources.add(createSource(source));
+        }
+
+        compiler.getTask(null, fileManager, errors, options, null, sources).call();
+        if (errors.count > 0) {
+            System.err.println(String.format("%d errors, first: %s", errors.count, errors.first));
+            return null;
+        }
+
+        final Map<String, byte[]> ret = new HashMap<String, byte[]>();
+        for (InMemoryFileManager.GeneratedFile file : fileManager.getGeneratedFiles()) {
+            if (file.getKind() == JavaFileObject.Kind.CLASS && !file.getClassName().endsWith("package-info")) {
+                ret.put(file.getClassName(), file.toByteArray());
+            }
+        }
+        return ret;
+    }
+
+    private static JavaFileObject createSource(String name) throws IOException {
+        final InputStream in = AllocationBudget.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing source: " + name);
+        }
+
+        final ByteArrayOutputStream source = new ByteArrayOutputStream();
+        try {
+            final byte[] buffer = new byte[8192];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                source.write(buffer, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+
+        final String content = source.toString("UTF-8");
+        return new SimpleJavaFileObject(URI.create("string:///" + name), JavaFileObject.Kind.SOURCE) {
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Probe> createProbes(Map<String, byte[]> classFiles) throws Exception {
+        final Class<?> probes = Class.forName(PROBES, true, new MemoryClassLoader(classFiles));
+        return (List<Probe>) probes.getMethod("create").invoke(probes.getConstructor().newInstance());
+    }
+
+    /**
+     * @return the allocated bytes per call of the generated or the hand-written code
+     */
+    private double measure(com.sun.management.ThreadMXBean allocations, Probe probe, boolean generated) {
+        final long threadId = Thread.currentThread().getId();
+        loop(probe, generated, warmup);
+
+        final long before = allocations.getThreadAllocatedBytes(threadId);
+        loop(probe, generated, iterations);
+        return (double) (allocations.getThreadAllocatedBytes(threadId) - before) / iterations;
+    }
+
+    private void loop(Probe probe, boolean generated, int count) {
+        if (generated) {
+            for (int i = 0; i < count; i++) {
+                sink = probe.generated();
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                sink = probe.handWritten();
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.JavaFileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.codegen.internal.spec.method.MethodIndex;
+import rx.codegen.internal.util.CodegenUtil;
+import rx.codegen.internal.util.ExecutableElementComparator;
+import rx.codegen.internal.util.TypeStringCache;
+
+/**
+ * Per call costs of the type analysis in {@link CodegenUtil}. The samples are the
+ * parameter and return types of the {@link FixtureSet} classes and some JDK classes,
+ * taken from an analyzed in-process javac task.
+ *
+ * <pre>
+ * $ java -jar target/benchmarks.jar CodegenUtilBenchmark -prof gc
+ * </pre>
+ *
+ * @author Matthias
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(CodegenUtilBenchmark.SAMPLES)
+public class CodegenUtilBenchmark {
+
+    static final int SAMPLES = 1024;
+
+    private static final String[] JDK_TYPES = {
+        "java.util.Collections",
+        "java.util.Arrays",
+        "java.util.concurrent.ConcurrentHashMap",
+        "java.lang.String"
+    };
+
+    private CodegenUtil util;
+    private ExecutableElementComparator comparator;
+    private List<TypeElement> typeElements;
+    private Sample[] samples;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+        sources.addAll(FixtureSet.DEEP_BOUNDS.createSources(1));
+        sources.addAll(FixtureSet.MANY_PARAMETERS.createSources(1));
+        sources.addAll(FixtureSet.OVERLOADS.createSources(1));
+
+        final JavacTaskEnvironment env = JavacTaskEnvironment.analyze(sources);
+        this.util = new CodegenUtil(env);
+        this.comparator = new ExecutableElementComparator(util);
+
+        this.typeElements = new ArrayList<TypeElement>();
+        typeElements.add(env.getElementUtils().getTypeElement("bench.overloads.Overloads"));
+        for (int i = 0; i < 10; i++) {
+            typeElements.add(env.getElementUtils().getTypeElement("bench.bounds.Bounded" + i));
+            typeElements.add(env.getElementUtils().getTypeElement("bench.params.ManyParams" + i));
+        }
+        for (String jdkType : JDK_TYPES) {
+            typeElements.add(env.getElementUtils().getTypeElement(jdkType));
+        }
+
+        final List<Sample> all = new ArrayList<Sample>();
+        for (TypeElement typeElement : typeElements) {
+            for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                    continue;
+                }
+
+                final Map<TypeVariable, String> mapping = createTypeVariableNameMapping(typeElement, method);
+                all.add(new Sample(typeElement, method, method.getReturnType(), mapping));
+                for (VariableElement parameter : method.getParameters()) {
+                    all.add(new Sample(typeElement, method, parameter.asType(), mapping));
+                }
+            }
+        }
+        Collections.shuffle(all, new Random(42));
+
+        this.samples = new Sample[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = all.get(i % all.size());
+        }
+    }
+
+    /**
+     * Same names as the generated code uses.
+     */
+    private Map<TypeVariable, String> createTypeVariableNameMapping(TypeElement typeElement, ExecutableElement method) {
+        final Map<TypeVariable, String> ret = new HashMap<TypeVariable, String>(util.getClassTypeVariableNameMapping(typeElement));
+        int i = 0;
+        for (TypeVariable typeVariable : util.findAllTypeVariablesFromElements(method.getTypeParameters())) {
+            if (!ret.containsKey(typeVariable)) {
+                ret.put(typeVariable, "M" + i++);
+            }
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public void findAllTypeVariables(Blackhole bh) {
+        for (Sample sample : samples) {
+            bh.consume(util.findAllTypeVariables(sample.type));
+        }
+    }
+
+    @Benchmark
+    public void typeToStringCached(Blackhole bh) {
+        for (Sample sample : samples) {
+            bh.consume(util.typeToString(sample.type, sample.typeVariableNameMapping, false));
+        }
+    }
+
+    /**
+     * The type walker itself, the cache is emptied before every call.
+     */
+    @Benchmark
+    public void typeToStringUncached(Blackhole bh) {
+        final TypeStringCache cache = util.getTypeStringCache();
+        for (Sample sample : samples) {
+            cache.clear();
+            bh.consume(util.typeToString(sample.type, sample.typeVariableNameMapping, false));
+        }
+    }
+
+    @Benchmark
+    public void overridesMethodOfObject(Blackhole bh) {
+        for (Sample sample : samples) {
+            bh.consume(util.overridesMethodOfObject(sample.typeElement, sample.method, sample.methodname));
+        }
+    }
+
+    /**
+     * One comparison without precomputed sort keys.
+     */
+    @Benchmark
+    public void compareExecutableElements(Blackhole bh) {
+        for (int i = 0; i < SAMPLES; i++) {
+            bh.consume(comparator.compare(samples[i].method, samples[(i + 1) % SAMPLES].method));
+        }
+    }
+
+    /**
+     * Sorting, support checks and naming of all methods of the sample classes.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1)
+    public void createMethodIndex(Blackhole bh) {
+        for (TypeElement typeElement : typeElements) {
+            bh.consume(MethodIndex.create(util, typeElement, false));
+        }
+    }
+
+    private static class Sample {
+
+        private final TypeElement typeElement;
+        private final ExecutableElement method;
+        private final String methodname;
+        private final TypeMirror type;
+        private final Map<TypeVariable, String> typeVariableNameMapping;
+
+        Sample(TypeElement typeElement, ExecutableElement method, TypeMirror type, Map<TypeVariable, String> typeVariableNameMapping) {
+            this.typeElement = typeElement;
+            this.method = method;
+            this.methodname = method.getSimpleName().toString();
+            this.type = type;
+            this.typeVariableNameMapping = typeVariableNameMapping;
+        }
+    }
+}
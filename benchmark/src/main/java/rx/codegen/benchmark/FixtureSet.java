@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * Synthetic sources the processor is benchmarked with. The size of every set grows
+ * linearly with the {@code scale}.
+ *
+ * @author Matthias
+ */
+enum FixtureSet {
+
+    /**
+     * One class with {@code 1000 * scale} overloads of the same method.
+     */
+    OVERLOADS {
+
+        @Override
+        List<JavaFileObject> createSources(int scale) {
+            final String[] paramTypes = {"int", "long", "double", "String", "Integer",
+                "java.util.List<String>", "Object", "char[]"};
+
+            final StringBuilder body = new StringBuilder();
+            final int count = 1000 * scale;
+            int[] combination = {0};
+            for (int i = 0; i < count; i++) {
+                body.append("    public static int over(");
+                for (int p = 0; p < combination.length; p++) {
+                    if (p != 0) {
+                        body.append(", ");
+                    }
+                    body.append(paramTypes[combination[p]]).append(" p").append(p);
+                }
+                body.append(") { return ").append(i).append("; }\n");
+                combination = next(combination, paramTypes.length);
+            }
+
+            final List<JavaFileObject> ret = new ArrayList<JavaFileObject>();
+            ret.add(generatorClass("bench.overloads", "Overloads", "", body.toString()));
+            return ret;
+        }
+
+        private int[] next(int[] combination, int base) {
+            for (int i = combination.length - 1; i >= 0; i--) {
+                if (++combination[i] < base) {
+                    return combination;
+                }
+                combination[i] = 0;
+            }
+            return new int[combination.length + 1];
+        }
+    },
+    /**
+     * {@code 50 * scale} generic classes with intersection and recursive bounds.
+     */
+    DEEP_BOUNDS {
+
+        @Override
+        List<JavaFileObject> createSources(int scale) {
+            final List<JavaFileObject> ret = new ArrayList<JavaFileObject>();
+            for (int i = 0; i < 50 * scale; i++) {
+                final StringBuilder body = new StringBuilder();
+                body.append("    public static <T extends Number & Comparable<T>> T max(T a, T b) { return a; }\n");
+                body.append("    public <A extends Comparable<? super A>, B extends java.util.List<? extends A>> A first(B list) { return null; }\n");
+                body.append("    public <K extends Comparable<K>, V extends java.util.Map<K, ? super java.util.List<? extends T>>> V map(K key, V value) { return value; }\n");
+                body.append("    public <E extends Enum<E> & Comparable<E>> java.util.EnumSet<E> enums(Class<E> type) { return null; }\n");
+                body.append("    public T self(S other) { return null; }\n");
+                body.append("    public java.util.Map<? extends T, java.util.List<? super S>> nested(java.util.Set<? extends java.util.Map<T, S>> in) { return null; }\n");
+                ret.add(generatorClass("bench.bounds", "Bounded" + i,
+                        "<T extends Number & Comparable<T>, S extends java.util.Collection<? extends T>>", body.toString()));
+            }
+            return ret;
+        }
+    },
+    /**
+     * {@code 50 * scale} classes with methods of 10 to 16 parameters ({@code FuncN}/{@code ActionN}).
+     */
+    MANY_PARAMETERS {
+
+        @Override
+        List<JavaFileObject> createSources(int scale) {
+            final List<JavaFileObject> ret = new ArrayList<JavaFileObject>();
+            for (int i = 0; i < 50 * scale; i++) {
+                final StringBuilder body = new StringBuilder();
+                for (int paramCount = 10; paramCount <= 16; paramCount++) {
+                    final StringBuilder params = new StringBuilder();
+                    for (int p = 0; p < paramCount; p++) {
+                        if (p != 0) {
+                            params.append(", ");
+                        }
+                        params.append(p % 2 == 0 ? "int" : "String").append(" p").append(p);
+                    }
+                    body.append("    public static String func").append(paramCount).append("(").append(params).append(") { return null; }\n");
+                    body.append("    public static void action").append(paramCount).append("(").append(params).append(") { }\n");
+                    body.append("    public long instance").append(paramCount).append("(").append(params).append(") { return 0L; }\n");
+                }
+                ret.add(generatorClass("bench.params", "ManyParams" + i, "", body.toString()));
+            }
+            return ret;
+        }
+    },
+    /**
+     * Real JDK packages through {@code @RxRefCodeGenerator}. Not scaled.
+     */
+    JDK_PACKAGES {
+
+        @Override
+        List<JavaFileObject> createSources(int scale) {
+            final String source = "@RxRefCodeGenerator(packages = {\n"
+                    + "    @RefPackage(name = \"java.util\", options = @Option()),\n"
+                    + "    @RefPackage(name = \"java.util.concurrent\", options = @Option()),\n"
+                    + "    @RefPackage(name = \"java.lang\", options = @Option())\n"
+                    + "})\n"
+                    + "package bench.jdk;\n"
+                    + "\n"
+                    + "import rx.codegen.*;\n";
+
+            final List<JavaFileObject> ret = new ArrayList<JavaFileObject>();
+            ret.add(new SourceFile("bench/jdk/package-info.java", source));
+            return ret;
+        }
+    };
+
+    abstract List<JavaFileObject> createSources(int scale);
+
+    private static JavaFileObject generatorClass(String packagename, String classname, String typeParameters, String body) {
+        final String source = "package " + packagename + ";\n"
+                + "\n"
+                + "@rx.codegen.RxCodeGenerator(options = @rx.codegen.Option())\n"
+                + "public class " + classname + typeParameters + " {\n"
+                + "\n"
+                + body
+                + "}\n";
+        return new SourceFile(packagename.replace('.', '/') + "/" + classname + ".java", source);
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
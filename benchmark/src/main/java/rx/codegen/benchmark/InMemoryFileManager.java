@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+/**
+ * Keeps all generated files in memory, so disk I/O does not distort the measurements.
+ *
+ * @author Matthias
+ */
+class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final List<GeneratedFile> generatedFiles = new ArrayList<GeneratedFile>();
+
+    InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+        final GeneratedFile ret = new GeneratedFile(className, kind);
+        generatedFiles.add(ret);
+        return ret;
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+        if (a instanceof GeneratedFile || b instanceof GeneratedFile) {
+            return a == b;
+        }
+        return super.isSameFile(a, b);
+    }
+
+    List<GeneratedFile> getGeneratedFiles() {
+        return generatedFiles;
+    }
+
+    static class GeneratedFile extends SimpleJavaFileObject {
+
+        private final String className;
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream(8 * 1024);
+
+        GeneratedFile(String className, Kind kind) {
+            super(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind);
+            this.className = className;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            content.reset();
+            return content;
+        }
+
+        @Override
+        public Writer openWriter() {
+            return new OutputStreamWriter(openOutputStream(), UTF_8);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return new String(content.toByteArray(), UTF_8);
+        }
+
+        int size() {
+            return content.size();
+        }
+
+        byte[] toByteArray() {
+            return content.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import com.sun.source.util.JavacTask;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * A {@link ProcessingEnvironment} backed by an analyzed in-process {@link JavacTask}, so the
+ * type analysis of the processor can be measured outside of an annotation processing round.
+ *
+ * <p>There is no {@link Filer}. The messager prints everything but notes to {@code System.err}.
+ *
+ * @author Matthias
+ */
+final class JavacTaskEnvironment implements ProcessingEnvironment {
+
+    private final JavacTask task; //keeps the compiler context alive
+    private final Messager messager;
+
+    private JavacTaskEnvironment(JavacTask task) {
+        this.task = task;
+        this.messager = new StdErrMessager();
+    }
+
+    static JavacTaskEnvironment analyze(List<JavaFileObject> sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler, run the benchmark with a JDK");
+        }
+
+        final JavacTask task = (JavacTask) compiler.getTask(null, null, null,
+                Arrays.asList("-proc:none", "-classpath", System.getProperty("java.class.path")),
+                null, sources);
+        task.analyze();
+        return new JavacTaskEnvironment(task);
+    }
+
+    @Override
+    public Map<String, String> getOptions() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Messager getMessager() {
+        return messager;
+    }
+
+    @Override
+    public Filer getFiler() {
+        throw new UnsupportedOperationException("No filer outside of annotation processing");
+    }
+
+    @Override
+    public Elements getElementUtils() {
+        return task.getElements();
+    }
+
+    @Override
+    public Types getTypeUtils() {
+        return task.getTypes();
+    }
+
+    @Override
+    public SourceVersion getSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    @Override
+    public Locale getLocale() {
+        return Locale.US;
+    }
+
+    private static class StdErrMessager implements Messager {
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg) {
+            printMessage(kind, msg, null, null, null);
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e) {
+            printMessage(kind, msg, e, null, null);
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a) {
+            printMessage(kind, msg, e, a, null);
+        }
+
+        @Override
+        public void printMessage(Diagnostic.Kind kind, CharSequence msg, Element e, AnnotationMirror a, AnnotationValue v) {
+            if (kind != Diagnostic.Kind.NOTE) {
+                System.err.println(kind + ": " + msg + (e != null ? " (" + e + ")" : ""));
+            }
+        }
+    }
+}
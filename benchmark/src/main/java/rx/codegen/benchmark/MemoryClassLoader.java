@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import java.util.Map;
+
+/**
+ * Defines compiled classes from memory.
+ *
+ * @author Matthias
+ */
+class MemoryClassLoader extends ClassLoader {
+
+    private final Map<String, byte[]> classFiles;
+    private int definedClasses;
+
+    MemoryClassLoader(Map<String, byte[]> classFiles) {
+        super(MemoryClassLoader.class.getClassLoader());
+        this.classFiles = classFiles;
+    }
+
+    int getDefinedClasses() {
+        return definedClasses;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        final byte[] classFile = classFiles.get(name);
+        if (classFile == null) {
+            throw new ClassNotFoundException(name);
+        }
+        definedClasses++;
+        return defineClass(name, classFile, 0, classFile.length);
+    }
+}
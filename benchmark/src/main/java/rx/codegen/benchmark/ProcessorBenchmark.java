@@ -0,0 +1,297 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import com.sun.source.util.JavacTask;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * End-to-end benchmark of the annotation processor. Runs javac in-process with
+ * {@code -proc:only} over the {@link FixtureSet}s and reports the throughput,
+ * the peak heap and the size of the generated sources.
+ *
+ * <pre>
+ * usage: ProcessorBenchmark [--warmup n] [--iterations n] [--scale n]
+ *                           [--fixtures OVERLOADS,DEEP_BOUNDS,...] [-Akey=value ...]
+ * </pre>
+ *
+ * {@code -A} options are passed on to the processor, e.g. {@code -Arx.codegen.parallelism=4}.
+ * {@code -proc:only} does not attribute the generated sources. Therefore they are compiled
+ * once more after the measured runs, untimed. The errors of the processor and of this compile
+ * are counted, not fatal.
+ *
+ * @author Matthias
+ */
+public class ProcessorBenchmark {
+
+    static final String PROCESSORS = "rx.codegen.internal.RxCodeGeneratorProcessor,"
+            + "rx.codegen.internal.RxRefCodeGeneratorProcessor";
+
+    private static final Pattern METHOD_DECLARATION = Pattern.compile("^    (\\w+)? static .*\\) \\{$", Pattern.MULTILINE);
+
+    private int warmup = 2;
+    private int iterations = 5;
+    private int scale = 1;
+    private Set<FixtureSet> fixtureSets = EnumSet.allOf(FixtureSet.class);
+    private final List<String> processorOptions = new ArrayList<String>();
+
+    public static void main(String[] args) throws Exception {
+        final ProcessorBenchmark benchmark = new ProcessorBenchmark();
+        benchmark.parseArgs(args);
+        benchmark.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            if (arg.startsWith("-A")) {
+                processorOptions.add(arg);
+            } else if (arg.equals("--warmup") && i + 1 < args.length) {
+                warmup = Integer.parseInt(args[++i]);
+            } else if (arg.equals("--iterations") && i + 1 < args.length) {
+                iterations = Math.max(1, Integer.parseInt(args[++i]));
+            } else if (arg.equals("--scale") && i + 1 < args.length) {
+                scale = Math.max(1, Integer.parseInt(args[++i]));
+            } else if (arg.equals("--fixtures") && i + 1 < args.length) {
+                fixtureSets = EnumSet.noneOf(FixtureSet.class);
+                for (String name : args[++i].split(",")) {
+                    fixtureSets.add(FixtureSet.valueOf(name.trim().toUpperCase(Locale.US)));
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+    }
+
+    private void run() throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler, run the benchmark with a JDK");
+        }
+
+        System.out.println(String.format(Locale.US, "%-16s %8s %8s %10s %12s %10s %10s %14s %10s %8s %14s",
+                "fixture", "sources", "files", "methods", "bytes", "min ms", "median ms", "methods/s", "heap MB", "errors",
+                "compile errors"));
+
+        for (FixtureSet fixtureSet : fixtureSets) {
+            final List<JavaFileObject> sources = fixtureSet.createSources(scale);
+            for (int i = 0; i < warmup; i++) {
+                runOnce(compiler, sources);
+            }
+
+            final List<Result> results = new ArrayList<Result>();
+            for (int i = 0; i < iterations; i++) {
+                results.add(runOnce(compiler, sources));
+            }
+            final Result last = results.get(results.size() - 1);
+            final ErrorCollector compileErrors = compileGenerated(compiler, sources, last.generatedSources);
+            printSummary(fixtureSet, sources.size(), results, compileErrors.count);
+
+            if (last.firstError != null) {
+                System.err.println(String.format("%s: %d errors, first: %s",
+                        fixtureSet.name().toLowerCase(Locale.US), last.errors, last.firstError));
+            }
+            if (compileErrors.first != null) {
+                System.err.println(String.format("%s: %d compile errors in generated sources, first: %s",
+                        fixtureSet.name().toLowerCase(Locale.US), compileErrors.count, compileErrors.first));
+            }
+        }
+    }
+
+    private Result runOnce(JavaCompiler compiler, List<JavaFileObject> sources) {
+        final ErrorCollector errors = new ErrorCollector();
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(errors, Locale.US, Charset.forName("UTF-8")));
+
+        final List<String> options = createOptions("-proc:only", "-processor", PROCESSORS);
+        options.addAll(processorOptions);
+
+        System.gc();
+        resetPeakHeap();
+
+        final long start = System.nanoTime();
+        compiler.getTask(null, fileManager, errors, options, null, sources).call();
+        final long nanos = System.nanoTime() - start;
+
+        final Result ret = new Result(nanos, getPeakHeap(), errors.count, errors.first);
+        for (InMemoryFileManager.GeneratedFile file : fileManager.getGeneratedFiles()) {
+            ret.files++;
+            ret.bytes += file.size();
+            ret.methods += countMethods(file.getCharContent(true));
+            if (file.getKind() == JavaFileObject.Kind.SOURCE) {
+                ret.generatedSources.add(file);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Compiles the fixtures and the generated sources without annotation processing, so
+     * missing symbols and invalid bounds in the generated code are reported, too. javac does
+     * not attribute anything if a source cannot be parsed, therefore such sources are only
+     * parsed and left out of the compile.
+     */
+    private static ErrorCollector compileGenerated(JavaCompiler compiler, List<JavaFileObject> sources,
+            List<JavaFileObject> generatedSources) throws IOException {
+        final ErrorCollector ret = new ErrorCollector();
+        createTask(compiler, ret, generatedSources).parse();
+
+        final List<JavaFileObject> compilationUnits = new ArrayList<JavaFileObject>(sources);
+        for (JavaFileObject generatedSource : generatedSources) {
+            if (!ret.sources.contains(generatedSource)) {
+                compilationUnits.add(generatedSource);
+            }
+        }
+        createTask(compiler, ret, compilationUnits).call();
+        return ret;
+    }
+
+    private static JavacTask createTask(JavaCompiler compiler, ErrorCollector errors, List<JavaFileObject> compilationUnits) {
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(errors, Locale.US, Charset.forName("UTF-8")));
+        return (JavacTask) compiler.getTask(null, fileManager, errors, createOptions("-proc:none", "-nowarn",
+                "-Xmaxerrs", String.valueOf(Integer.MAX_VALUE)), null, compilationUnits);
+    }
+
+    private static List<String> createOptions(String... options) {
+        final List<String> ret = new ArrayList<String>(Arrays.asList(options));
+        ret.addAll(Arrays.asList("-classpath", System.getProperty("java.class.path")));
+        if (!System.getProperty("java.specification.version").startsWith("1.")) {
+            //the generated code needs javax.annotation.Generated
+            ret.addAll(Arrays.asList("--release", "8"));
+        }
+        return ret;
+    }
+
+    /**
+     * Counts the declarations of generated methods. Anonymous classes, lambdas and the
+     * dispatcher classes contain no such declarations at the class level.
+     */
+    private static int countMethods(CharSequence source) {
+        final Matcher matcher = METHOD_DECLARATION.matcher(source);
+        int ret = 0;
+        while (matcher.find()) {
+            ret++;
+        }
+        return ret;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Sum of the peaks of all heap pools. The pools do not peak at the same time,
+     * therefore this is an upper bound.
+     */
+    private static long getPeakHeap() {
+        long ret = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                ret += pool.getPeakUsage().getUsed();
+            }
+        }
+        return ret;
+    }
+
+    private void printSummary(FixtureSet fixtureSet, int sourceCount, List<Result> results, int compileErrors) {
+        final List<Long> nanos = new ArrayList<Long>();
+        long peakHeap = 0;
+        for (Result result : results) {
+            nanos.add(result.nanos);
+            peakHeap = Math.max(peakHeap, result.peakHeap);
+        }
+        Collections.sort(nanos);
+
+        final Result last = results.get(results.size() - 1);
+        final long median = nanos.get(nanos.size() / 2);
+        System.out.println(String.format(Locale.US, "%-16s %8d %8d %10d %12d %10.1f %10.1f %14.0f %10.1f %8d %14d",
+                fixtureSet.name().toLowerCase(Locale.US),
+                sourceCount,
+                last.files,
+                last.methods,
+                last.bytes,
+                nanos.get(0) / 1000000.0d,
+                median / 1000000.0d,
+                last.methods / (median / (double) TimeUnit.SECONDS.toNanos(1)),
+                peakHeap / (1024.0d * 1024.0d),
+                last.errors,
+                compileErrors));
+    }
+
+    private static class Result {
+
+        private final long nanos;
+        private final long peakHeap;
+        private final int errors;
+        private final Diagnostic<? extends JavaFileObject> firstError;
+        private final List<JavaFileObject> generatedSources = new ArrayList<JavaFileObject>();
+        private int files;
+        private int methods;
+        private long bytes;
+
+        Result(long nanos, long peakHeap, int errors, Diagnostic<? extends JavaFileObject> firstError) {
+            this.nanos = nanos;
+            this.peakHeap = peakHeap;
+            this.errors = errors;
+            this.firstError = firstError;
+        }
+    }
+
+    static class ErrorCollector implements DiagnosticListener<JavaFileObject> {
+
+        int count;
+        Diagnostic<? extends JavaFileObject> first;
+        final Set<JavaFileObject> sources = new HashSet<JavaFileObject>();
+
+        @Override
+        public void report(Diagnostic<? extends JavaFileObject> diagnostic) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                if (first == null) {
+                    first = diagnostic;
+                }
+                count++;
+                if (diagnostic.getSource() != null) {
+                    sources.add(diagnostic.getSource());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import rx.codegen.ImplementationStrategy;
+
+/**
+ * Startup costs of the generated classes per {@link ImplementationStrategy}, and of lambdas
+ * instead of anonymous classes. Compiles
+ * generated classes of JDK packages, then loads them into a fresh class loader and calls
+ * every generated method once, as an application does on its first use. Reports the
+ * class files, their size, the loaded classes, the time and the metaspace growth.
+ *
+ * <pre>
+ * usage: StartupBenchmark [--warmup n] [--iterations n]
+ * </pre>
+ *
+ * @author Matthias
+ */
+public class StartupBenchmark {
+
+    /**
+     * Classes the generator produces uncompilable code for.
+     */
+    private static final String[] EXCLUDES = {"java.util.Collections", "java.util.concurrent.DelayQueue"};
+    private static final String[] PACKAGES = {"java.util", "java.util.concurrent", "java.lang"};
+
+    private enum Variant {
+
+        ANONYMOUS_CLASSES(ImplementationStrategy.ANONYMOUS_CLASSES, false),
+        LAMBDAS(ImplementationStrategy.ANONYMOUS_CLASSES, true),
+        DISPATCH_TABLE(ImplementationStrategy.DISPATCH_TABLE, false);
+
+        private final ImplementationStrategy strategy;
+        private final boolean lambdas;
+
+        Variant(ImplementationStrategy strategy, boolean lambdas) {
+            this.strategy = strategy;
+            this.lambdas = lambdas;
+        }
+    }
+
+    private int warmup = 2;
+    private int iterations = 5;
+
+    public static void main(String[] args) throws Exception {
+        final StartupBenchmark benchmark = new StartupBenchmark();
+        benchmark.parseArgs(args);
+        benchmark.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            final String arg = args[i];
+            if (arg.equals("--warmup") && i + 1 < args.length) {
+                warmup = Integer.parseInt(args[++i]);
+            } else if (arg.equals("--iterations") && i + 1 < args.length) {
+                iterations = Math.max(1, Integer.parseInt(args[++i]));
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler, run the benchmark with a JDK");
+        }
+
+        System.out.println(String.format(Locale.US, "%-18s %8s %8s %12s %8s %10s %10s %12s",
+                "variant", "methods", "classes", "class bytes", "loaded", "min ms", "median ms", "metaspace KB"));
+
+        for (Variant variant : Variant.values()) {
+            final Map<String, byte[]> classFiles = compile(compiler, variant);
+            if (classFiles == null) {
+                continue;
+            }
+
+            long classBytes = 0;
+            for (byte[] classFile : classFiles.values()) {
+                classBytes += classFile.length;
+            }
+
+            for (int i = 0; i < warmup; i++) {
+                loadOnce(classFiles);
+            }
+
+            final List<Result> results = new ArrayList<Result>();
+            for (int i = 0; i < iterations; i++) {
+                results.add(loadOnce(classFiles));
+            }
+            printSummary(variant, classFiles.size(), classBytes, results);
+        }
+    }
+
+    /**
+     * @return the generated class files by binary name or {@code null} if the compilation failed
+     */
+    private Map<String, byte[]> compile(JavaCompiler compiler, Variant variant) {
+        final ProcessorBenchmark.ErrorCollector errors = new ProcessorBenchmark.ErrorCollector();
+        final InMemoryFileManager fileManager = new InMemoryFileManager(
+                compiler.getStandardFileManager(errors, Locale.US, Charset.forName("UTF-8")));
+
+        final List<String> options = new ArrayList<String>(Arrays.asList(
+                "-nowarn",
+                "-processor", ProcessorBenchmark.PROCESSORS,
+                "-Arx.codegen.lambdas=" + variant.lambdas,
+                "-classpath", System.getProperty("java.class.path")));
+        if (!System.getProperty("java.specification.version").startsWith("1.")) {
+            //the generated code needs javax.annotation.Generated
+            options.addAll(Arrays.asList("--release", "8"));
+        }
+
+        compiler.getTask(null, fileManager, errors, options, null,
+                Collections.singletonList(createSource(variant.strategy))).call();
+        if (errors.count > 0) {
+            System.err.println(String.format("%s: %d errors, first: %s",
+                    variant.name().toLowerCase(Locale.US), errors.count, errors.first));
+            return null;
+        }
+
+        final Map<String, byte[]> ret = new HashMap<String, byte[]>();
+        for (InMemoryFileManager.GeneratedFile file : fileManager.getGeneratedFiles()) {
+            if (file.getKind() == JavaFileObject.Kind.CLASS && !file.getClassName().endsWith("package-info")) {
+                ret.put(file.getClassName(), file.toByteArray());
+            }
+        }
+        return ret;
+    }
+
+    private static JavaFileObject createSource(ImplementationStrategy strategy) {
+        final StringBuilder excludes = new StringBuilder();
+        for (String exclude : EXCLUDES) {
+            excludes.append(excludes.length() == 0 ? "" : ", ").append('"').append(exclude).append('"');
+        }
+
+        final StringBuilder source = new StringBuilder("@RxRefCodeGenerator(packages = {\n");
+        for (int i = 0; i < PACKAGES.length; i++) {
+            source.append(String.format("    @RefPackage(name = \"%s\", excludes = {%s}, options = @Option(implementation = ImplementationStrategy.%s))%s\n",
+                    PACKAGES[i], excludes, strategy.name(), i < PACKAGES.length - 1 ? "," : ""));
+        }
+        source.append("})\npackage bench.startup;\n\nimport rx.codegen.*;\n");
+
+        return new SimpleJavaFileObject(URI.create("string:///bench/startup/package-info.java"), JavaFileObject.Kind.SOURCE) {
+
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private Result loadOnce(Map<String, byte[]> classFiles) throws Exception {
+        System.gc();
+        final long metaspaceBefore = getMetaspaceUsage();
+        final MemoryClassLoader classLoader = new MemoryClassLoader(classFiles);
+        final List<Object> functions = new ArrayList<Object>(); //keeps the classes reachable
+
+        final long start = System.nanoTime();
+        for (String className : classFiles.keySet()) {
+            if (className.indexOf('$') >= 0) {
+                continue; //loaded on demand
+            }
+
+            for (Method method : Class.forName(className, true, classLoader).getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers())) {
+                    functions.add(invoke(method));
+                }
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+
+        return new Result(nanos, functions.size(), classLoader.getDefinedClasses(), getMetaspaceUsage() - metaspaceBefore);
+    }
+
+    private static Object invoke(Method method) throws IllegalAccessException {
+        try {
+            return method.invoke(null, new Object[method.getParameterTypes().length]);
+        } catch (InvocationTargetException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static long getMetaspaceUsage() {
+        long ret = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().contains("Metaspace") || pool.getName().contains("Perm Gen")) {
+                ret += pool.getUsage().getUsed();
+            }
+        }
+        return ret;
+    }
+
+    private void printSummary(Variant variant, int classCount, long classBytes, List<Result> results) {
+        final List<Long> nanos = new ArrayList<Long>();
+        long metaspace = 0;
+        for (Result result : results) {
+            nanos.add(result.nanos);
+            metaspace = Math.max(metaspace, result.metaspace);
+        }
+        Collections.sort(nanos);
+
+        final Result last = results.get(results.size() - 1);
+        System.out.println(String.format(Locale.US, "%-18s %8d %8d %12d %8d %10.1f %10.1f %12.0f",
+                variant.name().toLowerCase(Locale.US),
+                last.methods,
+                classCount,
+                classBytes,
+                last.loadedClasses,
+                nanos.get(0) / 1000000.0d,
+                nanos.get(nanos.size() / 2) / 1000000.0d,
+                metaspace / 1024.0d));
+    }
+
+    private static class Result {
+
+        private final long nanos;
+        private final int methods;
+        private final int loadedClasses;
+        private final long metaspace;
+
+        Result(long nanos, int methods, int loadedClasses, long metaspace) {
+            this.nanos = nanos;
+            this.methods = methods;
+            this.loadedClasses = loadedClasses;
+            this.metaspace = metaspace;
+        }
+    }
+}
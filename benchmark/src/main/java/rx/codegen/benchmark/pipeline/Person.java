@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark.pipeline;
+
+import rx.Observable;
+import rx.codegen.RxCodeGenerator;
+
+/**
+ * Fixture of {@link PipelineBenchmark}: a getter, a predicate, constructors, a static method,
+ * a generic method and a method with more than 9 parameters.
+ *
+ * @author Matthias
+ */
+@RxCodeGenerator
+public class Person {
+
+    private final String name;
+    private final int age;
+
+    public Person(String name) {
+        this(name, name.hashCode() & 63);
+    }
+
+    public Person(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public boolean isAdult() {
+        return age >= 18;
+    }
+
+    public static int checksum(String value) {
+        int ret = 0;
+        for (int i = 0; i < value.length(); i++) {
+            ret = 31 * ret + value.charAt(i);
+        }
+        return ret;
+    }
+
+    public static <T> Observable<T> twice(T item) {
+        return Observable.just(item, item);
+    }
+
+    public static int sum(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        return a0 + a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9;
+    }
+}
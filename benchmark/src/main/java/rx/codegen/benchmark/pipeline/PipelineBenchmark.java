@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+import rx.Observer;
+import rx.codegen.benchmark.pipeline.PipelineFunctions.Implementation;
+
+/**
+ * Throughput of the generated functions of {@link Person} in {@code map}, {@code filter},
+ * {@code flatMap} and {@code zip} pipelines, compared to hand-written anonymous classes,
+ * lambdas and {@code Method.invoke}. The score is per element. The allocations per element
+ * are reported by the gc profiler ({@code gc.alloc.rate.norm}).
+ *
+ * <pre>
+ * $ java -jar target/benchmarks.jar PipelineBenchmark -prof gc
+ * $ java -jar target/benchmarks.jar PipelineBenchmark -p implementation=GENERATED,LAMBDAS
+ * </pre>
+ *
+ * @author Matthias
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(PipelineBenchmark.SIZE)
+public class PipelineBenchmark {
+
+    static final int SIZE = 1000;
+    private static final int ZIP_SOURCES = 10;
+
+    @Param
+    Implementation implementation;
+
+    private PipelineFunctions functions;
+    private List<String> names;
+    private List<Person> persons;
+    private List<Observable<Integer>> zipSources;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        functions = PipelineFunctions.create(implementation);
+
+        names = new ArrayList<String>(SIZE);
+        persons = new ArrayList<Person>(SIZE);
+        final List<Integer> numbers = new ArrayList<Integer>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final String name = "person" + i;
+            names.add(name);
+            persons.add(new Person(name, i % 40));
+            numbers.add(i);
+        }
+
+        zipSources = new ArrayList<Observable<Integer>>(ZIP_SOURCES);
+        for (int i = 0; i < ZIP_SOURCES; i++) {
+            zipSources.add(Observable.from(numbers));
+        }
+    }
+
+    @Benchmark
+    public void mapGetter(Blackhole bh) {
+        Observable.from(persons).map(functions.getName).subscribe(new Consumer<String>(bh));
+    }
+
+    @Benchmark
+    public void filterPredicate(Blackhole bh) {
+        Observable.from(persons).filter(functions.isAdult).subscribe(new Consumer<Person>(bh));
+    }
+
+    @Benchmark
+    public void mapStaticMethod(Blackhole bh) {
+        Observable.from(names).map(functions.checksum).subscribe(new Consumer<Integer>(bh));
+    }
+
+    @Benchmark
+    public void mapConstructor(Blackhole bh) {
+        Observable.from(names).map(functions.newPerson).subscribe(new Consumer<Person>(bh));
+    }
+
+    @Benchmark
+    public void flatMapGenericMethod(Blackhole bh) {
+        Observable.from(persons).flatMap(functions.twice).subscribe(new Consumer<Person>(bh));
+    }
+
+    @Benchmark
+    public void zipFuncN(Blackhole bh) {
+        Observable.zip(zipSources, functions.sum).subscribe(new Consumer<Integer>(bh));
+    }
+
+    private static final class Consumer<T> implements Observer<T> {
+
+        private final Blackhole bh;
+
+        Consumer(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void onNext(T t) {
+            bh.consume(t);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            throw new IllegalStateException(e);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
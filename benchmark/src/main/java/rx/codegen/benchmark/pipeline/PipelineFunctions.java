@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark.pipeline;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import rx.Observable;
+import rx.exceptions.Exceptions;
+import rx.functions.Func1;
+import rx.functions.FuncN;
+
+/**
+ * The functions of the {@link PipelineBenchmark} pipelines, created once per
+ * {@link Implementation}.
+ *
+ * @author Matthias
+ */
+final class PipelineFunctions {
+
+    enum Implementation {
+
+        /**
+         * {@code Person_}, generated with anonymous classes.
+         */
+        GENERATED,
+        /**
+         * {@code PersonDispatch_}, generated with {@code ImplementationStrategy.DISPATCH_TABLE}.
+         */
+        DISPATCH_TABLE,
+        ANONYMOUS_CLASSES,
+        LAMBDAS,
+        /**
+         * {@code Method.invoke} of methods looked up once.
+         */
+        REFLECTION
+    }
+
+    final Func1<Person, String> getName;
+    final Func1<Person, Boolean> isAdult;
+    final Func1<String, Integer> checksum;
+    final Func1<String, Person> newPerson;
+    final Func1<Person, Observable<Person>> twice;
+    final FuncN<Integer> sum;
+
+    private PipelineFunctions(Func1<Person, String> getName, Func1<Person, Boolean> isAdult,
+            Func1<String, Integer> checksum, Func1<String, Person> newPerson,
+            Func1<Person, Observable<Person>> twice, FuncN<Integer> sum) {
+        this.getName = getName;
+        this.isAdult = isAdult;
+        this.checksum = checksum;
+        this.newPerson = newPerson;
+        this.twice = twice;
+        this.sum = sum;
+    }
+
+    static PipelineFunctions create(Implementation implementation) throws ReflectiveOperationException {
+        switch (implementation) {
+            case GENERATED:
+                return new PipelineFunctions(Person_.getName(), Person_.isAdult(), Person_.checksum(),
+                        Person_.newPerson(), Person_.<Person>twice(), Person_.sum());
+            case DISPATCH_TABLE:
+                return new PipelineFunctions(PersonDispatch_.getName(), PersonDispatch_.isAdult(), PersonDispatch_.checksum(),
+                        PersonDispatch_.newPerson(), PersonDispatch_.<Person>twice(), PersonDispatch_.sum());
+            case ANONYMOUS_CLASSES:
+                return createAnonymousClasses();
+            case LAMBDAS:
+                return createLambdas();
+            case REFLECTION:
+                return createReflection();
+            default:
+                throw new AssertionError(implementation);
+        }
+    }
+
+    private static PipelineFunctions createAnonymousClasses() {
+        return new PipelineFunctions(
+                new Func1<Person, String>() {
+
+                    @Override
+                    public String call(Person person) {
+                        return person.getName();
+                    }
+                },
+                new Func1<Person, Boolean>() {
+
+                    @Override
+                    public Boolean call(Person person) {
+                        return person.isAdult();
+                    }
+                },
+                new Func1<String, Integer>() {
+
+                    @Override
+                    public Integer call(String value) {
+                        return Person.checksum(value);
+                    }
+                },
+                new Func1<String, Person>() {
+
+                    @Override
+                    public Person call(String name) {
+                        return new Person(name);
+                    }
+                },
+                new Func1<Person, Observable<Person>>() {
+
+                    @Override
+                    public Observable<Person> call(Person person) {
+                        return Person.twice(person);
+                    }
+                },
+                new FuncN<Integer>() {
+
+                    @Override
+                    public Integer call(Object... args) {
+                        return Person.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3],
+                                (Integer) args[4], (Integer) args[5], (Integer) args[6], (Integer) args[7],
+                                (Integer) args[8], (Integer) args[9]);
+                    }
+                });
+    }
+
+    private static PipelineFunctions createLambdas() {
+        return new PipelineFunctions(
+                Person::getName,
+                Person::isAdult,
+                Person::checksum,
+                Person::new,
+                Person::twice,
+                args -> Person.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3],
+                        (Integer) args[4], (Integer) args[5], (Integer) args[6], (Integer) args[7],
+                        (Integer) args[8], (Integer) args[9]));
+    }
+
+    private static PipelineFunctions createReflection() throws ReflectiveOperationException {
+        final Method getName = Person.class.getMethod("getName");
+        final Method isAdult = Person.class.getMethod("isAdult");
+        final Method checksum = Person.class.getMethod("checksum", String.class);
+        final Method twice = Person.class.getMethod("twice", Object.class);
+        final Class<?>[] sumParameters = new Class<?>[10];
+        Arrays.fill(sumParameters, int.class);
+        final Method sum = Person.class.getMethod("sum", sumParameters);
+        final Constructor<Person> newPerson = Person.class.getConstructor(String.class);
+
+        return new PipelineFunctions(
+                person -> (String) invoke(getName, person),
+                person -> (Boolean) invoke(isAdult, person),
+                value -> (Integer) invoke(checksum, null, value),
+                name -> {
+                    try {
+                        return newPerson.newInstance(name);
+                    } catch (InvocationTargetException ex) {
+                        throw Exceptions.propagate(ex.getCause());
+                    } catch (ReflectiveOperationException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                },
+                person -> {
+                    @SuppressWarnings("unchecked")
+                    final Observable<Person> ret = (Observable<Person>) invoke(twice, null, person);
+                    return ret;
+                },
+                args -> (Integer) invoke(sum, null, args));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw Exceptions.propagate(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Generates {@code PersonDispatch_}, the wrappers of {@link rx.codegen.benchmark.pipeline.Person}
+ * with {@link ImplementationStrategy#DISPATCH_TABLE}.
+ */
+@RxRefCodeGenerator(classes = @RefClass(name = "rx.codegen.benchmark.pipeline.Person", simpleName = "PersonDispatch_",
+        options = @Option(implementation = ImplementationStrategy.DISPATCH_TABLE)))
+package rx.codegen.benchmark.pipeline;
+
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.Option;
+import rx.codegen.RefClass;
+import rx.codegen.RxRefCodeGenerator;
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark.budget;
+
+import rx.codegen.AsyncType;
+import rx.codegen.RxMethod;
+
+/**
+ * Fixture of {@code AllocationBudget}, compiled at runtime with and without lambdas.
+ *
+ * @author Matthias
+ */
+public class Item {
+
+    private final String name;
+    private final int price;
+
+    public Item(String name, int price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int getPrice() {
+        return price;
+    }
+
+    public boolean isCheaperThan(int limit) {
+        return price < limit;
+    }
+
+    public static int checksum(String value) {
+        return value.hashCode();
+    }
+
+    public static int add(int a, int b) {
+        return a + b;
+    }
+
+    public static <T> T identity(T item) {
+        return item;
+    }
+
+    @RxMethod(memoize = true)
+    public static int parse(String value) {
+        return Integer.parseInt(value);
+    }
+
+    @RxMethod(memoize = true)
+    public static String repeat(String value, int count) {
+        final StringBuilder ret = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ret.append(value);
+        }
+        return ret.toString();
+    }
+
+    @RxMethod(async = AsyncType.OBSERVABLE)
+    public static String load(String id) {
+        return id;
+    }
+
+    public static int sum(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        return a0 + a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * {@code Item_} with the unboxed, operator and batch variants, and {@code ItemDispatch_}.
+ *
+ * @author Matthias
+ */
+@RxRefCodeGenerator(classes = {
+    @RefClass(name = "rx.codegen.benchmark.budget.Item",
+            options = @Option(unboxed = true, operators = true, batches = true)),
+    @RefClass(name = "rx.codegen.benchmark.budget.Item", simpleName = "ItemDispatch_",
+            options = @Option(implementation = ImplementationStrategy.DISPATCH_TABLE))})
+package rx.codegen.benchmark.budget;
+
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.Option;
+import rx.codegen.RefClass;
+import rx.codegen.RxRefCodeGenerator;
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.benchmark.budget.probes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscriber;
+import rx.codegen.benchmark.AllocationBudget.Probe;
+import rx.codegen.benchmark.budget.Item;
+import rx.codegen.benchmark.budget.ItemDispatch_;
+import rx.codegen.benchmark.budget.Item_;
+import rx.codegen.cache.MemoizedFunc1;
+import rx.codegen.cache.MemoizedFunc2;
+import rx.codegen.functions.IntIntToIntFunc2;
+import rx.codegen.functions.ToBooleanFunc1;
+import rx.codegen.functions.ToIntFunc1;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.functions.Func2;
+import rx.functions.FuncN;
+import rx.internal.operators.OperatorMap;
+import rx.observers.Subscribers;
+import rx.schedulers.Schedulers;
+
+/**
+ * The probes of {@code AllocationBudget}: each kind of generated factory and {@code call}
+ * method, and the hand-written code that allocates the objects the generated code is expected
+ * to allocate. The hand-written code is the budget on the running JVM.
+ *
+ * @author Matthias
+ */
+public class Probes {
+
+    private static final String NAME = "budget-item";
+    private static final String NUMBER = "42";
+    private static final int PRICE = 100000;
+    private static final Integer LIMIT = 10;
+    private static final Integer COUNT = 2;
+    private static final Integer A = 100000;
+    private static final Integer B = 200000;
+
+    final Integer price = PRICE;
+    final Item item = new Item(NAME, PRICE);
+    final List<Item> items = Arrays.asList(item, item, item, item);
+    final Scheduler scheduler = Schedulers.immediate();
+    final Subscriber<String> child = Subscribers.empty();
+    final Map<Object, Object> cache = new HashMap<Object, Object>();
+
+    final Func1<Item, String> getName = Item_.getName();
+    final Func1<String, Integer> checksum = Item_.checksum();
+    final ToIntFunc1<String> checksumUnboxed = Item_.checksum$Unboxed();
+    final Func2<Integer, Integer, Integer> add = Item_.add();
+    final IntIntToIntFunc2 addUnboxed = Item_.add$Unboxed();
+    final Func2<String, Integer, Item> newItem = Item_.newItem();
+    final Func1<Item, Boolean> isCheaperThan = Item_.isCheaperThan(LIMIT);
+    final ToBooleanFunc1<Item> isCheaperThanUnboxed = Item_.isCheaperThan$Unboxed(LIMIT);
+    final FuncN<Integer> sum = Item_.sum();
+    final Func1<Item, String> getNameDispatch = ItemDispatch_.getName();
+    final Func1<Item, Integer> getPriceHandle = ItemHandles_.getPrice();
+    final MemoizedFunc1<String, Integer> parse = Item_.parse();
+    final MemoizedFunc2<String, Integer, String> repeat = Item_.repeat();
+    final Func1<String, Observable<String>> loadAsync = Item_.load$Async(scheduler);
+    final Func1<List<Item>, List<String>> getNameBatch = Item_.getName$Batch();
+    final Observable.Operator<String, Item> getNameOperator = Item_.getName$Operator();
+    final Subscriber<? super Item> getNameSubscriber = getNameOperator.call(child);
+    final OperatorMap<Item, String> map = new OperatorMap<Item, String>(getName);
+    final Subscriber<? super Item> mapSubscriber = map.call(child);
+
+    int intSink;
+    boolean booleanSink;
+
+    public Probes() {
+        parse.call(NUMBER);
+        repeat.call(NAME, COUNT);
+        cache.put(NUMBER, Integer.parseInt(NUMBER));
+        cache.put(Arrays.asList(new Object[]{NAME, COUNT}), NAME + NAME);
+    }
+
+    public List<Probe> create() {
+        final List<Probe> ret = new ArrayList<Probe>();
+        addFactories(ret);
+        addCalls(ret);
+        return ret;
+    }
+
+    private void addFactories(List<Probe> probes) {
+        probes.add(new Probe("factory") {
+            @Override
+            public Object generated() {
+                return Item_.getName();
+            }
+
+            @Override
+            public Object handWritten() {
+                return getName;
+            }
+        });
+        probes.add(new Probe("factory_generic") {
+            @Override
+            public Object generated() {
+                return Item_.<Item>identity();
+            }
+
+            @Override
+            public Object handWritten() {
+                return getName;
+            }
+        });
+        probes.add(new Probe("factory_capturing") {
+            @Override
+            public Object generated() {
+                return Item_.isCheaperThan(LIMIT);
+            }
+
+            @Override
+            public Object handWritten() {
+                return new Capture(LIMIT);
+            }
+        });
+        probes.add(new Probe("factory_unboxed") {
+            @Override
+            public Object generated() {
+                return Item_.checksum$Unboxed();
+            }
+
+            @Override
+            public Object handWritten() {
+                return checksumUnboxed;
+            }
+        });
+        probes.add(new Probe("factory_unboxed_capturing") {
+            @Override
+            public Object generated() {
+                return Item_.isCheaperThan$Unboxed(LIMIT);
+            }
+
+            @Override
+            public Object handWritten() {
+                return new IntCapture(LIMIT);
+            }
+        });
+        probes.add(new Probe("factory_dispatch_table") {
+            @Override
+            public Object generated() {
+                return ItemDispatch_.getName();
+            }
+
+            @Override
+            public Object handWritten() {
+                return getNameDispatch;
+            }
+        });
+        probes.add(new Probe("factory_method_handle") {
+            @Override
+            public Object generated() {
+                return ItemHandles_.getPrice();
+            }
+
+            @Override
+            public Object handWritten() {
+                return getPriceHandle;
+            }
+        });
+        probes.add(new Probe("factory_memoized") {
+            @Override
+            public Object generated() {
+                return Item_.parse();
+            }
+
+            @Override
+            public Object handWritten() {
+                return parse;
+            }
+        });
+        probes.add(new Probe("factory_async") {
+            @Override
+            public Object generated() {
+                return Item_.load$Async(scheduler);
+            }
+
+            @Override
+            public Object handWritten() {
+                return new Capture(scheduler);
+            }
+        });
+        probes.add(new Probe("factory_batch") {
+            @Override
+            public Object generated() {
+                return Item_.getName$Batch();
+            }
+
+            @Override
+            public Object handWritten() {
+                return new Stateless();
+            }
+        });
+        probes.add(new Probe("factory_operator") {
+            @Override
+            public Object generated() {
+                return Item_.getName$Operator();
+            }
+
+            @Override
+            public Object handWritten() {
+                return new Stateless();
+            }
+        });
+    }
+
+    private void addCalls(List<Probe> probes) {
+        probes.add(new Probe("call_getter") {
+            @Override
+            public Object generated() {
+                return getName.call(item);
+            }
+
+            @Override
+            public Object handWritten() {
+                return item.getName();
+            }
+        });
+        probes.add(new Probe("call_boxed_result") {
+            @Override
+            public Object generated() {
+                return checksum.call(NAME);
+            }
+
+            @Override
+            public Object handWritten() {
+                return Integer.valueOf(Item.checksum(NAME));
+            }
+        });
+        probes.add(new Probe("call_unboxed_result") {
+            @Override
+            public Object generated() {
+                intSink = checksumUnboxed.call(NAME);
+                return null;
+            }
+
+            @Override
+            public Object handWritten() {
+                intSink = Item.checksum(NAME);
+                return null;
+            }
+        });
+        probes.add(new Probe("call_boxed_arguments") {
+            @Override
+            public Object generated() {
+                return add.call(A, B);
+            }
+
+            @Override
+            public Object handWritten() {
+                return Integer.valueOf(Item.add(A, B));
+            }
+        });
+        probes.add(new Probe("call_unboxed_arguments") {
+            @Override
+            public Object generated() {
+                intSink = addUnboxed.call(A, B);
+                return null;
+            }
+
+            @Override
+            public Object handWritten() {
+                intSink = Item.add(A, B);
+                return null;
+            }
+        });
+        probes.add(new Probe("call_constructor") {
+            @Override
+            public Object generated() {
+                return newItem.call(NAME, price);
+            }
+
+            @Override
+            public Object handWritten() {
+                return new Item(NAME, price);
+            }
+        });
+        probes.add(new Probe("call_capturing") {
+            @Override
+            public Object generated() {
+                return isCheaperThan.call(item);
+            }
+
+            @Override
+            public Object handWritten() {
+                return Boolean.valueOf(item.isCheaperThan(LIMIT));
+            }
+        });
+        probes.add(new Probe("call_unboxed_capturing") {
+            @Override
+            public Object generated() {
+                booleanSink = isCheaperThanUnboxed.call(item);
+                return null;
+            }
+
+            @Override
+            public Object handWritten() {
+                booleanSink = item.isCheaperThan(LIMIT);
+                return null;
+            }
+        });
+        //the caller allocates the argument array
+        probes.add(new Probe("call_funcn") {
+            @Override
+            public Object generated() {
+                return sum.call(new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+            }
+
+            @Override
+            public Object handWritten() {
+                final Object[] args = new Object[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+                return Item.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3], (Integer) args[4],
+                        (Integer) args[5], (Integer) args[6], (Integer) args[7], (Integer) args[8], (Integer) args[9]);
+            }
+        });
+        probes.add(new Probe("call_dispatch_table") {
+            @Override
+            public Object generated() {
+                return getNameDispatch.call(item);
+            }
+
+            @Override
+            public Object handWritten() {
+                return item.getName();
+            }
+        });
+        probes.add(new Probe("call_method_handle") {
+            @Override
+            public Object generated() {
+                return getPriceHandle.call(item);
+            }
+
+            @Override
+            public Object handWritten() {
+                return Integer.valueOf(PRICE);
+            }
+        });
+        probes.add(new Probe("call_memoized_hit") {
+            @Override
+            public Object generated() {
+                return parse.call(NUMBER);
+            }
+
+            @Override
+            public Object handWritten() {
+                intSink = NUMBER.hashCode(); //selects the segment
+                synchronized (cache) {
+                    return cache.get(NUMBER);
+                }
+            }
+        });
+        //the key of more than one argument is a list
+        probes.add(new Probe("call_memoized2_hit") {
+            @Override
+            public Object generated() {
+                return repeat.call(NAME, COUNT);
+            }
+
+            @Override
+            public Object handWritten() {
+                final List<Object> key = Arrays.asList(new Object[]{NAME, COUNT});
+                intSink = key.hashCode(); //selects the segment
+                synchronized (cache) {
+                    return cache.get(key);
+                }
+            }
+        });
+        probes.add(new Probe("call_async") {
+            @Override
+            public Object generated() {
+                return loadAsync.call(item.getName());
+            }
+
+            @Override
+            public Object handWritten() {
+                final String id = item.getName();
+                return Observable.defer(new Func0<Observable<String>>() {
+
+                    @Override
+                    public Observable<String> call() {
+                        return Observable.just(Item.load(id));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        });
+        probes.add(new Probe("call_batch") {
+            @Override
+            public Object generated() {
+                return getNameBatch.call(items);
+            }
+
+            @Override
+            public Object handWritten() {
+                final List<String> ret = new ArrayList<String>(items.size());
+                for (Item each : items) {
+                    ret.add(each.getName());
+                }
+                return ret;
+            }
+        });
+        probes.add(new Probe("call_operator") {
+            @Override
+            public Object generated() {
+                return getNameOperator.call(child);
+            }
+
+            @Override
+            public Object handWritten() {
+                return map.call(child);
+            }
+        });
+        probes.add(new Probe("call_operator_on_next") {
+            @Override
+            public Object generated() {
+                getNameSubscriber.onNext(item);
+                return null;
+            }
+
+            @Override
+            public Object handWritten() {
+                mapSubscriber.onNext(item);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * A function without state.
+     */
+    static final class Stateless {
+    }
+
+    /**
+     * A function capturing one reference.
+     */
+    static final class Capture {
+
+        final Object value;
+
+        Capture(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * A function capturing one {@code int}.
+     */
+    static final class IntCapture {
+
+        final int value;
+
+        IntCapture(int value) {
+            this.value = value;
+        }
+    }
+}
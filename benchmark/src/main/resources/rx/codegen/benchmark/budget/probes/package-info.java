@@ -0,0 +1,27 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * {@code ItemHandles_} calls the package-private methods of {@code Item} through method handles.
+ *
+ * @author Matthias
+ */
+@RxRefCodeGenerator(classes = @RefClass(name = "rx.codegen.benchmark.budget.Item", simpleName = "ItemHandles_",
+        options = @Option(includeNonPublic = true)))
+package rx.codegen.benchmark.budget.probes;
+
+import rx.codegen.Option;
+import rx.codegen.RefClass;
+import rx.codegen.RxRefCodeGenerator;
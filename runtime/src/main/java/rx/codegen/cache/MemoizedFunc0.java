@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.cache;
+
+import rx.functions.Func0;
+
+/**
+ * A {@link Func0} computing its result once, on the first call. If the computation throws,
+ * the next call tries again.
+ *
+ * @param <R> the result
+ * @author Matthias
+ */
+public abstract class MemoizedFunc0<R> implements Func0<R> {
+
+    private static final Object NONE = new Object();
+
+    private volatile Object value = NONE;
+
+    @Override
+    public final R call() {
+        Object ret = value;
+        if (ret == NONE) {
+            synchronized (this) {
+                ret = value;
+                if (ret == NONE) {
+                    ret = compute();
+                    value = ret;
+                }
+            }
+        }
+        return unmask(ret);
+    }
+
+    /**
+     * @return {@code true} if the result was computed
+     */
+    public boolean isComputed() {
+        return value != NONE;
+    }
+
+    protected abstract R compute();
+
+    @SuppressWarnings("unchecked")
+    private static <R> R unmask(Object value) {
+        return (R) value;
+    }
+}
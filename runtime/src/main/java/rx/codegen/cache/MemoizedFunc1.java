@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.cache;
+
+import rx.functions.Func1;
+
+/**
+ * A {@link Func1} caching its results by argument, see {@link MemoizedFunction}.
+ *
+ * @author Matthias
+ */
+public abstract class MemoizedFunc1<T1, R> extends MemoizedFunction<T1, R> implements Func1<T1, R> {
+
+    protected MemoizedFunc1(int maximumSize) {
+        super(maximumSize);
+    }
+
+    @Override
+    public final R call(T1 t1) {
+        return lookup(t1);
+    }
+
+    protected abstract R compute(T1 t1);
+
+    @Override
+    final R load(T1 key) {
+        return compute(key);
+    }
+}
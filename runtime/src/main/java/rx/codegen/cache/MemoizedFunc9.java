@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.cache;
+
+import rx.functions.Func9;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Func9} caching its results by the list of its arguments, see {@link MemoizedFunction}.
+ *
+ * @author Matthias
+ */
+public abstract class MemoizedFunc9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> extends MemoizedFunction<List<Object>, R> implements Func9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> {
+
+    protected MemoizedFunc9(int maximumSize) {
+        super(maximumSize);
+    }
+
+    @Override
+    public final R call(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9) {
+        return lookup(Arrays.asList(new Object[] {t1, t2, t3, t4, t5, t6, t7, t8, t9}));
+    }
+
+    protected abstract R compute(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8, T9 t9);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    final R load(List<Object> key) {
+        return compute((T1) key.get(0), (T2) key.get(1), (T3) key.get(2), (T4) key.get(3), (T5) key.get(4), (T6) key.get(5), (T7) key.get(6), (T8) key.get(7), (T9) key.get(8));
+    }
+}
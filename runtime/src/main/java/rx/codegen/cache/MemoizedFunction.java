@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.cache;
+
+import rx.functions.Function;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A function caching its results in a bounded map. The map is split into segments with a
+ * lock each, every segment evicts its least recently used entry when it is full.
+ *
+ * <p>A result is computed outside of the lock. Concurrent calls with the same missing key may
+ * compute it more than once, which is harmless for the pure methods this is meant for.
+ * Exceptions are not cached, {@code null} results are. Arrays as arguments are compared by
+ * identity.
+ *
+ * @param <K> the key, the argument or a list of the arguments
+ * @param <R> the result
+ * @author Matthias
+ */
+public abstract class MemoizedFunction<K, R> implements Function {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final Object NULL = new Object();
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    MemoizedFunction(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize <= 0: " + maximumSize);
+        }
+
+        // small caches keep a single segment to stay close to a global LRU order
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_SEGMENT_SIZE <= maximumSize) {
+            segmentCount *= 2;
+        }
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        final int segmentSize = maximumSize / segmentCount;
+        final int remainder = maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(i < remainder ? segmentSize + 1 : segmentSize);
+        }
+    }
+
+    final R lookup(K key) {
+        final Segment segment = segmentFor(key);
+        Object value;
+        synchronized (segment) {
+            value = segment.get(key);
+            if (value != null) {
+                segment.hitCount++;
+            } else {
+                segment.missCount++;
+            }
+        }
+        if (value != null) {
+            return unmask(value);
+        }
+
+        final R ret = load(key);
+        synchronized (segment) {
+            segment.put(key, ret == null ? NULL : ret);
+        }
+        return ret;
+    }
+
+    abstract R load(K key);
+
+    /**
+     * @return the number of cached results
+     */
+    public int size() {
+        int ret = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                ret += segment.size();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Removes all cached results, the statistics are kept.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public CacheStats getStats() {
+        long hitCount = 0;
+        long missCount = 0;
+        long evictionCount = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                hitCount += segment.hitCount;
+                missCount += segment.missCount;
+                evictionCount += segment.evictionCount;
+            }
+        }
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    private Segment segmentFor(Object key) {
+        if (segmentMask == 0) {
+            return segments[0];
+        }
+
+        // spread the bits like HashMap, the low bits select the segment
+        int h = key == null ? 0 : key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return segments[h & segmentMask];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R unmask(Object value) {
+        return value == NULL ? null : (R) value;
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maximumSize;
+        long hitCount;
+        long missCount;
+        long evictionCount;
+
+        Segment(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            if (size() > maximumSize) {
+                evictionCount++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
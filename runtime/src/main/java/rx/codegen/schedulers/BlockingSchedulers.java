@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.schedulers;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Schedulers for the async variants of blocking calls, see {@code rx.codegen.AsyncType}.
+ * The runtime is compiled for Java 6, therefore virtual threads are created through reflection.
+ *
+ * @author Matthias
+ */
+public abstract class BlockingSchedulers {
+
+    /**
+     * @return {@code true} if the JVM supports virtual threads (Java 21 and later)
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreads.SCHEDULER != null;
+    }
+
+    /**
+     * A scheduler starting a virtual thread per task. A blocking call parks the virtual thread
+     * instead of occupying a thread of a pool.
+     *
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static Scheduler virtualThreads() {
+        if (VirtualThreads.SCHEDULER == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        return VirtualThreads.SCHEDULER;
+    }
+
+    /**
+     * @return {@link #virtualThreads()} if supported, otherwise {@link Schedulers#io()}
+     */
+    public static Scheduler blocking() {
+        return isVirtualThreadsSupported() ? VirtualThreads.SCHEDULER : Schedulers.io();
+    }
+
+    private static class VirtualThreads {
+
+        static final Scheduler SCHEDULER = create();
+
+        private static Scheduler create() {
+            try {
+                final Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return Schedulers.from((Executor) newVirtualThreadPerTaskExecutor.invoke(null));
+            } catch (NoSuchMethodException ex) {
+                return null; //Java 18 or older
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            } catch (InvocationTargetException ex) {
+                if (ex.getCause() instanceof UnsupportedOperationException) {
+                    return null; //preview feature of Java 19 and 20
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen;
+
+/**
+ * The async variant {@code <name>$Async} of a generated method. It takes a {@code Scheduler}
+ * and returns a Func, whose result makes the call on that scheduler when subscribed. Blocking
+ * calls thereby leave the emitting thread alone.
+ *
+ * @author Matthias
+ */
+public enum AsyncType {
+
+    /**
+     * No async variant.
+     */
+    NONE,
+    /**
+     * The Func returns an {@code Observable}, which emits the result of the call and completes.
+     * Void methods emit {@code null}.
+     */
+    OBSERVABLE,
+    /**
+     * The Func returns a {@code Single} (RxJava 1.0.13 and later) with the result of the call.
+     * Void methods succeed with {@code null}.
+     */
+    SINGLE;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen;
+
+/**
+ * How the generated methods implement the returned Actions and Funcs.
+ *
+ * @author Matthias
+ */
+public enum ImplementationStrategy {
+
+    /**
+     * An anonymous class per generated method. Every call is a direct call, but every
+     * generated method adds a class.
+     */
+    ANONYMOUS_CLASSES,
+    /**
+     * At most two shared classes per generated type, one for the Funcs and one for the
+     * Actions. They implement all needed {@code FuncN}/{@code ActionN} interfaces and
+     * dispatch on a method id. Saves class loading time, metaspace and jar size of large
+     * generated types.
+     */
+    DISPATCH_TABLE;
+}
@@ -25,10 +25,61 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target(ElementType.ANNOTATION_TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Option {
 
     NamingStrategy strategy() default NamingStrategy.RENAME;
 
     boolean includeDeprecated() default false;
+
+    /**
+     * If {@code true}, the public instance methods inherited from supertypes are processed, too.
+     * Methods of {@code java.lang.Object} are never included. With {@code @RxRefCodeGenerator}
+     * they delegate to the generated class of their declaring type, if it is generated in the
+     * same round.
+     */
+    boolean includeInherited() default false;
+
+    /**
+     * If {@code true}, the package-private and protected methods and constructors declared by the
+     * type are processed, too. The generated method keeps their modifier. In the package of the
+     * type they are called directly, otherwise through a {@code java.lang.invoke.MethodHandle},
+     * which is looked up once into a {@code static final} field. Access through handles requires
+     * Java 7 or later and at most 9 parameters.
+     */
+    boolean includeNonPublic() default false;
+
+    /**
+     * How the returned Actions and Funcs are implemented.
+     */
+    ImplementationStrategy implementation() default ImplementationStrategy.ANONYMOUS_CLASSES;
+
+    /**
+     * If {@code true}, a method with primitive parameter or return types gets a second method
+     * {@code <name>$Unboxed}, which returns a primitive-specialized function of the
+     * {@code rx.codegen.functions} package (rxjava-codegen-runtime) instead of a boxing Func or
+     * Action. Methods without a matching interface on the classpath get no such method.
+     */
+    boolean unboxed() default false;
+
+    /**
+     * If {@code true}, an instance method gets a second method {@code <name>$Operator}, which
+     * returns an {@code Observable.Operator} for {@code lift}. The operator calls the method of
+     * every item and emits the results, void methods emit the items themselves.
+     */
+    boolean operators() default false;
+
+    /**
+     * The async variant of every method, see {@link RxMethod#async()} for single methods.
+     */
+    AsyncType async() default AsyncType.NONE;
+
+    /**
+     * If {@code true}, static methods and constructors with one parameter and instance methods
+     * get a second method {@code <name>$Batch}. It returns a Func or Action for a whole
+     * {@code java.util.List} of items, e.g. after {@code buffer(n)}. A public static bulk overload
+     * named like the method or with an {@code All} suffix, e.g. {@code encodeAll(Collection)},
+     * is called instead of the loop.
+     */
+    boolean batches() default false;
 }
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target(ElementType.ANNOTATION_TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RefClass {
 
     String name();
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * References all exported packages of a module, e.g. {@code java.base}. The generated
+ * classes are placed in sub-packages named like the referenced packages. Requires Java 9
+ * or later at compile time.
+ *
+ * @author Matthias
+ */
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface RefModule {
+
+    String name();
+
+    /**
+     * Only matching classes are processed, see {@link RefPackage#includes()}. All classes if empty.
+     */
+    String[] includes() default {};
+
+    /**
+     * Matching classes are not processed, see {@link RefPackage#excludes()}.
+     */
+    String[] excludes() default {};
+
+    Option options() default @Option();
+}
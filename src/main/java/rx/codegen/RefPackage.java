@@ -21,14 +21,36 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
+ * References the public types of a package.
+ *
+ * <p>{@link #includes()} and {@link #excludes()} are patterns of qualified class names:
+ * {@code *} matches any characters except {@code .}, {@code **} matches any characters
+ * and {@code ?} matches a single character except {@code .}. Example:
+ * {@code includes = "java.util.concurrent.**", excludes = "**.*Impl"}.
  *
  * @author Matthias
  */
 @Target(ElementType.ANNOTATION_TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RefPackage {
 
     String name();
 
+    /**
+     * If {@code true}, the sub-packages are processed, too. Packages of named modules only
+     * contribute their exported sub-packages.
+     */
+    boolean recursive() default false;
+
+    /**
+     * Only matching classes are processed. All classes if empty.
+     */
+    String[] includes() default {};
+
+    /**
+     * Matching classes are not processed.
+     */
+    String[] excludes() default {};
+
     Option options() default @Option();
 }
@@ -25,7 +25,7 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RxCodeGenerator {
 
     String name() default "";
@@ -25,6 +25,6 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RxExclude {
 }
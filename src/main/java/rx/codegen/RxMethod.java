@@ -25,8 +25,30 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target({ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RxMethod {
 
-    String name();
+    /**
+     * The name of the generated method, by default the name of the method.
+     */
+    String name() default "";
+
+    /**
+     * The async variant of this method, {@link AsyncType#NONE} uses the {@code @Option} of the type.
+     */
+    AsyncType async() default AsyncType.NONE;
+
+    /**
+     * Caches the results of a pure static method. The generated method returns a
+     * {@code rx.codegen.cache.MemoizedFuncN} of rxjava-codegen-runtime, without parameters a
+     * {@code MemoizedFunc0} computing the result once. Ignored for void and generic methods, for
+     * more than 9 parameters and without the runtime on the classpath.
+     */
+    boolean memoize() default false;
+
+    /**
+     * The maximum number of results cached by a {@link #memoize() memoized} method, the least
+     * recently used results are evicted.
+     */
+    int cacheSize() default 1024;
 }
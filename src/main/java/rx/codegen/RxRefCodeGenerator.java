@@ -25,10 +25,12 @@ import java.lang.annotation.Target;
  * @author Matthias
  */
 @Target(ElementType.PACKAGE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface RxRefCodeGenerator {
     
     RefClass[] classes() default {};
     
     RefPackage[] packages() default {};
+
+    RefModule[] modules() default {};
 }
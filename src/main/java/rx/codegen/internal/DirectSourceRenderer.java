@@ -0,0 +1,1068 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import rx.codegen.internal.model.DispatchCallModel;
+import rx.codegen.internal.model.DispatcherModel;
+import rx.codegen.internal.model.MethodModel;
+import rx.codegen.internal.model.TypeModel;
+import rx.codegen.internal.model.VariableModel;
+import rx.codegen.internal.spec.method.CalledType;
+
+/**
+ * Writes generated classes directly to the target writer. The output is
+ * byte-identical to the output of {@link FreemarkerSourceRenderer}, so every
+ * change of {@code classtemplate.ftl} has to be mirrored here.
+ *
+ * <p>Instances are stateless and can be shared between threads.
+ *
+ * @author Matthias
+ */
+class DirectSourceRenderer implements SourceRenderer {
+
+    private static final String LICENSE_RESOURCE = "/rx/codegen/internal/license.txt";
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final String licenseText;
+
+    public DirectSourceRenderer() throws IOException {
+        this.licenseText = Resources.toString(DirectSourceRenderer.class.getResource(LICENSE_RESOURCE), Charsets.UTF_8);
+    }
+
+    @Override
+    public void render(TypeModel typeModel, Writer target) throws IOException {
+        final Writer writer = new BufferedWriter(target, BUFFER_SIZE);
+        final StringBuilder returnVal = new StringBuilder(); //reused for every method
+        final StringBuilder instanceType = new StringBuilder(); //reused for every singleton
+
+        writer.write(licenseText);
+        writer.write("package ");
+        writer.write(typeModel.getPackagename());
+        writer.write(";\n\nimport javax.annotation.Generated;\nimport rx.functions.*;\n\n"
+                + "/**\n * Do NOT modify this code. The content of this class is always regenerated.\n */\n"
+                + "@Generated(value = \"");
+        writer.write(typeModel.getOriginatingAnnotationName());
+        writer.write("\", comments = \"");
+        writer.write(typeModel.getOriginatingAnnotationComment());
+        writer.write("\")\npublic abstract class ");
+        writer.write(typeModel.getSimpleClassname());
+        writer.write(" {\n\n");
+
+        for (MethodModel mspec : typeModel.getMethods()) {
+            returnVal.setLength(0);
+            generateReturn(returnVal, typeModel, mspec, false);
+            if (mspec.isOperator()) {
+                writeOperatorMethod(writer, typeModel, mspec);
+            } else if (mspec.isAsync()) {
+                writeAsyncMethod(writer, typeModel, mspec);
+            } else if (mspec.isBatch()) {
+                writeBatchMethod(writer, typeModel, mspec);
+            } else if (mspec.isMethodHandle()) {
+                writeMethodHandleMethod(writer, typeModel, mspec);
+            } else if (mspec.isMemoized()) {
+                writeMemoizedMethod(writer, typeModel, mspec);
+            } else if (mspec.isDelegated()) {
+                writeDelegatedMethod(writer, mspec, returnVal);
+            } else if (mspec.isDispatched()) {
+                writeDispatchedMethod(writer, mspec, returnVal);
+            } else if (typeModel.isLambdas()) {
+                writeLambdaMethod(writer, typeModel, mspec, returnVal);
+            } else if (mspec.isSingleton()) {
+                instanceType.setLength(0);
+                if (mspec.isErasedSingleton()) {
+                    generateReturn(instanceType, typeModel, mspec, true);
+                } else {
+                    instanceType.append(returnVal);
+                }
+                writeSingletonMethod(writer, typeModel, mspec, returnVal, instanceType);
+            } else {
+                writeMethod(writer, typeModel, mspec, returnVal);
+            }
+        }
+
+        for (DispatcherModel dispatcher : typeModel.getDispatchers()) {
+            writeDispatcher(writer, typeModel, dispatcher);
+        }
+
+        writer.write("}\n\n");
+        writer.flush();
+    }
+
+    private void writeMethod(Writer writer, TypeModel typeModel, MethodModel mspec, CharSequence returnVal) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        writer.write(mspec.getJavadoc());
+
+        // method declaration
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        if (callType.isObjectMethodCall()) {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n        return new ");
+        writer.append(returnVal);
+        writer.write("() {\n\n            @Override\n            public ");
+        writer.write(mspec.getReturnTypeOfCallMethod());
+        writer.write(" call(");
+
+        // call method
+        if (callType.isObjectMethodCall()) {
+            writer.write("final ");
+            writer.write(typeModel.getOriginatingClassnameWithGenerics());
+            writer.write(" obj");
+        } else {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n                ");
+        fillReturn(writer, mspec);
+        writer.write(' ');
+
+        if (callType.isConstructorCall()) {
+            writer.write("new ");
+            writer.write(typeModel.getOriginatingClassnameWithGenerics());
+        } else {
+            writer.write(callType.isObjectMethodCall() ? "obj" : typeModel.getOriginatingClassname());
+            writer.write('.');
+            writer.write(mspec.getCalledMethodname());
+        }
+        writer.write('(');
+        generateVariables(writer, varlist, false);
+        writer.write(");\n            }\n        };\n    }\n");
+    }
+
+    private void writeSingletonMethod(Writer writer, TypeModel typeModel, MethodModel mspec,
+            CharSequence returnVal, CharSequence instanceType) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+        final boolean erased = mspec.isErasedSingleton();
+        final String instanceClassname = erased
+                ? typeModel.getOriginatingClassname()
+                : typeModel.getOriginatingClassnameWithGenerics();
+
+        writer.write(mspec.getJavadoc());
+
+        // method declaration
+        if (erased) {
+            writer.write("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" () {\n        return ");
+        if (erased) {
+            writer.write('(');
+            writeRawType(writer, instanceType);
+            writer.write(") ");
+        }
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write("$Instance.INSTANCE;\n    }\n");
+
+        // lazily initialized instance
+        if (erased) {
+            writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        }
+        writer.write("    private static final class ");
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write("$Instance {\n\n        static final ");
+        writer.append(instanceType);
+        writer.write(" INSTANCE = new ");
+        writer.append(instanceType);
+        writer.write("() {\n\n            @Override\n            public ");
+        writer.write(erased ? mspec.getErasedReturnTypeOfCallMethod() : mspec.getReturnTypeOfCallMethod());
+        writer.write(" call(");
+
+        // call method
+        if (callType.isObjectMethodCall()) {
+            writer.write("final ");
+            writer.write(instanceClassname);
+            writer.write(" obj");
+        } else {
+            generateVariableDecls(writer, varlist, erased);
+        }
+        writer.write(") {\n                ");
+        fillReturn(writer, mspec);
+        writer.write(' ');
+
+        if (callType.isConstructorCall()) {
+            writer.write("new ");
+            writer.write(instanceClassname);
+        } else {
+            writer.write(callType.isObjectMethodCall() ? "obj" : typeModel.getOriginatingClassname());
+            writer.write('.');
+            writer.write(mspec.getCalledMethodname());
+        }
+        writer.write('(');
+        generateVariables(writer, varlist, erased);
+        writer.write(");\n            }\n        };\n    }\n");
+    }
+
+    private void writeRawType(Writer writer, CharSequence type) throws IOException {
+        for (int i = 0; i < type.length() && type.charAt(i) != '<'; i++) {
+            writer.write(type.charAt(i));
+        }
+    }
+
+    private void writeDelegatedMethod(Writer writer, MethodModel mspec, CharSequence returnVal) throws IOException {
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        generateVariableDecls(writer, varlist, false);
+        writer.write(") {\n        return (");
+        writer.write(mspec.isAction() ? "Action1" : "Func1");
+        writer.write(") ");
+        writer.write(mspec.getDelegateClassname());
+        writer.write('.');
+        writer.write(mspec.getDelegateMethodname());
+        writer.write('(');
+        generateVariableNames(writer, varlist);
+        writer.write(");\n    }\n");
+    }
+
+    private void writeDispatchedMethod(Writer writer, MethodModel mspec, CharSequence returnVal) throws IOException {
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    @SuppressWarnings(\"unchecked\")\n    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        if (mspec.getCalledType().isObjectMethodCall()) {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n        return ");
+        if (mspec.isSingleton()) {
+            writer.write(mspec.getDispatcherClassname());
+            writer.write(".instance(");
+            writer.write(String.valueOf(mspec.getDispatchId()));
+            writer.write(')');
+        } else {
+            writer.write("new ");
+            writer.write(mspec.getDispatcherClassname());
+            writer.write('(');
+            writer.write(String.valueOf(mspec.getDispatchId()));
+            if (varlist.size() > 9) {
+                writer.write(", args)");
+            } else {
+                writer.write(", new Object[] {");
+                generateVariableNames(writer, varlist);
+                writer.write("})");
+            }
+        }
+        writer.write(";\n    }\n");
+    }
+
+    private void writeLambdaMethod(Writer writer, TypeModel typeModel, MethodModel mspec, CharSequence returnVal) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        if (callType.isObjectMethodCall()) {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n        return ");
+
+        if (mspec.isMethodReference()) {
+            writer.write(typeModel.getOriginatingClassname());
+            writer.write("::");
+            writer.write(callType.isConstructorCall() ? "new" : mspec.getCalledMethodname());
+        } else {
+            if (callType.isObjectMethodCall()) {
+                writer.write(mspec.getReceiverName());
+                writer.write(" -> ");
+                writer.write(mspec.getReceiverName());
+                writer.write('.');
+                writer.write(mspec.getCalledMethodname());
+            } else {
+                writer.write('(');
+                generateVariableNames(writer, varlist);
+                writer.write(") -> ");
+                if (callType.isConstructorCall()) {
+                    writer.write("new ");
+                    writer.write(typeModel.getOriginatingClassnameWithGenerics());
+                } else {
+                    writer.write(typeModel.getOriginatingClassname());
+                    writer.write('.');
+                    writer.write(mspec.getCalledMethodname());
+                }
+            }
+            writer.write('(');
+            generateVariables(writer, varlist, false);
+            writer.write(')');
+        }
+        writer.write(";\n    }\n");
+    }
+
+    private void writeOperatorMethod(Writer writer, TypeModel typeModel, MethodModel mspec) throws IOException {
+        final String classname = typeModel.getOriginatingClassnameWithGenerics();
+        final String result = mspec.isAction() ? classname : mspec.getReturnTypeOfCallMethod();
+        final String obj = mspec.getReceiverName();
+        final String child = mspec.getUnusedName("child");
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(" rx.Observable.Operator<");
+        writer.write(result);
+        writer.write(", ");
+        writer.write(classname);
+        writer.write("> ");
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        generateVariableDecls(writer, mspec.getParameters(), false);
+        writer.write(") {\n        return new rx.Observable.Operator<");
+        writer.write(result);
+        writer.write(", ");
+        writer.write(classname);
+        writer.write(">() {\n\n            @Override\n            public rx.Subscriber<? super ");
+        writer.write(classname);
+        writer.write("> call(final rx.Subscriber<? super ");
+        writer.write(result);
+        writer.write("> ");
+        writer.write(child);
+        writer.write(") {\n                return new rx.Subscriber<");
+        writer.write(classname);
+        writer.write(">(");
+        writer.write(child);
+        writer.write(") {\n\n                    @Override\n                    public void onNext(final ");
+        writer.write(classname);
+        writer.write(' ');
+        writer.write(obj);
+        writer.write(") {\n                        try {\n                            ");
+        if (!mspec.isAction()) {
+            writer.write(child);
+            writer.write(".onNext(");
+        }
+        writer.write(obj);
+        writer.write('.');
+        writer.write(mspec.getCalledMethodname());
+        writer.write('(');
+        generateVariables(writer, mspec.getParameters(), false);
+        writer.write(mspec.isAction() ? ");\n" : "));\n");
+        writer.write("                        } catch (Throwable ex) {\n"
+                + "                            rx.exceptions.Exceptions.throwIfFatal(ex);\n"
+                + "                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, ");
+        writer.write(obj);
+        writer.write("));\n");
+        if (mspec.isAction()) {
+            writer.write("                            return;\n                        }\n                        ");
+            writer.write(child);
+            writer.write(".onNext(");
+            writer.write(obj);
+            writer.write(");\n");
+        } else {
+            writer.write("                        }\n");
+        }
+        writer.write("                    }\n\n                    @Override\n                    public void onError(Throwable e) {\n                        ");
+        writer.write(child);
+        writer.write(".onError(e);\n                    }\n\n                    @Override\n                    public void onCompleted() {\n                        ");
+        writer.write(child);
+        writer.write(".onCompleted();\n                    }\n                };\n            }\n        };\n    }\n");
+    }
+
+    private void writeAsyncMethod(Writer writer, TypeModel typeModel, MethodModel mspec) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+        final String obj = mspec.getReceiverName();
+        final String scheduler = mspec.getUnusedName("scheduler");
+        final String asyncReturnType = mspec.getAsyncReturnType();
+        final String resultType = mspec.isAction() ? "Void" : mspec.getReturnTypeOfCallMethod();
+        final StringBuilder asyncReturnVal = new StringBuilder();
+        if (callType.isObjectMethodCall()) {
+            generateObjMethodReturn(asyncReturnVal, typeModel.getOriginatingClassnameWithGenerics(), false, asyncReturnType);
+        } else {
+            generateStaticMethodReturn(asyncReturnVal, false, varlist, asyncReturnType, false);
+        }
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(asyncReturnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (final rx.Scheduler ");
+        writer.write(scheduler);
+        if (callType.isObjectMethodCall() && !varlist.isEmpty()) {
+            writer.write(", ");
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n        return new ");
+        writer.append(asyncReturnVal);
+        writer.write("() {\n\n            @Override\n            public ");
+        writer.write(asyncReturnType);
+        writer.write(" call(");
+        if (callType.isObjectMethodCall()) {
+            writer.write("final ");
+            writer.write(typeModel.getOriginatingClassnameWithGenerics());
+            writer.write(' ');
+            writer.write(obj);
+        } else {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n");
+
+        if (mspec.getAsyncClassname().equals("rx.Single")) {
+            final String subscriber = mspec.getUnusedName("subscriber");
+            writer.write("                return rx.Single.create(new rx.Single.OnSubscribe<");
+            writer.write(resultType);
+            writer.write(">() {\n\n                    @Override\n                    public void call(final rx.SingleSubscriber<? super ");
+            writer.write(resultType);
+            writer.write("> ");
+            writer.write(subscriber);
+            writer.write(") {\n                        try {\n                            ");
+            if (mspec.isAction()) {
+                generateCall(writer, typeModel, mspec, obj);
+                writer.write(";\n                            ");
+                writer.write(subscriber);
+                writer.write(".onSuccess(null);\n");
+            } else {
+                writer.write(subscriber);
+                writer.write(".onSuccess(");
+                generateCall(writer, typeModel, mspec, obj);
+                writer.write(");\n");
+            }
+            writer.write("                        } catch (Throwable ex) {\n"
+                    + "                            rx.exceptions.Exceptions.throwIfFatal(ex);\n                            ");
+            writer.write(subscriber);
+            writer.write(".onError(ex);\n                        }\n                    }\n                }).subscribeOn(");
+        } else {
+            writer.write("                return rx.Observable.defer(new Func0<");
+            writer.write(asyncReturnType);
+            writer.write(">() {\n\n                    @Override\n                    public ");
+            writer.write(asyncReturnType);
+            writer.write(" call() {\n                        ");
+            if (mspec.isAction()) {
+                generateCall(writer, typeModel, mspec, obj);
+                writer.write(";\n                        return rx.Observable.<Void>just(null);\n");
+            } else {
+                writer.write("return rx.Observable.<");
+                writer.write(resultType);
+                writer.write(">just(");
+                generateCall(writer, typeModel, mspec, obj);
+                writer.write(");\n");
+            }
+            writer.write("                    }\n                }).subscribeOn(");
+        }
+        writer.write(scheduler);
+        writer.write(");\n            }\n        };\n    }\n");
+    }
+
+    private void writeBatchMethod(Writer writer, TypeModel typeModel, MethodModel mspec) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+        final String list = mspec.getUnusedName("list");
+        final String item = mspec.getUnusedName("item");
+        final String ret = mspec.getUnusedName("ret");
+        final String returnType = mspec.getReturnTypeOfCallMethod();
+        final String elementType = callType.isObjectMethodCall()
+                ? typeModel.getOriginatingClassnameWithGenerics()
+                : varlist.get(0).getType();
+        final String batchReturnVal = mspec.isAction()
+                ? "Action1<java.util.List<" + elementType + ">>"
+                : "Func1<java.util.List<" + elementType + ">, java.util.List<" + returnType + ">>";
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.write(batchReturnVal);
+        writer.write(' ');
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write(" (");
+        if (callType.isObjectMethodCall()) {
+            generateVariableDecls(writer, varlist, false);
+        }
+        writer.write(") {\n        return new ");
+        writer.write(batchReturnVal);
+        writer.write("() {\n\n            @Override\n            public ");
+        writer.write(mspec.isAction() ? "void" : "java.util.List<" + returnType + ">");
+        writer.write(" call(final java.util.List<");
+        writer.write(elementType);
+        writer.write("> ");
+        writer.write(list);
+        writer.write(") {\n");
+
+        if (mspec.getBulkMethodname() != null) {
+            writer.write("                ");
+            if (!mspec.isAction()) {
+                writer.write("return ");
+            }
+            writer.write(typeModel.getOriginatingClassname());
+            writer.write('.');
+            writer.write(mspec.getBulkMethodname());
+            writer.write('(');
+            writer.write(list);
+            writer.write(");\n");
+        } else {
+            if (!mspec.isAction()) {
+                writer.write("                final java.util.List<");
+                writer.write(returnType);
+                writer.write("> ");
+                writer.write(ret);
+                writer.write(" = new java.util.ArrayList<");
+                writer.write(returnType);
+                writer.write(">(");
+                writer.write(list);
+                writer.write(".size());\n");
+            }
+            writer.write("                for (");
+            writer.write(elementType);
+            writer.write(' ');
+            writer.write(item);
+            writer.write(" : ");
+            writer.write(list);
+            writer.write(") {\n                    ");
+            if (!mspec.isAction()) {
+                writer.write(ret);
+                writer.write(".add(");
+            }
+            if (callType.isConstructorCall()) {
+                writer.write("new ");
+                writer.write(typeModel.getOriginatingClassnameWithGenerics());
+            } else {
+                writer.write(callType.isObjectMethodCall() ? item : typeModel.getOriginatingClassname());
+                writer.write('.');
+                writer.write(mspec.getCalledMethodname());
+            }
+            writer.write('(');
+            if (callType.isObjectMethodCall()) {
+                generateVariables(writer, varlist, false);
+            } else {
+                writer.write('(');
+                writer.write(varlist.get(0).getUnboxedType());
+                writer.write(") ");
+                writer.write(item);
+            }
+            writer.write(mspec.isAction() ? ");\n" : "));\n");
+            writer.write("                }\n");
+            if (!mspec.isAction()) {
+                writer.write("                return ");
+                writer.write(ret);
+                writer.write(";\n");
+            }
+        }
+        writer.write("            }\n        };\n    }\n");
+    }
+
+    private void writeMethodHandleMethod(Writer writer, TypeModel typeModel, MethodModel mspec) throws IOException {
+        final String methodname = mspec.getGeneratedMethodname();
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        final StringBuilder returnVal = new StringBuilder();
+        generateReturn(returnVal, typeModel, mspec, false);
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.append(returnVal);
+        writer.write(' ');
+        writer.write(methodname);
+        writer.write(" (");
+        if (mspec.isSingleton()) {
+            final boolean erased = mspec.isErasedSingleton();
+            final StringBuilder instanceType = new StringBuilder();
+            if (erased) {
+                generateReturn(instanceType, typeModel, mspec, true);
+            } else {
+                instanceType.append(returnVal);
+            }
+
+            writer.write(") {\n        return ");
+            if (erased) {
+                writer.write('(');
+                writeRawType(writer, instanceType);
+                writer.write(") ");
+            }
+            writer.write(methodname);
+            writer.write("$Instance.INSTANCE;\n    }\n");
+
+            // lazily initialized instance
+            if (erased) {
+                writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            }
+            writer.write("    private static final class ");
+            writer.write(methodname);
+            writer.write("$Instance {\n\n        static final ");
+            writer.append(instanceType);
+            writer.write(" INSTANCE = new ");
+            writer.append(instanceType);
+            writer.write("() {\n");
+            writeMethodHandleCall(writer, typeModel, mspec, erased);
+        } else {
+            if (callType.isObjectMethodCall()) {
+                generateVariableDecls(writer, varlist, false);
+            }
+            writer.write(") {\n        return new ");
+            writer.append(returnVal);
+            writer.write("() {\n");
+            writeMethodHandleCall(writer, typeModel, mspec, false);
+        }
+        writer.write("        };\n    }\n    private static final class ");
+        writer.write(methodname);
+        writer.write("$Handle {\n\n        static final java.lang.invoke.MethodHandle HANDLE;\n\n        static {\n            try {\n"
+                + "                final java.lang.reflect.");
+        writer.write(callType.isConstructorCall() ? "Constructor<?>" : "Method");
+        writer.write(" member = ");
+        writer.write(typeModel.getOriginatingClassname());
+        if (callType.isConstructorCall()) {
+            writer.write(".class.getDeclaredConstructor(");
+        } else {
+            writer.write(".class.getDeclaredMethod(\"");
+            writer.write(mspec.getCalledMethodname());
+            writer.write('"');
+            if (!varlist.isEmpty()) {
+                writer.write(", ");
+            }
+        }
+        for (int i = 0; i < varlist.size(); i++) {
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write(varlist.get(i).getErasedUnboxedType());
+            writer.write(".class");
+        }
+        writer.write(");\n                member.setAccessible(true);\n                HANDLE = java.lang.invoke.MethodHandles.lookup().unreflect");
+        if (callType.isConstructorCall()) {
+            writer.write("Constructor");
+        }
+        writer.write("(member);\n            } catch (Exception ex) {\n                throw new ExceptionInInitializerError(ex);\n"
+                + "            }\n        }\n    }\n");
+    }
+
+    /**
+     * The call method of the anonymous class, the erased variant is used by the singletons of
+     * generic methods.
+     */
+    private void writeMethodHandleCall(Writer writer, TypeModel typeModel, MethodModel mspec, boolean erased) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        final List<VariableModel> varlist = mspec.getParameters();
+        final String returnType = erased ? mspec.getErasedReturnTypeOfCallMethod() : mspec.getReturnTypeOfCallMethod();
+        final String obj = mspec.getReceiverName();
+
+        writer.write("\n            @Override\n            public ");
+        writer.write(returnType);
+        writer.write(" call(");
+        if (callType.isObjectMethodCall()) {
+            writer.write("final ");
+            writer.write(erased ? typeModel.getOriginatingClassname() : typeModel.getOriginatingClassnameWithGenerics());
+            writer.write(' ');
+            writer.write(obj);
+        } else {
+            generateVariableDecls(writer, varlist, erased);
+        }
+        writer.write(") {\n                try {\n                    ");
+        if (!mspec.isAction()) {
+            writer.write("return ");
+            if (!returnType.equals(mspec.getErasedReturnTypeOfCallMethod())) {
+                writer.write('(');
+                writer.write(returnType);
+                writer.write(") ");
+            }
+            writer.write('(');
+            writer.write(mspec.getHandleReturnType());
+            writer.write(") ");
+        }
+        writer.write(mspec.getGeneratedMethodname());
+        writer.write("$Handle.HANDLE.invokeExact(");
+        if (callType.isObjectMethodCall()) {
+            writer.write('(');
+            writer.write(typeModel.getOriginatingClassname());
+            writer.write(") ");
+            writer.write(obj);
+            if (!varlist.isEmpty()) {
+                writer.write(", ");
+            }
+        }
+        generateVariables(writer, varlist, true);
+        writer.write(");\n                } catch (Throwable ex) {\n                    throw rx.exceptions.Exceptions.propagate(ex);\n"
+                + "                }\n            }\n");
+    }
+
+    private void writeMemoizedMethod(Writer writer, TypeModel typeModel, MethodModel mspec) throws IOException {
+        final String methodname = mspec.getGeneratedMethodname();
+        final String memoizedType = mspec.getMemoizedFunctionType();
+        final List<VariableModel> varlist = mspec.getParameters();
+
+        writer.write(mspec.getJavadoc());
+        writer.write("    ");
+        writer.write(mspec.getModifier());
+        writer.write(" static ");
+        generateGenericDecls(writer, mspec.getGenericsDecl());
+        writer.write(' ');
+        writer.write(memoizedType);
+        writer.write(' ');
+        writer.write(methodname);
+        writer.write(" () {\n        return ");
+        writer.write(methodname);
+        writer.write("$Instance.INSTANCE;\n    }\n    private static final class ");
+        writer.write(methodname);
+        writer.write("$Instance {\n\n        static final ");
+        writer.write(memoizedType);
+        writer.write(" INSTANCE = new ");
+        writer.write(memoizedType);
+        writer.write('(');
+        if (!varlist.isEmpty()) {
+            writer.write(String.valueOf(mspec.getCacheSize()));
+        }
+        writer.write(") {\n\n            @Override\n            protected ");
+        writer.write(mspec.getReturnTypeOfCallMethod());
+        writer.write(" compute(");
+        generateVariableDecls(writer, varlist, false);
+        writer.write(") {\n                return ");
+        writer.write(typeModel.getOriginatingClassname());
+        writer.write('.');
+        writer.write(mspec.getCalledMethodname());
+        writer.write('(');
+        generateVariables(writer, varlist, false);
+        writer.write(");\n            }\n        };\n    }\n");
+    }
+
+    private void generateCall(Writer writer, TypeModel typeModel, MethodModel mspec, String obj) throws IOException {
+        final CalledType callType = mspec.getCalledType();
+        if (callType.isConstructorCall()) {
+            writer.write("new ");
+            writer.write(typeModel.getOriginatingClassnameWithGenerics());
+        } else {
+            writer.write(callType.isObjectMethodCall() ? obj : typeModel.getOriginatingClassname());
+            writer.write('.');
+            writer.write(mspec.getCalledMethodname());
+        }
+        writer.write('(');
+        generateVariables(writer, mspec.getParameters(), false);
+        writer.write(')');
+    }
+
+    private void writeDispatcher(Writer writer, TypeModel typeModel, DispatcherModel dispatcher) throws IOException {
+        final String classname = dispatcher.getClassname();
+        final List<DispatchCallModel> calls = dispatcher.getCalls();
+
+        writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n    private static final class ");
+        writer.write(classname);
+        writer.write(" implements ");
+        for (int i = 0; i < calls.size(); i++) {
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write(calls.get(i).getInterfacename());
+        }
+        writer.write(" {\n\n        private static final ");
+        writer.write(classname);
+        writer.write("[] INSTANCES = new ");
+        writer.write(classname);
+        writer.write('[');
+        writer.write(String.valueOf(dispatcher.getSize()));
+        writer.write("];\n\n        private final int id;\n        private final Object[] bound;\n\n        ");
+        writer.write(classname);
+        writer.write("(int id, Object[] bound) {\n            this.id = id;\n            this.bound = bound;\n        }\n\n        static ");
+        writer.write(classname);
+        writer.write(" instance(int id) {\n            ");
+        writer.write(classname);
+        writer.write(" ret = INSTANCES[id];\n            if (ret == null) {\n                ret = new ");
+        writer.write(classname);
+        writer.write("(id, null);\n                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable\n"
+                + "            }\n            return ret;\n        }\n");
+
+        for (DispatchCallModel call : calls) {
+            writer.write("\n        @Override\n        public ");
+            writer.write(dispatcher.isAction() ? "void" : "Object");
+            writer.write(" call(");
+            generateDispatchParameterDecls(writer, call);
+            writer.write(") {\n            switch (id) {\n");
+            for (MethodModel dspec : call.getMethods()) {
+                writeDispatchCase(writer, typeModel, call, dspec);
+            }
+            writer.write("                default:\n                    throw new AssertionError(id);\n            }\n        }\n");
+        }
+        writer.write("    }\n");
+    }
+
+    private void writeDispatchCase(Writer writer, TypeModel typeModel, DispatchCallModel call, MethodModel dspec) throws IOException {
+        final CalledType callType = dspec.getCalledType();
+
+        writer.write("                case ");
+        writer.write(String.valueOf(dspec.getDispatchId()));
+        writer.write(":\n                    ");
+        if (!dspec.isAction()) {
+            writer.write("return ");
+        }
+
+        if (callType.isConstructorCall()) {
+            writer.write("new ");
+            writer.write(typeModel.getOriginatingClassname());
+        } else if (callType.isObjectMethodCall()) {
+            writer.write("((");
+            writer.write(typeModel.getOriginatingClassname());
+            writer.write(") t1).");
+            writer.write(dspec.getCalledMethodname());
+        } else {
+            writer.write(typeModel.getOriginatingClassname());
+            writer.write('.');
+            writer.write(dspec.getCalledMethodname());
+        }
+        writer.write('(');
+        generateDispatchVariables(writer, call, dspec);
+        writer.write(");\n");
+        if (dspec.isAction()) {
+            writer.write("                    return;\n");
+        }
+    }
+
+    //
+    // ReturnType
+    //
+    private void generateReturn(StringBuilder ret, TypeModel typeModel, MethodModel mspec, boolean erased) {
+        if (mspec.isUnboxed()) {
+            ret.append(erased ? mspec.getErasedUnboxedFunctionType() : mspec.getUnboxedFunctionType());
+            return;
+        }
+
+        final CalledType callType = mspec.getCalledType();
+        final String returnType = erased ? mspec.getErasedReturnTypeOfCallMethod() : mspec.getReturnTypeOfCallMethod();
+        if (callType.isStaticMethodCall() || callType.isConstructorCall()) {
+            generateStaticMethodReturn(ret, mspec.isAction(), mspec.getParameters(), returnType, erased);
+        } else {
+            final String classname = erased
+                    ? typeModel.getOriginatingClassname()
+                    : typeModel.getOriginatingClassnameWithGenerics();
+            generateObjMethodReturn(ret, classname, mspec.isAction(), returnType);
+        }
+    }
+
+    private void generateObjMethodReturn(StringBuilder ret, String classname, boolean isAction, String returnType) {
+        if (isAction) {
+            ret.append("Action1<").append(classname).append('>');
+        } else {
+            ret.append("Func1<").append(classname)
+                    .append(", ").append(returnType).append('>');
+        }
+    }
+
+    private void generateStaticMethodReturn(StringBuilder ret, boolean isAction, List<VariableModel> varlist, String returnType, boolean erased) {
+        final int size = varlist.size();
+        if (isAction) {
+            if (size > 9) {
+                ret.append("ActionN");
+            } else if (size == 0) {
+                ret.append("Action0");
+            } else {
+                ret.append("Action").append(size).append('<');
+                appendTypes(ret, varlist, erased);
+                ret.append('>');
+            }
+        } else {
+            if (size > 9) {
+                ret.append("FuncN<").append(returnType).append('>');
+            } else if (size == 0) {
+                ret.append("Func0<").append(returnType).append('>');
+            } else {
+                ret.append("Func").append(size).append('<');
+                appendTypes(ret, varlist, erased);
+                ret.append(", ").append(returnType).append('>');
+            }
+        }
+    }
+
+    private void appendTypes(StringBuilder ret, List<VariableModel> varlist, boolean erased) {
+        final int size = varlist.size();
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                ret.append(", ");
+            }
+            ret.append(erased ? varlist.get(i).getErasedType() : varlist.get(i).getType());
+        }
+    }
+
+    //
+    // Variables
+    //
+    private void generateVariables(Writer writer, List<VariableModel> varlist, boolean erased) throws IOException {
+        final int size = varlist.size();
+        for (int i = 0; i < size; i++) {
+            final VariableModel var = varlist.get(i);
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write('(');
+            if (erased) {
+                writer.write(size > 9 ? var.getErasedType() : var.getErasedUnboxedType());
+            } else {
+                writer.write(size > 9 ? var.getType() : var.getUnboxedType());
+            }
+            writer.write(") ");
+            writer.write(var.getName());
+        }
+    }
+
+    private void generateDispatchVariables(Writer writer, DispatchCallModel call, MethodModel dspec) throws IOException {
+        final List<VariableModel> varlist = dspec.getParameters();
+        final boolean bound = dspec.getCalledType().isObjectMethodCall();
+        for (int i = 0; i < varlist.size(); i++) {
+            final VariableModel var = varlist.get(i);
+            if (i != 0) {
+                writer.write(", ");
+            }
+            if (!var.getErasedType().equals(var.getErasedUnboxedType())) {
+                writer.write('(');
+                writer.write(var.getErasedUnboxedType());
+                writer.write(") ");
+            }
+            writer.write('(');
+            writer.write(var.getErasedType());
+            writer.write(") ");
+            if (bound) {
+                writer.write("bound[");
+                writer.write(String.valueOf(i));
+                writer.write(']');
+            } else if (call.isVarargs()) {
+                writer.write("args[");
+                writer.write(String.valueOf(i));
+                writer.write(']');
+            } else {
+                writer.write('t');
+                writer.write(String.valueOf(i + 1));
+            }
+        }
+    }
+
+    private void generateVariableNames(Writer writer, List<VariableModel> varlist) throws IOException {
+        final int size = varlist.size();
+        if (size > 9) {
+            writer.write("args");
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write(varlist.get(i).getName());
+        }
+    }
+
+    //
+    // Parameter declarations
+    //
+    private void generateVariableDecls(Writer writer, List<VariableModel> varlist, boolean erased) throws IOException {
+        final int size = varlist.size();
+        if (size > 9) {
+            writer.write("final Object... args");
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            final VariableModel var = varlist.get(i);
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write("final ");
+            writer.write(erased ? var.getErasedType() : var.getType());
+            writer.write(' ');
+            writer.write(var.getName());
+        }
+    }
+
+    private void generateDispatchParameterDecls(Writer writer, DispatchCallModel call) throws IOException {
+        if (call.isVarargs()) {
+            writer.write("final Object... args");
+            return;
+        }
+
+        for (int i = 1; i <= call.getArity(); i++) {
+            if (i != 1) {
+                writer.write(", ");
+            }
+            writer.write("final Object t");
+            writer.write(String.valueOf(i));
+        }
+    }
+
+    //
+    // Generics declarations
+    //
+    private void generateGenericDecls(Writer writer, List<String> list) throws IOException {
+        final int size = list.size();
+        if (size == 0) {
+            return;
+        }
+
+        writer.write('<');
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                writer.write(", ");
+            }
+            writer.write(list.get(i));
+        }
+        writer.write('>');
+    }
+
+    private void fillReturn(Writer writer, MethodModel mspec) throws IOException {
+        if (!mspec.isAction()) {
+            writer.write("return");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateExceptionHandler;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import rx.codegen.internal.model.TypeModel;
+
+/**
+ * Renders generated classes with the FreeMarker template {@code classtemplate.ftl}.
+ *
+ * @author Matthias
+ */
+class FreemarkerSourceRenderer implements SourceRenderer {
+
+    private static final String TEMPLATE_BASE_PACKAGE_PATH = "/rx/codegen/internal";
+    private static final String TEMPLATE_NAME = "classtemplate.ftl";
+    private static final String LICENSE_NAME = "license.txt";
+
+    private final Configuration configuration;
+
+    public FreemarkerSourceRenderer() {
+        this.configuration = initConfiguration();
+    }
+
+    private static Configuration initConfiguration() {
+        final Configuration cfg = new Configuration(Configuration.VERSION_2_3_22);
+        cfg.setClassForTemplateLoading(FreemarkerSourceRenderer.class, TEMPLATE_BASE_PACKAGE_PATH);
+        cfg.setDefaultEncoding("UTF-8");
+        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.DEBUG_HANDLER); //TODO change for production to RETHROW_HANDLER
+        cfg.setWhitespaceStripping(true);
+        return cfg;
+    }
+
+    @Override
+    public void render(TypeModel typeModel, Writer writer) throws IOException {
+        final Template template = configuration.getTemplate(TEMPLATE_NAME);
+        try {
+            template.process(createDataModel(typeModel), writer);
+        } catch (TemplateException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private Map<Object, Object> createDataModel(TypeModel typeModel) {
+        final Map<Object, Object> dataModel = new HashMap<Object, Object>();
+        dataModel.put("licensetext", LICENSE_NAME);
+        dataModel.put("packagename", typeModel.getPackagename());
+        dataModel.put("originatingAnnotationName", typeModel.getOriginatingAnnotationName());
+        dataModel.put("originatingAnnotationComments", typeModel.getOriginatingAnnotationComment());
+        dataModel.put("classname", typeModel.getSimpleClassname());
+        dataModel.put("originatingClassnameWithGenerics", typeModel.getOriginatingClassnameWithGenerics());
+        dataModel.put("originatingClassname", typeModel.getOriginatingClassname());
+        dataModel.put("methodSpecifications", typeModel.getMethods());
+        dataModel.put("dispatchers", typeModel.getDispatchers());
+        dataModel.put("lambdas", typeModel.isLambdas());
+        return dataModel;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.processing.Messager;
+import javax.tools.Diagnostic;
+
+/**
+ * The {@code -A} options understood by the {@link RxJavaProcessor}.
+ *
+ * @author Matthias
+ */
+final class ProcessorOptions {
+
+    /**
+     * Code emission backend: {@code freemarker} (default) or {@code direct}.
+     */
+    static final String RENDERER = "rx.codegen.renderer";
+
+    /**
+     * Number of threads rendering generated classes. Defaults to {@code 1}, which renders
+     * everything inline on the compiler thread.
+     */
+    static final String PARALLELISM = "rx.codegen.parallelism";
+
+    /**
+     * Directory of the persistent source cache for referenced library classes.
+     * The cache is disabled if not set.
+     */
+    static final String CACHE_DIR = "rx.codegen.cacheDir";
+
+    /**
+     * Directory of the JSON statistics report (phase timings and method counters). If set,
+     * the per-class notes are replaced by a one-line summary.
+     */
+    static final String STATS_DIR = "rx.codegen.statsDir";
+
+    /**
+     * If {@code true}, the caches of processed types are released after each type, so the
+     * heap stays flat for large referenced packages and modules. Peak heap usage is reported.
+     */
+    static final String STREAMING = "rx.codegen.streaming";
+
+    /**
+     * If {@code false}, anonymous classes are generated for Java 8 and later, too. Defaults to
+     * {@code true}: the generated methods return lambdas and method references, if the source
+     * version supports them.
+     */
+    static final String LAMBDAS = "rx.codegen.lambdas";
+
+    private static final String OPTION_PREFIX = "rx.codegen.";
+
+    enum RendererType {
+
+        FREEMARKER, DIRECT;
+    }
+
+    private final Map<String, String> options;
+    private final Messager messager;
+
+    ProcessorOptions(Map<String, String> options, Messager messager) {
+        this.options = options;
+        this.messager = messager;
+    }
+
+    RendererType getRendererType() {
+        return getEnum(RENDERER, RendererType.class, RendererType.FREEMARKER);
+    }
+
+    File getCacheDir() {
+        return getFile(CACHE_DIR);
+    }
+
+    File getStatsDir() {
+        return getFile(STATS_DIR);
+    }
+
+    private File getFile(String key) {
+        final String value = options.get(key);
+        return value == null || value.trim().isEmpty() ? null : new File(value.trim());
+    }
+
+    /**
+     * @return all options of this processor which may change the generated code
+     */
+    Map<String, String> getOutputOptions() {
+        final Map<String, String> ret = new TreeMap<String, String>();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            final String key = option.getKey();
+            if (key.startsWith(OPTION_PREFIX) && !key.equals(CACHE_DIR) && !key.equals(PARALLELISM)
+                    && !key.equals(STATS_DIR) && !key.equals(STREAMING)) {
+                ret.put(key, option.getValue());
+            }
+        }
+        return ret;
+    }
+
+    boolean isStreaming() {
+        final String value = options.get(STREAMING);
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
+    boolean isLambdas() {
+        final String value = options.get(LAMBDAS);
+        return value == null || Boolean.parseBoolean(value.trim());
+    }
+
+    int getParallelism() {
+        return getPositiveInt(PARALLELISM, 1);
+    }
+
+    private int getPositiveInt(String key, int defaultValue) {
+        final String value = options.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            final int ret = Integer.parseInt(value.trim());
+            if (ret > 0) {
+                return ret;
+            }
+        } catch (NumberFormatException ex) {
+            //fall through
+        }
+
+        messager.printMessage(Diagnostic.Kind.WARNING,
+                String.format("Invalid value '%s' for option '%s', using '%d'", value, key, defaultValue));
+        return defaultValue;
+    }
+
+    private <E extends Enum<E>> E getEnum(String key, Class<E> enumType, E defaultValue) {
+        final String value = options.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase(Locale.US));
+        } catch (IllegalArgumentException ex) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Unknown value '%s' for option '%s', using '%s'", value, key,
+                            defaultValue.name().toLowerCase(Locale.US)));
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import rx.codegen.internal.cache.SourceCache;
+import rx.codegen.internal.model.TypeModel;
+import rx.codegen.internal.spec.TypeSpec;
+
+/**
+ * Renders generated classes on a bounded thread pool.
+ *
+ * <p>The element model of the compiler is not thread-safe. Therefore the
+ * {@link TypeModel} has to be extracted on the compiler thread before it is
+ * submitted, and the rendered source is written back through the
+ * {@link javax.annotation.processing.Filer} on the compiler thread, too.
+ * Only the pure string work runs in parallel. Files are written in
+ * submission order.
+ *
+ * <p>With a parallelism of {@code 1} everything is rendered inline directly
+ * into the source file.
+ *
+ * @author Matthias
+ */
+class RenderPipeline {
+
+    private final SourceWriter sourceWriter;
+    private final SourceCache sourceCache;
+    private final int parallelism;
+    private final boolean writeDirectly;
+    private final int maxPending;
+    private final Deque<PendingSource> pending;
+    private ExecutorService executor;
+
+    /**
+     * @param sourceCache may be {@code null} if no source cache is used
+     * @param writeDirectly if {@code true}, inline rendering writes directly into the source
+     * file, otherwise it goes through a string, so rendering and Filer I/O can be timed separately
+     */
+    public RenderPipeline(SourceWriter sourceWriter, SourceCache sourceCache, int parallelism, boolean writeDirectly) {
+        this.sourceWriter = sourceWriter;
+        this.sourceCache = sourceCache;
+        this.parallelism = parallelism;
+        this.writeDirectly = writeDirectly;
+        this.maxPending = 2 * Math.max(parallelism, 1);
+        this.pending = new ArrayDeque<PendingSource>();
+    }
+
+    /**
+     * Must be called on the compiler thread.
+     *
+     * @param cacheKey if not {@code null}, the rendered source is stored in the source cache
+     */
+    public void submit(TypeSpec typeSpec, final TypeModel typeModel, byte[] cacheKey) throws IOException {
+        if (parallelism <= 1) {
+            if (cacheKey == null && writeDirectly) {
+                sourceWriter.writeSourceFile(typeSpec, typeModel);
+            } else {
+                writePending(new PendingSource(typeSpec, typeModel.getQualifiedClassname(),
+                        Futures.immediateFuture(render(typeModel)), cacheKey));
+            }
+            return;
+        }
+
+        final Future<String> source = getExecutor().submit(new Callable<String>() {
+
+            @Override
+            public String call() throws Exception {
+                return render(typeModel);
+            }
+        });
+        addPending(new PendingSource(typeSpec, typeModel.getQualifiedClassname(), source, cacheKey));
+    }
+
+    /**
+     * Writes an already rendered source. Must be called on the compiler thread.
+     */
+    public void submitRendered(TypeSpec typeSpec, String source) throws IOException {
+        final PendingSource pendingSource = new PendingSource(typeSpec, typeSpec.getGeneratedQualifiedClassname(),
+                Futures.immediateFuture(source), null);
+        if (parallelism <= 1) {
+            writePending(pendingSource);
+        } else {
+            addPending(pendingSource);
+        }
+    }
+
+    private String render(TypeModel typeModel) throws IOException {
+        final StringWriter writer = new StringWriter(8 * 1024);
+        sourceWriter.render(typeModel, writer);
+        return writer.toString();
+    }
+
+    private void addPending(PendingSource pendingSource) throws IOException {
+        pending.addLast(pendingSource);
+        while (pending.size() > maxPending) {
+            writePending(pending.removeFirst());
+        }
+    }
+
+    /**
+     * Waits for all submitted sources and writes them. Must be called on the compiler thread.
+     */
+    public void flush() throws IOException {
+        PendingSource next;
+        while ((next = pending.pollFirst()) != null) {
+            writePending(next);
+        }
+    }
+
+    public void shutdown() {
+        pending.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void writePending(PendingSource pendingSource) throws IOException {
+        final String source = awaitSource(pendingSource.source);
+        sourceWriter.writeSourceFile(pendingSource.typeSpec, pendingSource.qualifiedClassname, source);
+        if (pendingSource.cacheKey != null) {
+            sourceCache.put(pendingSource.cacheKey, source);
+        }
+    }
+
+    private static String awaitSource(Future<String> source) throws IOException {
+        try {
+            return source.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                    .setNameFormat("rx-codegen-render-%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    private static class PendingSource {
+
+        private final TypeSpec typeSpec;
+        private final String qualifiedClassname;
+        private final Future<String> source;
+        private final byte[] cacheKey;
+
+        public PendingSource(TypeSpec typeSpec, String qualifiedClassname, Future<String> source, byte[] cacheKey) {
+            this.typeSpec = typeSpec;
+            this.qualifiedClassname = qualifiedClassname;
+            this.source = source;
+            this.cacheKey = cacheKey;
+        }
+    }
+}
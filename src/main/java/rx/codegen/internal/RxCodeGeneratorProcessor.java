@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import java.util.Set;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.Element;
+import rx.codegen.RxCodeGenerator;
+
+/**
+ * Generates the wrapper of a single {@code @RxCodeGenerator} class.
+ *
+ * <p>Isolating: every generated class depends only on its annotated type,
+ * which is the only originating element of the generated source file.
+ * Therefore inherited methods are never delegated to the wrapper of a supertype.
+ *
+ * @author Matthias
+ */
+@SupportedAnnotationTypes("rx.codegen.RxCodeGenerator")
+public class RxCodeGeneratorProcessor extends RxJavaProcessor {
+
+    @Override
+    protected Set<? extends Element> findElementsForProcessing(RoundEnvironment roundEnv) {
+        return roundEnv.getElementsAnnotatedWith(RxCodeGenerator.class);
+    }
+
+    @Override
+    protected boolean isAggregating() {
+        return false;
+    }
+}
@@ -15,275 +15,469 @@
  */
 package rx.codegen.internal;
 
-import com.google.common.base.Joiner;
-import com.google.common.collect.Lists;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Files;
 import rx.codegen.NamingStrategy;
-import rx.codegen.RxCodeGenerator;
-import rx.codegen.RxExclude;
-import rx.codegen.RxRefCodeGenerator;
+import rx.codegen.internal.cache.SourceCache;
+import rx.codegen.internal.cache.SourceCacheKeys;
+import rx.codegen.internal.model.MethodModel;
+import rx.codegen.internal.model.ModelFactory;
+import rx.codegen.internal.model.TypeModel;
 import rx.codegen.internal.spec.MethodSpec;
 import rx.codegen.internal.spec.TypeSpec;
-import rx.codegen.internal.spec.method.MethodSpecFactory;
+import rx.codegen.internal.spec.method.MethodIndex;
+import rx.codegen.internal.spec.method.WrapperRegistry;
 import rx.codegen.internal.spec.type.TypeSpecFactory;
 import rx.codegen.internal.util.CodegenUtil;
+import rx.codegen.internal.util.ProcessorStatistics;
+import rx.codegen.internal.util.ProcessorStatistics.Counter;
+import rx.codegen.internal.util.ProcessorStatistics.Phase;
+import rx.codegen.internal.util.TypeStringCache;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
-import javax.lang.model.type.TypeKind;
-import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
+import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.*;
 
 /**
+ * Base class of the processors. {@link RxCodeGeneratorProcessor} handles
+ * {@code @RxCodeGenerator} classes and is registered as an isolating processor,
+ * {@link RxRefCodeGeneratorProcessor} handles {@code @RxRefCodeGenerator}
+ * packages and is registered as an aggregating processor
+ * (see {@code META-INF/gradle/incremental.annotation.processors}).
  *
  * @author Matthias
  */
-@SupportedAnnotationTypes({
-    "rx.codegen.RxCodeGenerator",
-    "rx.codegen.RxRefCodeGenerator"
-})
-@SupportedSourceVersion(SourceVersion.RELEASE_6)
-public class RxJavaProcessor extends AbstractProcessor {
+public abstract class RxJavaProcessor extends AbstractProcessor {
 
     private static final boolean ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS = false;
+    private static final int STREAMING_MAX_TYPE_STRINGS = 10000;
 
     private CodegenUtil util;
-    private SourceWriter sourceWriter;
+    private ProcessorOptions options;
+    private ProcessorStatistics statistics;
+    private RenderPipeline renderPipeline;
+    private SourceCache sourceCache;
+    private SourceCacheKeys sourceCacheKeys;
+    private WrapperRegistry wrappers;
+    private boolean lambdas;
+    private boolean methodHandles;
+    private boolean missingUnboxedFunctionsReported;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
-        this.util = new CodegenUtil(processingEnv);
+        this.options = new ProcessorOptions(processingEnv.getOptions(), processingEnv.getMessager());
+        this.statistics = new ProcessorStatistics(options.getStatsDir() != null);
+        this.util = new CodegenUtil(processingEnv, statistics);
+        this.wrappers = isAggregating() ? new WrapperRegistry(util) : null;
+        this.lambdas = options.isLambdas() && isLambdaSupported(processingEnv.getSourceVersion());
+        this.methodHandles = isMethodHandleSupported(processingEnv.getSourceVersion());
+        initSourceCache(options);
         try {
-            this.sourceWriter = new SourceWriter(util);
+            final SourceWriter sourceWriter = new SourceWriter(util, SourceWriter.createRenderer(options.getRendererType()));
+            this.renderPipeline = new RenderPipeline(sourceWriter, sourceCache, options.getParallelism(),
+                    !statistics.isEnabled());
         } catch (IOException ex) {
             throw new IllegalStateException(ex);
         }
     }
 
+    private void initSourceCache(ProcessorOptions options) {
+        final File cacheDir = options.getCacheDir();
+        if (cacheDir == null) {
+            return;
+        }
+
+        try {
+            this.sourceCache = SourceCache.open(cacheDir);
+            this.sourceCacheKeys = new SourceCacheKeys(util, processingEnv.getSourceVersion(), options.getOutputOptions());
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Source cache disabled: %s", ex.getMessage()));
+        }
+    }
+
+    /**
+     * {@code SourceVersion.RELEASE_8} is unknown to the Java 6 API, the constants are ordered by version.
+     */
+    private static boolean isLambdaSupported(SourceVersion sourceVersion) {
+        return sourceVersion.ordinal() >= 8;
+    }
+
+    private static boolean isMethodHandleSupported(SourceVersion sourceVersion) {
+        return sourceVersion.ordinal() >= 7;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return ImmutableSet.of(
+                ProcessorOptions.RENDERER,
+                ProcessorOptions.PARALLELISM,
+                ProcessorOptions.CACHE_DIR,
+                ProcessorOptions.STATS_DIR,
+                ProcessorOptions.STREAMING,
+                ProcessorOptions.LAMBDAS);
+    }
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (roundEnv.processingOver() || annotations.isEmpty()) {
+        if (roundEnv.processingOver()) {
+            renderPipeline.shutdown();
+            closeSourceCache();
+            printStatistics();
+            return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
+        } else if (annotations.isEmpty()) {
             return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
         }
 
+        final long start = statistics.start();
+        if (sourceCacheKeys != null) {
+            sourceCacheKeys.addRootElements(roundEnv.getRootElements());
+        }
+
+        final List<TypeSpec> inheriting = wrappers != null ? new ArrayList<TypeSpec>() : null;
         for (Element element : findElementsForProcessing(roundEnv)) {
-            processClassInfos(TypeSpecFactory.createTypeSpecs(util, element));
+            processClassInfos(TypeSpecFactory.createTypeSpecs(util, element), inheriting);
+        }
+        if (inheriting != null && !inheriting.isEmpty()) {
+            processClassInfos(sortSupertypesFirst(inheriting).iterator(), null);
         }
+        flushRenderPipeline();
+        statistics.stop(Phase.PROCESSING, start);
 
         return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
     }
 
-    private Set<Element> findElementsForProcessing(RoundEnvironment roundEnv) {
-        final Set<Element> ret = new LinkedHashSet<Element>();
-        ret.addAll(roundEnv.getElementsAnnotatedWith(RxRefCodeGenerator.class));
-        ret.addAll(roundEnv.getElementsAnnotatedWith(RxCodeGenerator.class));
-        return ret;
-    }
-
-    private void processClassInfos(List<? extends TypeSpec> classInfos) {
-        for (TypeSpec classInfo : classInfos) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                    "Processing ... ", classInfo.getTypeElement());
-            processClassInfo(classInfo);
+    private void closeSourceCache() {
+        if (sourceCache == null) {
+            return;
         }
-    }
 
-    private void processClassInfo(TypeSpec typeSpec) {
         try {
-            sourceWriter.writeSourceFile(typeSpec, collectMethodDefinitions(typeSpec));
+            sourceCache.close();
         } catch (IOException ex) {
-            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
-                    ex.getMessage(), typeSpec.getTypeElement());
-            throw new RuntimeException(ex);
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Cannot write source cache: %s", ex.getMessage()));
         }
     }
 
-    private List<MethodSpec> collectMethodDefinitions(TypeSpec typeSpec) {
-        //
-        // Get supported methods
-        final List<ExecutableElement> supportedMethods = getSupportedMethods(typeSpec);
+    private void printStatistics() {
+        if (statistics.isEnabled()) {
+            writeStatisticsReport();
+            return;
+        }
 
-        //
-        // Create all method defintions
-        final List<MethodSpec> definitions = new ArrayList<MethodSpec>();
-        for (ExecutableElement methodElem : supportedMethods) {
-            if (methodElem.getAnnotation(RxExclude.class) != null) {
-                continue; //exclude method from processing
-            }
+        if (options.isStreaming()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    String.format("Peak heap usage: %d MB", ProcessorStatistics.getPeakHeapUsage() / (1024 * 1024)));
+        }
 
-            try {
-                final MethodSpec spec = MethodSpecFactory.createMethodSpec(util, typeSpec.getTypeElement(), methodElem);
-                if (spec != null) {
-                    definitions.add(spec);
-                }
-            } catch (RuntimeException ex) {
-                //ignore
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, ex.getMessage(), methodElem);
-            }
+        if (sourceCache != null && sourceCache.getHitCount() + sourceCache.getMissCount() > 0) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    String.format("Source cache: %d hits, %d misses",
+                            sourceCache.getHitCount(), sourceCache.getMissCount()));
         }
 
-        //
-        // handle duplicate method names
-        return applyAutomaticMethodNamingStrategy(typeSpec, definitions);
-    }
+        final TypeStringCache cache = util.getTypeStringCache();
+        if (cache.getHitCount() + cache.getMissCount() == 0) {
+            return; //nothing generated
+        }
 
-    private List<MethodSpec> applyAutomaticMethodNamingStrategy(TypeSpec typeSpec, List<MethodSpec> methodSpecs) {
-        final Map<String, MethodSpec> map = new LinkedHashMap<String, MethodSpec>(); //preserve order
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                String.format("Type string cache: %d hits, %d misses, %d entries",
+                        cache.getHitCount(), cache.getMissCount(), cache.size()));
+    }
 
-        for (MethodSpec spec : methodSpecs) {
-            final String generatedMethodname = spec.getGeneratedMethodname();
+    private void writeStatisticsReport() {
+        if (sourceCache != null) {
+            statistics.set(Counter.SOURCE_CACHE_HITS, sourceCache.getHitCount());
+            statistics.set(Counter.SOURCE_CACHE_MISSES, sourceCache.getMissCount());
+        }
+        final TypeStringCache cache = util.getTypeStringCache();
+        statistics.set(Counter.TYPE_STRING_CACHE_HITS, cache.getHitCount());
+        statistics.set(Counter.TYPE_STRING_CACHE_MISSES, cache.getMissCount());
+        statistics.set(Counter.TYPE_STRING_CACHE_ENTRIES, cache.size());
+        statistics.set(Counter.PEAK_HEAP_BYTES, ProcessorStatistics.getPeakHeapUsage());
+
+        final Map<String, String> properties = new LinkedHashMap<String, String>();
+        properties.put("processor", getClass().getName());
+        properties.put("renderer", options.getRendererType().name().toLowerCase(Locale.US));
+        properties.put("parallelism", String.valueOf(options.getParallelism()));
+        properties.put("streaming", String.valueOf(options.isStreaming()));
+
+        final File reportFile = new File(options.getStatsDir(), getClass().getSimpleName() + "-stats.json");
+        try {
+            Files.createParentDirs(reportFile);
+            final Writer writer = Files.newWriter(reportFile, Charsets.UTF_8);
+            try {
+                statistics.writeJson(properties, writer);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Cannot write statistics report: %s", ex.getMessage()));
+        }
 
-            if (map.containsKey(generatedMethodname)) {
-                if (typeSpec.getMethodNamingStrategy() == NamingStrategy.RENAME) {
-                    final String newMethodname = generateUniqueName(generatedMethodname, spec);
-                    final MethodSpec newDef = MethodSpecFactory.renameMethodDefinition(spec, newMethodname);
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                String.format("%d types generated (%d from source cache), %d classes, %d methods (%d renamed, %d excluded, %d skipped, %d failed) in %d ms, peak heap %d MB, see %s",
+                        statistics.get(Counter.TYPES_GENERATED) + statistics.get(Counter.TYPES_FROM_SOURCE_CACHE),
+                        statistics.get(Counter.TYPES_FROM_SOURCE_CACHE),
+                        statistics.get(Counter.CLASSES_GENERATED),
+                        statistics.get(Counter.METHODS_GENERATED),
+                        statistics.get(Counter.METHODS_RENAMED),
+                        statistics.get(Counter.METHODS_EXCLUDED),
+                        statistics.get(Counter.METHODS_SKIPPED),
+                        statistics.get(Counter.METHODS_FAILED),
+                        statistics.getMillis(Phase.PROCESSING),
+                        statistics.get(Counter.PEAK_HEAP_BYTES) / (1024 * 1024),
+                        reportFile.getPath()));
+    }
 
-                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                            String.format("Renaming method in '%s' from '%s' to '%s'", typeSpec.getGeneratedQualifiedClassname(), generatedMethodname, newMethodname),
-                            spec.getOriginatingElement());
+    protected abstract Set<? extends Element> findElementsForProcessing(RoundEnvironment roundEnv);
+
+    /**
+     * Only aggregating processors let a generated class depend on other generated classes:
+     * inherited methods are delegated to the generated class of their declaring type. An
+     * isolating processor generates every class from its annotated type alone.
+     */
+    protected abstract boolean isAggregating();
+
+    /**
+     * Sorts the type specs with inherited methods, supertypes before their subtypes. They are
+     * generated after all other types of the round, so the generated class of a supertype is
+     * always registered before a subtype delegates to it, independent of the order of the
+     * annotated elements.
+     */
+    private List<TypeSpec> sortSupertypesFirst(List<TypeSpec> ret) {
+        final long start = statistics.start();
+        final Map<TypeElement, Integer> depths = new HashMap<TypeElement, Integer>();
+        for (TypeSpec typeSpec : ret) {
+            getHierarchyDepth(typeSpec.getTypeElement(), depths);
+        }
+        Collections.sort(ret, new Comparator<TypeSpec>() {
 
-                    map.put(newMethodname, newDef);
+            @Override
+            public int compare(TypeSpec o1, TypeSpec o2) {
+                return depths.get(o1.getTypeElement()) - depths.get(o2.getTypeElement());
+            }
+        });
+        statistics.stop(Phase.TYPE_DISCOVERY, start);
+        return ret;
+    }
 
-                } else if (typeSpec.getMethodNamingStrategy() == NamingStrategy.EXCLUDE) {
-                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
-                            String.format("Filtering ambiguous method '%s' in '%s'", generatedMethodname, typeSpec.getGeneratedQualifiedClassname()),
-                            spec.getOriginatingElement());
-                }
-            } else {
-                map.put(generatedMethodname, spec);
+    private int getHierarchyDepth(TypeElement typeElement, Map<TypeElement, Integer> depths) {
+        Integer ret = depths.get(typeElement);
+        if (ret == null) {
+            int depth = 0;
+            for (TypeElement supertype : util.getDirectSupertypes(typeElement)) {
+                depth = Math.max(depth, getHierarchyDepth(supertype, depths) + 1);
             }
+            ret = depth;
+            depths.put(typeElement, ret);
         }
-
-        return Lists.newArrayList(map.values());
+        return ret;
     }
 
-    private String generateUniqueName(final String generatedMethodname, MethodSpec spec) {
-        final StringBuilder ret = new StringBuilder(generatedMethodname);
-        ret.append("$");
+    /**
+     * @param inheriting collects the type specs with inherited methods instead of generating
+     * them, {@code null} to generate all
+     */
+    private void processClassInfos(Iterator<TypeSpec> classInfos, List<TypeSpec> inheriting) {
+        TypeSpec classInfo;
+        while ((classInfo = nextTypeSpec(classInfos)) != null) {
+            if (inheriting != null && classInfo.includeInherited()) {
+                inheriting.add(classInfo);
+                continue;
+            }
 
-        final List<? extends VariableElement> parameters = spec.getOriginatingElement().getParameters();
-        for (int i = 0; i < parameters.size(); i++) {
-            if (i != 0) {
-                ret.append("_");
+            if (!statistics.isEnabled()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Processing ... ", classInfo.getTypeElement());
             }
-            final VariableElement parameter = parameters.get(i);
-            final TypeMirror paramType = parameter.asType();
-            ret.append(kindToString(paramType.getKind()));
-        }
+            processClassInfo(classInfo);
 
-        return ret.toString();
+            if (options.isStreaming()) {
+                util.releaseTypeCaches(STREAMING_MAX_TYPE_STRINGS);
+            }
+        }
     }
 
-    private String kindToString(TypeKind kind) {
-        switch (kind) {
-            case BOOLEAN:
-                return "Bool";
-            case BYTE:
-                return "Byte";
-            case SHORT:
-                return "Short";
-            case INT:
-                return "Int";
-            case LONG:
-                return "Long";
-            case CHAR:
-                return "Char";
-            case FLOAT:
-                return "Float";
-            case DOUBLE:
-                return "Double";
-            case VOID:
-                return "Void";
-            case ARRAY:
-                return "Array";
-            case DECLARED:
-                return "Obj";
-            case TYPEVAR:
-                return "TypeVar";
-
-            default:
-                return "Unknown";
+    private TypeSpec nextTypeSpec(Iterator<TypeSpec> typeSpecs) {
+        final long start = statistics.start();
+        try {
+            return typeSpecs.hasNext() ? typeSpecs.next() : null;
+        } finally {
+            statistics.stop(Phase.TYPE_DISCOVERY, start);
         }
     }
 
-    private List<ExecutableElement> getSupportedMethods(TypeSpec typeSpec) {
-        final List<ExecutableElement> ret = new ArrayList<ExecutableElement>();
+    private void processClassInfo(TypeSpec typeSpec) {
+        if (typeSpec.generateUnboxed() && !missingUnboxedFunctionsReported && !util.isUnboxedFunctionsAvailable()) {
+            missingUnboxedFunctionsReported = true;
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@Option(unboxed = true) is ignored, rxjava-codegen-runtime is not on the classpath",
+                    typeSpec.getOriginatingElement());
+        }
 
-        // collect elements
-        final List<? extends Element> enclosedElements = typeSpec.getTypeElement().getEnclosedElements();
-        final List<ExecutableElement> methods = ElementFilter.methodsIn(enclosedElements);
-        final List<ExecutableElement> constructors = ElementFilter.constructorsIn(enclosedElements);
+        try {
+            final byte[] cacheKey = sourceCacheKeys != null ? sourceCacheKeys.createKey(typeSpec, wrappers) : null;
+            if (cacheKey != null) {
+                final String cachedSource = sourceCache.get(cacheKey);
+                if (cachedSource != null) {
+                    statistics.increment(Counter.TYPES_FROM_SOURCE_CACHE);
+                    if (wrappers != null) {
+                        wrappers.registerCached(typeSpec);
+                    }
+                    renderPipeline.submitRendered(typeSpec, cachedSource);
+                    return;
+                }
+            }
 
-        //union
-        final List<ExecutableElement> execElements = Lists.newArrayList(methods);
-        execElements.addAll(constructors);
+            final List<MethodSpec> methodSpecs = collectMethodDefinitions(typeSpec);
+
+            final long start = statistics.start();
+            final TypeModel typeModel = ModelFactory.createTypeModel(typeSpec, methodSpecs, lambdas);
+            statistics.stop(Phase.MODEL_SNAPSHOT, start);
+            statistics.increment(Counter.TYPES_GENERATED);
+            statistics.add(Counter.METHODS_GENERATED, typeModel.getMethods().size());
+            if (statistics.isEnabled()) {
+                statistics.add(Counter.CLASSES_GENERATED, typeModel.countClasses());
+                for (MethodModel methodModel : typeModel.getMethods()) {
+                    if (methodModel.isSingleton()) {
+                        statistics.increment(Counter.METHODS_SINGLETON);
+                    }
+                }
+            }
 
-        //sortby by name and number of parameters
-        Collections.sort(execElements, new ExecElementComparator());
+            renderPipeline.submit(typeSpec, typeModel, cacheKey);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    ex.getMessage(), typeSpec.getTypeElement());
+            renderPipeline.shutdown();
+            throw new RuntimeException(ex);
+        }
+    }
 
-        for (ExecutableElement element : execElements) {
-            if (!element.getThrownTypes().isEmpty()) {
-                continue; //not supported
-            }
+    private void flushRenderPipeline() {
+        try {
+            renderPipeline.flush();
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, ex.getMessage());
+            renderPipeline.shutdown();
+            throw new RuntimeException(ex);
+        }
+    }
 
-            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
-                continue; //not supported
-            }
+    private List<MethodSpec> collectMethodDefinitions(TypeSpec typeSpec) {
+        final long start = statistics.start();
+
+        //
+        // Index all methods and constructors, sorted by name and number of parameters
+        final MethodIndex methodIndex = MethodIndex.create(util, typeSpec, wrappers);
+        statistics.add(Counter.METHODS_SKIPPED, methodIndex.countUnsupported());
+        statistics.add(Counter.METHODS_EXCLUDED, methodIndex.countExcluded());
 
-            if (element.getKind() == ElementKind.CONSTRUCTOR && !isInstantiable(typeSpec.getTypeElement())) {
-                //only constructors from static nested classes are allowed
-                continue; //not supported
+        //
+        // Report all method defintions which could not be created
+        for (MethodIndex.Entry entry : methodIndex.getEntries()) {
+            if (!entry.isCandidate() || entry.getSpec() != null) {
+                continue;
             }
 
-            if (!typeSpec.includeDeprecated() && util.getElementUtils().isDeprecated(element)) {
-                continue; //filter out deprecated methods
+            if (entry.getFailure() != null) {
+                //ignore
+                statistics.increment(Counter.METHODS_FAILED);
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, entry.getFailure().getMessage(), entry.getElement());
+            } else {
+                statistics.increment(Counter.METHODS_SKIPPED);
             }
+        }
 
-            ret.add(element);
+        //
+        // handle duplicate method names
+        statistics.stop(Phase.METHOD_COLLECTION, start);
+        final long namingStart = statistics.start();
+        try {
+            return applyAutomaticMethodNamingStrategy(typeSpec, methodIndex);
+        } finally {
+            statistics.stop(Phase.NAMING_STRATEGY, namingStart);
         }
-        return ret;
     }
 
-    private boolean isInstantiable(TypeElement typeElement) {
-        final boolean nested = typeElement.getNestingKind().isNested();
-        final Set<Modifier> modifiers = typeElement.getModifiers();
+    private List<MethodSpec> applyAutomaticMethodNamingStrategy(TypeSpec typeSpec, MethodIndex methodIndex) {
+        final List<MethodSpec> ret = methodIndex.resolveMethodnames(typeSpec.getMethodNamingStrategy());
+        skipUnsupportedMethodHandles(typeSpec, ret);
 
-        if (nested && !modifiers.contains(Modifier.STATIC)) {
-            return false;
+        for (MethodIndex.Entry entry : methodIndex.getEntries()) {
+            if (entry.getSpec() == null) {
+                continue;
+            }
 
-        } else if (modifiers.contains(Modifier.ABSTRACT)) {
-            return false;
-        }
+            if (entry.isDelegated() && entry.getResolvedMethodname() != null) {
+                statistics.increment(Counter.METHODS_DELEGATED);
+            }
 
-        return true;
-    }
+            final String generatedMethodname = entry.getGeneratedMethodname();
+            if (entry.isRenamed()) {
+                statistics.increment(Counter.METHODS_RENAMED);
+                if (!statistics.isEnabled()) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                            String.format("Renaming method in '%s' from '%s' to '%s'", typeSpec.getGeneratedQualifiedClassname(), generatedMethodname, entry.getResolvedMethodname()),
+                            entry.getElement());
+                }
 
-    private class ExecElementComparator implements Comparator<ExecutableElement> {
+            } else if (entry.getResolvedMethodname() == null && typeSpec.getMethodNamingStrategy() == NamingStrategy.EXCLUDE) {
+                statistics.increment(Counter.METHODS_EXCLUDED);
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        String.format("Filtering ambiguous method '%s' in '%s'", generatedMethodname, typeSpec.getGeneratedQualifiedClassname()),
+                        entry.getElement());
+            }
+        }
 
-        @Override
-        public int compare(ExecutableElement o1, ExecutableElement o2) {
-            final String name1 = o1.getSimpleName().toString();
-            final String name2 = o2.getSimpleName().toString();
+        if (wrappers != null) {
+            wrappers.register(typeSpec, ret);
+        }
+        return ret;
+    }
 
-            //compare by methodname
-            int dif = name1.compareTo(name2);
-            if (dif != 0) {
-                return dif;
+    /**
+     * Removes the members which would be called through a method handle but cannot be, they are
+     * counted as skipped. Runs before the registration, subtypes must not delegate to them.
+     */
+    private void skipUnsupportedMethodHandles(TypeSpec typeSpec, List<MethodSpec> methodSpecs) {
+        for (Iterator<MethodSpec> it = methodSpecs.iterator(); it.hasNext(); ) {
+            final MethodSpec methodSpec = it.next();
+            if (!ModelFactory.isCalledThroughMethodHandle(typeSpec, methodSpec)) {
+                continue;
             }
 
-            //compare by parameter count
-            dif = o1.getParameters().size() - o2.getParameters().size();
-            if (dif != 0) {
-                return dif;
+            final String reason;
+            if (!methodHandles) {
+                reason = "method handles require source level 7 or later";
+            } else if (methodSpec.getParameters().size() > ModelFactory.MAX_HANDLE_PARAMETERS) {
+                reason = String.format("method handles support at most %d parameters", ModelFactory.MAX_HANDLE_PARAMETERS);
+            } else {
+                continue;
             }
 
-            //compare by paramter type names
-            return Joiner.on("").join(util.elementsToTypes(o1.getParameters()))
-                    .compareTo(Joiner.on("").join(util.elementsToTypes(o2.getParameters())));
+            it.remove();
+            statistics.increment(Counter.METHODS_SKIPPED);
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("Skipping non-public method '%s' in '%s', %s", methodSpec.getCalledMethodname(),
+                            typeSpec.getGeneratedQualifiedClassname(), reason),
+                    methodSpec.getOriginatingElement());
         }
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import java.util.Set;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.Element;
+import rx.codegen.RxRefCodeGenerator;
+
+/**
+ * Generates the wrappers of the classes and packages referenced by
+ * {@code @RxRefCodeGenerator} packages.
+ *
+ * <p>Aggregating: the referenced packages are resolved against the whole
+ * classpath, so the output depends on more than the annotated package.
+ * Inherited methods are delegated to the wrappers of their declaring types.
+ *
+ * @author Matthias
+ */
+@SupportedAnnotationTypes("rx.codegen.RxRefCodeGenerator")
+public class RxRefCodeGeneratorProcessor extends RxJavaProcessor {
+
+    @Override
+    protected Set<? extends Element> findElementsForProcessing(RoundEnvironment roundEnv) {
+        return roundEnv.getElementsAnnotatedWith(RxRefCodeGenerator.class);
+    }
+
+    @Override
+    protected boolean isAggregating() {
+        return true;
+    }
+}
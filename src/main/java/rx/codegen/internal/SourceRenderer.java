@@ -0,0 +1,30 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import java.io.IOException;
+import java.io.Writer;
+import rx.codegen.internal.model.TypeModel;
+
+/**
+ * Renders the source code of a generated class.
+ *
+ * @author Matthias
+ */
+interface SourceRenderer {
+
+    void render(TypeModel typeModel, Writer writer) throws IOException;
+}
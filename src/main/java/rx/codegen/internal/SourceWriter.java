@@ -15,20 +15,14 @@
  */
 package rx.codegen.internal;
 
-import freemarker.template.Configuration;
-import freemarker.template.Template;
-import freemarker.template.TemplateException;
-import freemarker.template.TemplateExceptionHandler;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
-import rx.codegen.internal.spec.MethodSpec;
+import rx.codegen.internal.model.TypeModel;
 import rx.codegen.internal.spec.TypeSpec;
 import rx.codegen.internal.util.CodegenUtil;
+import rx.codegen.internal.util.ProcessorStatistics;
 
 /**
  *
@@ -36,62 +30,78 @@ import rx.codegen.internal.util.CodegenUtil;
  */
 class SourceWriter {
 
-    private static final String TEMPLATE_BASE_PACKAGE_PATH = "/rx/codegen/internal";
-    private static final String TEMPLATE_NAME = "classtemplate.ftl";
-    private static final String LICENSE_NAME = "license.txt";
-
     private final CodegenUtil util;
-    private final Configuration configuration;
+    private final SourceRenderer renderer;
 
-    public SourceWriter(CodegenUtil util) throws IOException {
+    public SourceWriter(CodegenUtil util, SourceRenderer renderer) {
         this.util = util;
-        this.configuration = initConfiguration();
+        this.renderer = renderer;
     }
 
-    private static Configuration initConfiguration() {
-        final Configuration cfg = new Configuration(Configuration.VERSION_2_3_22);
-        cfg.setClassForTemplateLoading(SourceWriter.class, TEMPLATE_BASE_PACKAGE_PATH);
-        cfg.setDefaultEncoding("UTF-8");
-        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.DEBUG_HANDLER); //TODO change for production to RETHROW_HANDLER
-        cfg.setWhitespaceStripping(true);
-        return cfg;
-    }
+    public static SourceRenderer createRenderer(ProcessorOptions.RendererType rendererType) throws IOException {
+        switch (rendererType) {
+            case DIRECT:
+                return new DirectSourceRenderer();
 
-    public void writeSourceFile(TypeSpec typeSpec, List<MethodSpec> methodSpecifications) throws IOException {
-        util.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format("Generating %s...", typeSpec.getGeneratedQualifiedClassname()));
-        writeSourceFile(typeSpec, createDataModel(typeSpec, methodSpecifications));
+            default:
+                return new FreemarkerSourceRenderer();
+        }
     }
 
-    private Map<Object, Object> createDataModel(TypeSpec typeSpec, List<MethodSpec> methodSpecifications) {
-        final Map<Object, Object> dataModel = new HashMap<Object, Object>();
-        dataModel.put("licensetext", LICENSE_NAME);
-        dataModel.put("packagename", typeSpec.getGeneratedPackagename());
-        dataModel.put("originatingAnnotationName", typeSpec.getOriAnnotationname());
-        dataModel.put("originatingAnnotationComments", typeSpec.getOriAnnotationComment());
-        dataModel.put("classname", typeSpec.getGeneratedSimpleClassname());
-        dataModel.put("originatingClassnameWithGenerics", typeSpec.getFQOriClassnameWithGenerics());
-        dataModel.put("originatingClassname", typeSpec.getFQOriClassname());
-        dataModel.put("methodSpecifications", methodSpecifications);
-        return dataModel;
+    /**
+     * Renders the given model. Can be called from any thread.
+     */
+    public void render(TypeModel typeModel, Writer writer) throws IOException {
+        final ProcessorStatistics statistics = util.getStatistics();
+        final long start = statistics.start();
+        try {
+            renderer.render(typeModel, writer);
+        } finally {
+            statistics.stop(ProcessorStatistics.Phase.RENDERING, start);
+        }
     }
 
-    private void writeSourceFile(TypeSpec classInfo, Map<Object, Object> dataModel) throws IOException {
-        final Template template = configuration.getTemplate(TEMPLATE_NAME);
-        final JavaFileObject jfo = createJFO(classInfo);
+    public void writeSourceFile(TypeSpec typeSpec, TypeModel typeModel) throws IOException {
+        printGeneratingNote(typeModel.getQualifiedClassname());
 
+        final JavaFileObject jfo = createJFO(typeSpec);
         final Writer writer = jfo.openWriter();
         try {
-            template.process(dataModel, writer);
+            renderer.render(typeModel, writer);
             writer.flush();
-        } catch (TemplateException ex) {
-            throw new IOException(ex);
         } finally {
             writer.close();
         }
     }
 
+    public void writeSourceFile(TypeSpec typeSpec, String qualifiedClassname, String source) throws IOException {
+        printGeneratingNote(qualifiedClassname);
+
+        final ProcessorStatistics statistics = util.getStatistics();
+        final long start = statistics.start();
+        try {
+            final JavaFileObject jfo = createJFO(typeSpec);
+            final Writer writer = jfo.openWriter();
+            try {
+                writer.write(source);
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } finally {
+            statistics.stop(ProcessorStatistics.Phase.FILER_IO, start);
+        }
+    }
+
+    private void printGeneratingNote(String qualifiedClassname) {
+        if (util.getStatistics().isEnabled()) {
+            return; //summarized by the statistics report
+        }
+        util.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format("Generating %s...", qualifiedClassname));
+    }
+
     private JavaFileObject createJFO(TypeSpec classInfo) throws IOException {
         return util.getFiler().createSourceFile(classInfo.getGeneratedQualifiedClassname(),
-                classInfo.getOriginatingElement(), classInfo.getTypeElement());
+                classInfo.getOriginatingElements());
     }
 }
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.cache;
+
+import com.google.common.base.Charsets;
+import com.google.common.primitives.UnsignedBytes;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.*;
+
+/**
+ * Persistent cache of generated sources, shared between builds.
+ *
+ * <p>The cache consists of two files:
+ * <ul>
+ * <li>{@code rx-codegen-cache-<generation>.dat}: the UTF-8 encoded sources, appended one
+ * after another.</li>
+ * <li>{@code rx-codegen-cache.idx}: a header ({@code magic, version, generation, entryCount})
+ * followed by fixed-size entries ({@code key[20], offset:long, length:int}) sorted by key.
+ * The index is memory-mapped and searched binary, so a lookup costs
+ * {@code O(log n)} without reading the whole index.</li>
+ * </ul>
+ *
+ * <p>New entries are kept in memory and appended by {@link #close()} under a file lock,
+ * which also merges the entries other builds have written in the meantime.
+ *
+ * <p>Readers do not lock. A data file is only appended to, and the index is replaced by a
+ * rename after the data is written. If the data file grows too large, the entries are
+ * written to the data file of the next generation, which becomes visible only with the
+ * index pointing to it. So an index is never read against the data of another generation.
+ *
+ * @author Matthias
+ */
+public class SourceCache {
+
+    public static final int KEY_LENGTH = 20;
+
+    private static final String INDEX_FILE_NAME = "rx-codegen-cache.idx";
+    private static final String DATA_FILE_PREFIX = "rx-codegen-cache";
+    private static final String DATA_FILE_SUFFIX = ".dat";
+    private static final String LOCK_FILE_NAME = "rx-codegen-cache.lock";
+
+    private static final int MAGIC = 0x52584347; //RXCG
+    private static final int VERSION = 2;
+    private static final int HEADER_LENGTH = 16;
+    private static final int ENTRY_LENGTH = KEY_LENGTH + 8 + 4;
+    private static final long MAX_DATA_LENGTH = 256L * 1024 * 1024; //next generation if the data file grows beyond
+
+    private static final Comparator<byte[]> KEY_COMPARATOR = UnsignedBytes.lexicographicalComparator();
+
+    private final File directory;
+    private final ByteBuffer index; //read-only view of the index file
+    private final ByteBuffer data; //read-only view of the data file
+    private final int entryCount;
+    private final SortedMap<byte[], String> newEntries;
+
+    private long hitCount;
+    private long missCount;
+
+    private SourceCache(File directory, ByteBuffer index, ByteBuffer data) {
+        this.directory = directory;
+        this.index = index;
+        this.data = data;
+        this.entryCount = readEntryCount(index);
+        this.newEntries = new TreeMap<byte[], String>(KEY_COMPARATOR);
+    }
+
+    public static SourceCache open(File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException(String.format("Cannot create cache directory '%s'", directory));
+        }
+
+        try {
+            // the index is written after the data, so every indexed entry is readable
+            final MappedByteBuffer index = map(new File(directory, INDEX_FILE_NAME));
+            if (readEntryCount(index) > 0) {
+                final MappedByteBuffer data = map(getDataFile(directory, readGeneration(index)));
+                return new SourceCache(directory, index, data);
+            }
+        } catch (FileNotFoundException ex) {
+            //no cache yet or replaced by another build in the meantime
+        }
+        return new SourceCache(directory, ByteBuffer.allocate(0), ByteBuffer.allocate(0));
+    }
+
+    private static File getDataFile(File directory, int generation) {
+        return new File(directory, DATA_FILE_PREFIX + "-" + generation + DATA_FILE_SUFFIX);
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close(); //the mapping stays valid
+        }
+    }
+
+    private static int readEntryCount(ByteBuffer index) {
+        if (index.capacity() < HEADER_LENGTH
+                || index.getInt(0) != MAGIC
+                || index.getInt(4) != VERSION) {
+            return 0; //empty or incompatible
+        }
+
+        final int count = index.getInt(12);
+        if (count < 0 || HEADER_LENGTH + (long) count * ENTRY_LENGTH > index.capacity()) {
+            return 0; //corrupt
+        }
+        return count;
+    }
+
+    private static int readGeneration(ByteBuffer index) {
+        return index.getInt(8);
+    }
+
+    public synchronized String get(byte[] key) {
+        checkKey(key);
+
+        String ret = newEntries.get(key);
+        if (ret == null) {
+            ret = readEntry(key);
+        }
+
+        if (ret != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return ret;
+    }
+
+    public synchronized void put(byte[] key, String source) {
+        checkKey(key);
+        newEntries.put(key.clone(), source);
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static void checkKey(byte[] key) {
+        if (key.length != KEY_LENGTH) {
+            throw new IllegalArgumentException(String.format("Key must have %d bytes", KEY_LENGTH));
+        }
+    }
+
+    private String readEntry(byte[] key) {
+        final int position = binarySearch(index, entryCount, key);
+        if (position < 0) {
+            return null;
+        }
+
+        final long offset = index.getLong(position + KEY_LENGTH);
+        final int length = index.getInt(position + KEY_LENGTH + 8);
+        if (offset < 0 || length < 0 || offset + length > data.capacity()) {
+            return null; //corrupt entry
+        }
+
+        final byte[] bytes = new byte[length];
+        final ByteBuffer view = data.duplicate();
+        view.position((int) offset);
+        view.get(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    /**
+     * @return the position of the entry in the index or {@code -1}
+     */
+    private static int binarySearch(ByteBuffer index, int entryCount, byte[] key) {
+        final byte[] current = new byte[KEY_LENGTH];
+        final ByteBuffer view = index.duplicate();
+
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int position = HEADER_LENGTH + mid * ENTRY_LENGTH;
+            view.position(position);
+            view.get(current);
+
+            final int dif = KEY_COMPARATOR.compare(current, key);
+            if (dif < 0) {
+                low = mid + 1;
+            } else if (dif > 0) {
+                high = mid - 1;
+            } else {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes all new entries to disk.
+     */
+    public synchronized void close() throws IOException {
+        if (newEntries.isEmpty()) {
+            return;
+        }
+
+        final RandomAccessFile lockFile = new RandomAccessFile(new File(directory, LOCK_FILE_NAME), "rw");
+        try {
+            final FileLock lock = lockFile.getChannel().lock();
+            try {
+                writeEntries();
+            } finally {
+                lock.release();
+            }
+        } finally {
+            lockFile.close();
+        }
+        newEntries.clear();
+    }
+
+    private void writeEntries() throws IOException {
+        final File indexFile = new File(directory, INDEX_FILE_NAME);
+
+        // re-read the current index, other builds may have written to it since we opened it
+        final SortedMap<byte[], long[]> entries = new TreeMap<byte[], long[]>(KEY_COMPARATOR);
+        final int currentGeneration = readIndex(directory, indexFile, entries);
+        int generation = currentGeneration;
+        File dataFile = getDataFile(directory, generation);
+        if (dataFile.length() > MAX_DATA_LENGTH) {
+            // readers of the current index keep reading the current data file
+            entries.clear();
+            generation++;
+            dataFile = getDataFile(directory, generation);
+            if (dataFile.exists() && !dataFile.delete()) { //left over by an aborted build, not indexed
+                throw new IOException(String.format("Cannot reset cache file '%s'", dataFile));
+            }
+        }
+
+        // append sources
+        final RandomAccessFile dataRaf = new RandomAccessFile(dataFile, "rw");
+        try {
+            long offset = dataRaf.length();
+            dataRaf.seek(offset);
+            for (Map.Entry<byte[], String> entry : newEntries.entrySet()) {
+                if (entries.containsKey(entry.getKey())) {
+                    continue; //written by someone else
+                }
+
+                final byte[] bytes = entry.getValue().getBytes(Charsets.UTF_8);
+                dataRaf.write(bytes);
+                entries.put(entry.getKey(), new long[]{offset, bytes.length});
+                offset += bytes.length;
+            }
+            dataRaf.getFD().sync();
+        } finally {
+            dataRaf.close();
+        }
+
+        // write index
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + entries.size() * ENTRY_LENGTH);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(generation).putInt(entries.size());
+        for (Map.Entry<byte[], long[]> entry : entries.entrySet()) {
+            buffer.put(entry.getKey()).putLong(entry.getValue()[0]).putInt((int) entry.getValue()[1]);
+        }
+        buffer.flip();
+
+        final File tmpFile = new File(directory, INDEX_FILE_NAME + ".tmp");
+        final RandomAccessFile indexRaf = new RandomAccessFile(tmpFile, "rw");
+        try {
+            indexRaf.setLength(0);
+            indexRaf.getChannel().write(buffer);
+        } finally {
+            indexRaf.close();
+        }
+
+        // a reader finding no index while it is replaced only misses
+        if (!tmpFile.renameTo(indexFile) && !(indexFile.delete() && tmpFile.renameTo(indexFile))) {
+            throw new IOException(String.format("Cannot write cache index '%s'", indexFile));
+        }
+
+        if (generation != currentGeneration) {
+            deleteOtherDataFiles(generation);
+        }
+    }
+
+    /**
+     * Deletes the data files no index points to anymore. A reader which still maps such a file
+     * keeps its mapping; one which has not mapped it yet finds no file and misses.
+     */
+    private void deleteOtherDataFiles(int generation) {
+        final String dataFileName = getDataFile(directory, generation).getName();
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            final String name = file.getName();
+            if (name.startsWith(DATA_FILE_PREFIX) && name.endsWith(DATA_FILE_SUFFIX) && !name.equals(dataFileName)) {
+                file.delete(); //may fail while mapped, retried with the next generation
+            }
+        }
+    }
+
+    /**
+     * @return the generation of the index, {@code 0} if there is no valid index
+     */
+    private static int readIndex(File directory, File indexFile, Map<byte[], long[]> entries) throws IOException {
+        if (!indexFile.isFile()) {
+            return 0;
+        }
+
+        final RandomAccessFile raf = new RandomAccessFile(indexFile, "r");
+        try {
+            final ByteBuffer index = ByteBuffer.allocate((int) raf.length());
+            raf.getChannel().read(index, 0);
+
+            final int count = readEntryCount(index);
+            if (count == 0) {
+                return 0;
+            }
+
+            final int generation = readGeneration(index);
+            final long dataLength = getDataFile(directory, generation).length();
+            for (int i = 0; i < count; i++) {
+                final int position = HEADER_LENGTH + i * ENTRY_LENGTH;
+                final byte[] key = new byte[KEY_LENGTH];
+                index.position(position);
+                index.get(key);
+
+                final long offset = index.getLong(position + KEY_LENGTH);
+                final int length = index.getInt(position + KEY_LENGTH + 8);
+                if (offset >= 0 && length >= 0 && offset + length <= dataLength) {
+                    entries.put(key, new long[]{offset, length});
+                }
+            }
+            return generation;
+        } finally {
+            raf.close();
+        }
+    }
+}
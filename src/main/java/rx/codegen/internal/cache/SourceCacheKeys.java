@@ -0,0 +1,239 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.cache;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Resources;
+import rx.codegen.internal.spec.TypeSpec;
+import rx.codegen.internal.spec.method.WrapperRegistry;
+import rx.codegen.internal.util.CodegenUtil;
+
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Creates the {@link SourceCache} keys of generated classes.
+ *
+ * <p>A key identifies the binary of the referenced class (hash of its class file,
+ * or the JDK version for platform classes), the effective {@code @Option}s, the
+ * output related processor options and the generator itself. Classes of the current
+ * compilation have no stable binary identity and are never cached. With inherited
+ * methods, the key covers all supertypes and the generated classes the inherited
+ * methods are delegated to.
+ *
+ * @author Matthias
+ */
+public class SourceCacheKeys {
+
+    private static final String KEY_FORMAT_VERSION = "1";
+    private static final String[] GENERATOR_RESOURCES = {
+        "/rx/codegen/internal/classtemplate.ftl",
+        "/rx/codegen/internal/license.txt"
+    };
+    private static final String[] PLATFORM_PACKAGE_PREFIXES = {"java.", "javax.", "jdk."};
+
+    private final CodegenUtil util;
+    private final String environment;
+    private final Set<String> sourceTypeNames;
+
+    public SourceCacheKeys(CodegenUtil util, SourceVersion sourceVersion, Map<String, String> outputOptions) {
+        this.util = util;
+        this.environment = createEnvironment(sourceVersion, outputOptions);
+        this.sourceTypeNames = new HashSet<String>();
+    }
+
+    private static String createEnvironment(SourceVersion sourceVersion, Map<String, String> outputOptions) {
+        final StringBuilder ret = new StringBuilder();
+        ret.append(KEY_FORMAT_VERSION).append('|').append(createGeneratorFingerprint());
+        ret.append('|').append(sourceVersion);
+        ret.append('|').append(new TreeMap<String, String>(outputOptions));
+        return ret.toString();
+    }
+
+    private static String createGeneratorFingerprint() {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        for (String resource : GENERATOR_RESOURCES) {
+            try {
+                hasher.putBytes(Resources.toByteArray(SourceCacheKeys.class.getResource(resource)));
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        // changes of the processor itself
+        final CodeSource codeSource = SourceCacheKeys.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            final URL location = codeSource.getLocation();
+            hasher.putString(location.toString(), Charsets.UTF_8);
+            try {
+                final File file = new File(location.toURI());
+                hasher.putLong(file.length()).putLong(file.lastModified());
+            } catch (URISyntaxException ex) {
+                //ignore
+            } catch (IllegalArgumentException ex) {
+                //not a file
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Registers the root elements of the current round, which are part of the compilation.
+     */
+    public void addRootElements(Set<? extends Element> rootElements) {
+        for (Element rootElement : rootElements) {
+            if (rootElement instanceof TypeElement) {
+                sourceTypeNames.add(((TypeElement) rootElement).getQualifiedName().toString());
+            }
+        }
+    }
+
+    /**
+     * @param wrappers {@code null} if inherited methods are not delegated
+     * @return the key or {@code null} if the generated class of the given spec cannot be cached
+     */
+    public byte[] createKey(TypeSpec typeSpec, WrapperRegistry wrappers) {
+        final TypeElement typeElement = typeSpec.getTypeElement();
+        final String binaryIdentity = getBinaryIdentity(typeElement);
+        if (binaryIdentity == null) {
+            return null;
+        }
+
+        final SortedMap<String, String> key = new TreeMap<String, String>();
+        key.put("environment", environment);
+        key.put("binary", binaryIdentity);
+        key.put("type", util.getElementUtils().getBinaryName(typeElement).toString());
+        key.put("generatedClassname", typeSpec.getGeneratedQualifiedClassname());
+        key.put("annotation", typeSpec.getOriAnnotationname());
+        key.put("options", String.valueOf(typeSpec.getOptions()));
+        if (typeSpec.generateUnboxed()) {
+            key.put("unboxedFunctions", String.valueOf(util.isUnboxedFunctionsAvailable()));
+        }
+        key.put("memoizedFunctions", String.valueOf(util.findMemoizedFunction(1) != null));
+
+        if (typeSpec.includeInherited()) {
+            for (TypeElement supertype : util.getAllSupertypes(typeElement)) {
+                final String supertypeIdentity = getBinaryIdentity(supertype);
+                if (supertypeIdentity == null) {
+                    return null;
+                }
+                key.put("supertype:" + util.getElementUtils().getBinaryName(supertype),
+                        supertypeIdentity + "|" + (wrappers != null ? wrappers.getFingerprint(supertype) : null));
+            }
+        }
+
+        return Hashing.sha1().hashString(key.toString(), Charsets.UTF_8).asBytes();
+    }
+
+    private String getBinaryIdentity(TypeElement typeElement) {
+        final TypeElement topLevelType = getTopLevelType(typeElement);
+        final String packageName = util.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+
+        if (sourceTypeNames.contains(topLevelType.getQualifiedName().toString())
+                || exists(StandardLocation.SOURCE_PATH, packageName, topLevelType.getSimpleName() + ".java")) {
+            return null; //part of the compilation
+        }
+
+        final String binaryName = util.getElementUtils().getBinaryName(typeElement).toString();
+        final String classFileName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + ".class";
+
+        byte[] classFile = read(StandardLocation.CLASS_PATH, packageName, classFileName);
+        if (classFile == null) {
+            classFile = read(StandardLocation.PLATFORM_CLASS_PATH, packageName, classFileName);
+        }
+
+        if (classFile != null) {
+            return "class:" + Hashing.sha1().hashBytes(classFile);
+        } else if (isPlatformPackage(packageName)) {
+            return String.format("platform:%s:%s", System.getProperty("java.vendor"), System.getProperty("java.runtime.version"));
+        }
+        return null; //unknown origin
+    }
+
+    private static TypeElement getTopLevelType(TypeElement typeElement) {
+        TypeElement ret = typeElement;
+        Element enclosing = typeElement.getEnclosingElement();
+        while (enclosing != null && enclosing.getKind() != ElementKind.PACKAGE) {
+            if (enclosing instanceof TypeElement) {
+                ret = (TypeElement) enclosing;
+            }
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return ret;
+    }
+
+    private static boolean isPlatformPackage(String packageName) {
+        for (String prefix : PLATFORM_PACKAGE_PREFIXES) {
+            if (packageName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean exists(JavaFileManager.Location location, String packageName, String relativeName) {
+        return getResource(location, packageName, relativeName) != null;
+    }
+
+    private byte[] read(JavaFileManager.Location location, String packageName, String relativeName) {
+        final FileObject resource = getResource(location, packageName, relativeName);
+        if (resource == null) {
+            return null;
+        }
+
+        try {
+            final InputStream in = resource.openInputStream();
+            try {
+                return ByteStreams.toByteArray(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private FileObject getResource(JavaFileManager.Location location, String packageName, String relativeName) {
+        try {
+            return util.getFiler().getResource(location, packageName, relativeName);
+        } catch (IOException ex) {
+            return null; //not found
+        } catch (IllegalArgumentException ex) {
+            return null; //location not supported
+        } catch (IllegalStateException ex) {
+            return null; //location not supported
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * One {@code call} method of a {@link DispatcherModel} and the methods dispatched by it.
+ *
+ * @author Matthias
+ */
+public final class DispatchCallModel {
+
+    private final String interfacename;
+    private final int arity;
+    private final List<MethodModel> methods;
+
+    DispatchCallModel(String interfacename, int arity, List<MethodModel> methods) {
+        this.interfacename = interfacename;
+        this.arity = arity;
+        this.methods = ImmutableList.copyOf(methods);
+    }
+
+    /**
+     * @return the raw interface, e.g. {@code Func2} or {@code ActionN}
+     */
+    public String getInterfacename() {
+        return interfacename;
+    }
+
+    /**
+     * @return the number of parameters of the call method, {@code -1} for {@code FuncN} and {@code ActionN}
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    public boolean isVarargs() {
+        return arity < 0;
+    }
+
+    public List<MethodModel> getMethods() {
+        return methods;
+    }
+}
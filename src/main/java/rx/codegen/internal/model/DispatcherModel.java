@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * A shared class of a generated type in {@link rx.codegen.ImplementationStrategy#DISPATCH_TABLE}
+ * mode. It implements the raw {@code FuncN} or {@code ActionN} interfaces of all its
+ * methods and dispatches on the method id.
+ *
+ * @author Matthias
+ */
+public final class DispatcherModel {
+
+    private final boolean action;
+    private final String classname;
+    private final int size;
+    private final List<DispatchCallModel> calls;
+
+    DispatcherModel(boolean action, String classname, int size, List<DispatchCallModel> calls) {
+        this.action = action;
+        this.classname = classname;
+        this.size = size;
+        this.calls = ImmutableList.copyOf(calls);
+    }
+
+    public boolean isAction() {
+        return action;
+    }
+
+    public String getClassname() {
+        return classname;
+    }
+
+    /**
+     * @return the number of method ids
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the implemented call methods, ordered by arity
+     */
+    public List<DispatchCallModel> getCalls() {
+        return calls;
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+import com.google.common.collect.ImmutableList;
+import rx.codegen.internal.spec.method.CalledType;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a {@link rx.codegen.internal.spec.MethodSpec}.
+ *
+ * @author Matthias
+ */
+public final class MethodModel {
+
+    private final boolean action;
+    private final CalledType calledType;
+    private final String javadoc;
+    private final String modifier;
+    private final List<String> genericsDecl;
+    private final List<VariableModel> parameters;
+    private final String generatedMethodname;
+    private final String calledMethodname;
+    private final String returnTypeOfCallMethod;
+    private final String erasedReturnTypeOfCallMethod;
+    private final String delegateClassname;
+    private final String delegateMethodname;
+    private final boolean overloaded;
+    private final String dispatcherClassname;
+    private final int dispatchId;
+    private final String unboxedFunctionType;
+    private final String erasedUnboxedFunctionType;
+    private final boolean operator;
+    private final String asyncClassname;
+    private final boolean batch;
+    private final String bulkMethodname;
+    private final String memoizedFunctionType;
+    private final int cacheSize;
+    private final String handleReturnType;
+
+    private MethodModel(Builder builder) {
+        this.action = builder.action;
+        this.calledType = builder.calledType;
+        this.javadoc = builder.javadoc;
+        this.modifier = builder.modifier;
+        this.genericsDecl = ImmutableList.copyOf(builder.genericsDecl);
+        this.parameters = ImmutableList.copyOf(builder.parameters);
+        this.generatedMethodname = builder.generatedMethodname;
+        this.calledMethodname = builder.calledMethodname;
+        this.returnTypeOfCallMethod = builder.returnTypeOfCallMethod;
+        this.erasedReturnTypeOfCallMethod = builder.erasedReturnTypeOfCallMethod;
+        this.delegateClassname = builder.delegateClassname;
+        this.delegateMethodname = builder.delegateMethodname;
+        this.overloaded = builder.overloaded;
+        this.dispatcherClassname = builder.dispatcherClassname;
+        this.dispatchId = builder.dispatchId;
+        this.unboxedFunctionType = builder.unboxedFunctionType;
+        this.erasedUnboxedFunctionType = builder.erasedUnboxedFunctionType;
+        this.operator = builder.operator;
+        this.asyncClassname = builder.asyncClassname;
+        this.batch = builder.batch;
+        this.bulkMethodname = builder.bulkMethodname;
+        this.memoizedFunctionType = builder.memoizedFunctionType;
+        this.cacheSize = builder.cacheSize;
+        this.handleReturnType = builder.handleReturnType;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder for a variant of this method, which makes the same call under the
+     * generated name plus the given suffix. It is neither delegated, dispatched, memoized nor
+     * called through a handle.
+     */
+    Builder variant(String suffix) {
+        return new Builder()
+                .action(action)
+                .calledType(calledType)
+                .javadoc(javadoc)
+                .modifier(modifier)
+                .genericsDecl(genericsDecl)
+                .parameters(parameters)
+                .generatedMethodname(generatedMethodname + suffix)
+                .calledMethodname(calledMethodname)
+                .returnTypeOfCallMethod(returnTypeOfCallMethod)
+                .erasedReturnTypeOfCallMethod(erasedReturnTypeOfCallMethod)
+                .overloaded(overloaded);
+    }
+
+    public boolean isAction() {
+        return action;
+    }
+
+    public CalledType getCalledType() {
+        return calledType;
+    }
+
+    public String getJavadoc() {
+        return javadoc;
+    }
+
+    public String getModifier() {
+        return modifier;
+    }
+
+    public List<String> getGenericsDecl() {
+        return genericsDecl;
+    }
+
+    public List<VariableModel> getParameters() {
+        return parameters;
+    }
+
+    public String getGeneratedMethodname() {
+        return generatedMethodname;
+    }
+
+    public String getCalledMethodname() {
+        return calledMethodname;
+    }
+
+    public String getReturnTypeOfCallMethod() {
+        return returnTypeOfCallMethod;
+    }
+
+    public String getErasedReturnTypeOfCallMethod() {
+        return erasedReturnTypeOfCallMethod;
+    }
+
+    /**
+     * @return {@code true} if the Action or Func captures no state, it is created once and
+     * returned by every call of the generated method
+     */
+    public boolean isSingleton() {
+        return !isDelegated() && !operator && !isAsync() && !batch && !isMemoized() && (!calledType.isObjectMethodCall() || parameters.isEmpty());
+    }
+
+    /**
+     * @return {@code true} if the singleton has to be declared with erased types, because
+     * the generated method declares type variables
+     */
+    public boolean isErasedSingleton() {
+        return isSingleton() && !genericsDecl.isEmpty();
+    }
+
+    public boolean isDelegated() {
+        return delegateClassname != null;
+    }
+
+    public String getDelegateClassname() {
+        return delegateClassname;
+    }
+
+    public String getDelegateMethodname() {
+        return delegateMethodname;
+    }
+
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * @return {@code true} if a lambda can be replaced by a method reference. Method references
+     * to overloaded methods may be ambiguous or resolve to another overload than the call with
+     * casts, and {@code FuncN}/{@code ActionN} pass an array.
+     */
+    public boolean isMethodReference() {
+        if (overloaded || parameters.size() > 9) {
+            return false;
+        }
+        return !calledType.isObjectMethodCall() || parameters.isEmpty();
+    }
+
+    /**
+     * @return the name of the lambda parameter receiving the object, it must not clash with a
+     * captured parameter
+     */
+    public String getReceiverName() {
+        return getUnusedName("obj");
+    }
+
+    /**
+     * @return the given name or, if a captured parameter has this name, the name with a
+     * {@code $} suffix
+     */
+    public String getUnusedName(String name) {
+        for (VariableModel parameter : parameters) {
+            if (parameter.getName().equals(name)) {
+                return name + "$";
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @return {@code true} if the Action or Func is implemented by a shared dispatcher class
+     * of the generated type
+     */
+    public boolean isDispatched() {
+        return dispatcherClassname != null;
+    }
+
+    public String getDispatcherClassname() {
+        return dispatcherClassname;
+    }
+
+    public int getDispatchId() {
+        return dispatchId;
+    }
+
+    /**
+     * @return {@code true} if the method returns a primitive-specialized function instead of a
+     * Func or Action, its parameters and the return type of the call method are not boxed
+     */
+    public boolean isUnboxed() {
+        return unboxedFunctionType != null;
+    }
+
+    /**
+     * @return the returned primitive-specialized function with its type arguments or
+     * {@code null}
+     */
+    public String getUnboxedFunctionType() {
+        return unboxedFunctionType;
+    }
+
+    public String getErasedUnboxedFunctionType() {
+        return erasedUnboxedFunctionType;
+    }
+
+    /**
+     * @return {@code true} if the method returns an {@code Observable.Operator}, which calls the
+     * method of every item in {@code onNext}. It emits the results, or the items themselves for
+     * void methods.
+     */
+    public boolean isOperator() {
+        return operator;
+    }
+
+    /**
+     * @return {@code true} if the method takes a {@code Scheduler} and returns a Func, whose
+     * {@code Observable} or {@code Single} makes the call on that scheduler
+     */
+    public boolean isAsync() {
+        return asyncClassname != null;
+    }
+
+    /**
+     * @return {@code rx.Observable}, {@code rx.Single} or {@code null}
+     */
+    public String getAsyncClassname() {
+        return asyncClassname;
+    }
+
+    /**
+     * @return the {@code Observable} or {@code Single} returned by the Func of an async method
+     */
+    public String getAsyncReturnType() {
+        return asyncClassname + "<" + (action ? "Void" : returnTypeOfCallMethod) + ">";
+    }
+
+    /**
+     * @return {@code true} if the method returns a Func or Action for a list of items. The items
+     * are the objects of instance methods, otherwise the only parameter.
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * @return the static method called with the whole list instead of the loop or {@code null}
+     */
+    public String getBulkMethodname() {
+        return bulkMethodname;
+    }
+
+    /**
+     * @return {@code true} if the method returns a shared memoizing function of the runtime,
+     * which caches the results of the static method
+     */
+    public boolean isMemoized() {
+        return memoizedFunctionType != null;
+    }
+
+    /**
+     * @return the returned memoizing function with its type arguments or {@code null}
+     */
+    public String getMemoizedFunctionType() {
+        return memoizedFunctionType;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * @return {@code true} if the member is not accessible from the generated class and is called
+     * through a {@code MethodHandle}, which is looked up once
+     */
+    public boolean isMethodHandle() {
+        return handleReturnType != null;
+    }
+
+    /**
+     * @return the erased return type of the {@code MethodHandle}, primitive types are not boxed
+     */
+    public String getHandleReturnType() {
+        return handleReturnType;
+    }
+
+    /**
+     * @return the number of parameters of the implemented call method, {@code -1} for
+     * {@code FuncN} and {@code ActionN}
+     */
+    public int getDispatchArity() {
+        if (calledType.isObjectMethodCall()) {
+            return 1;
+        }
+        return parameters.size() > 9 ? -1 : parameters.size();
+    }
+
+    /**
+     * Unset properties keep their defaults: {@code null}, {@code false}, {@code 0} and
+     * {@code -1} for the dispatch id.
+     */
+    static final class Builder {
+
+        private boolean action;
+        private CalledType calledType;
+        private String javadoc;
+        private String modifier;
+        private List<String> genericsDecl;
+        private List<VariableModel> parameters;
+        private String generatedMethodname;
+        private String calledMethodname;
+        private String returnTypeOfCallMethod;
+        private String erasedReturnTypeOfCallMethod;
+        private String delegateClassname;
+        private String delegateMethodname;
+        private boolean overloaded;
+        private String dispatcherClassname;
+        private int dispatchId = -1;
+        private String unboxedFunctionType;
+        private String erasedUnboxedFunctionType;
+        private boolean operator;
+        private String asyncClassname;
+        private boolean batch;
+        private String bulkMethodname;
+        private String memoizedFunctionType;
+        private int cacheSize;
+        private String handleReturnType;
+
+        Builder action(boolean action) {
+            this.action = action;
+            return this;
+        }
+
+        Builder calledType(CalledType calledType) {
+            this.calledType = calledType;
+            return this;
+        }
+
+        Builder javadoc(String javadoc) {
+            this.javadoc = javadoc;
+            return this;
+        }
+
+        Builder modifier(String modifier) {
+            this.modifier = modifier;
+            return this;
+        }
+
+        Builder genericsDecl(List<String> genericsDecl) {
+            this.genericsDecl = genericsDecl;
+            return this;
+        }
+
+        Builder parameters(List<VariableModel> parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
+        Builder generatedMethodname(String generatedMethodname) {
+            this.generatedMethodname = generatedMethodname;
+            return this;
+        }
+
+        Builder calledMethodname(String calledMethodname) {
+            this.calledMethodname = calledMethodname;
+            return this;
+        }
+
+        Builder returnTypeOfCallMethod(String returnTypeOfCallMethod) {
+            this.returnTypeOfCallMethod = returnTypeOfCallMethod;
+            return this;
+        }
+
+        Builder erasedReturnTypeOfCallMethod(String erasedReturnTypeOfCallMethod) {
+            this.erasedReturnTypeOfCallMethod = erasedReturnTypeOfCallMethod;
+            return this;
+        }
+
+        Builder delegateClassname(String delegateClassname) {
+            this.delegateClassname = delegateClassname;
+            return this;
+        }
+
+        Builder delegateMethodname(String delegateMethodname) {
+            this.delegateMethodname = delegateMethodname;
+            return this;
+        }
+
+        Builder overloaded(boolean overloaded) {
+            this.overloaded = overloaded;
+            return this;
+        }
+
+        Builder dispatcherClassname(String dispatcherClassname) {
+            this.dispatcherClassname = dispatcherClassname;
+            return this;
+        }
+
+        Builder dispatchId(int dispatchId) {
+            this.dispatchId = dispatchId;
+            return this;
+        }
+
+        Builder unboxedFunctionType(String unboxedFunctionType) {
+            this.unboxedFunctionType = unboxedFunctionType;
+            return this;
+        }
+
+        Builder erasedUnboxedFunctionType(String erasedUnboxedFunctionType) {
+            this.erasedUnboxedFunctionType = erasedUnboxedFunctionType;
+            return this;
+        }
+
+        Builder operator(boolean operator) {
+            this.operator = operator;
+            return this;
+        }
+
+        Builder asyncClassname(String asyncClassname) {
+            this.asyncClassname = asyncClassname;
+            return this;
+        }
+
+        Builder batch(boolean batch) {
+            this.batch = batch;
+            return this;
+        }
+
+        Builder bulkMethodname(String bulkMethodname) {
+            this.bulkMethodname = bulkMethodname;
+            return this;
+        }
+
+        Builder memoizedFunctionType(String memoizedFunctionType) {
+            this.memoizedFunctionType = memoizedFunctionType;
+            return this;
+        }
+
+        Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        Builder handleReturnType(String handleReturnType) {
+            this.handleReturnType = handleReturnType;
+            return this;
+        }
+
+        MethodModel build() {
+            return new MethodModel(this);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+import com.google.common.base.Joiner;
+import rx.codegen.AsyncType;
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.internal.spec.MethodSpec;
+import rx.codegen.internal.spec.TypeSpec;
+import rx.codegen.internal.spec.method.VariableSpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Turns the live specs into the immutable render model. Every getter of a spec
+ * is called exactly once here.
+ *
+ * @author Matthias
+ */
+public abstract class ModelFactory {
+
+    private static final String FUNC_DISPATCHER = "Func$Dispatch";
+    private static final String ACTION_DISPATCHER = "Action$Dispatch";
+    private static final String UNBOXED_SUFFIX = "$Unboxed";
+    private static final String OPERATOR_SUFFIX = "$Operator";
+    private static final String ASYNC_SUFFIX = "$Async";
+    private static final String BATCH_SUFFIX = "$Batch";
+
+    public static final int MAX_HANDLE_PARAMETERS = 9;
+
+    /**
+     * Members which are called through a method handle must be supported, see
+     * {@link #isCalledThroughMethodHandle(TypeSpec, MethodSpec)}.
+     *
+     * @param lambdas {@code true} if lambdas and method references are supported, they replace the
+     * anonymous classes of {@link ImplementationStrategy#ANONYMOUS_CLASSES}
+     */
+    public static TypeModel createTypeModel(TypeSpec typeSpec, List<MethodSpec> methodSpecs, boolean lambdas) {
+        final ImplementationStrategy strategy = typeSpec.getImplementationStrategy();
+        final int[] dispatchIds = strategy == ImplementationStrategy.DISPATCH_TABLE
+                ? new int[2] //next ids of the func and action dispatcher
+                : null;
+
+        final String oriClassnameWithGenerics = typeSpec.getFQOriClassnameWithGenerics();
+        final String oriClassname = typeSpec.getFQOriClassname();
+        final boolean unboxed = typeSpec.generateUnboxed();
+        final boolean operators = typeSpec.generateOperators();
+        final AsyncType asyncType = typeSpec.getAsyncType();
+        final boolean batches = typeSpec.generateBatches();
+        final boolean directAccess = isDirectAccess(typeSpec);
+
+        final List<MethodModel> methods = new ArrayList<MethodModel>(methodSpecs.size());
+        for (MethodSpec methodSpec : methodSpecs) {
+            final MethodModel method = createMethodModel(methodSpec, dispatchIds, directAccess);
+            methods.add(method);
+            if (method.isMethodHandle()) {
+                continue; // the call goes through the handle, variants are not generated
+            }
+
+            final String unboxedFunction = unboxed ? methodSpec.getUnboxedFunction() : null;
+            if (unboxedFunction != null) {
+                methods.add(createUnboxedMethodModel(method, unboxedFunction, methodSpec.getUnboxedReturnTypeOfCallMethod(),
+                        oriClassnameWithGenerics, oriClassname));
+            }
+            if (operators && method.getCalledType().isObjectMethodCall()) {
+                methods.add(createOperatorMethodModel(method));
+            }
+
+            final AsyncType methodAsyncType = methodSpec.getAsyncType();
+            if (methodAsyncType != AsyncType.NONE || asyncType != AsyncType.NONE) {
+                methods.add(createAsyncMethodModel(method, methodAsyncType != AsyncType.NONE ? methodAsyncType : asyncType));
+            }
+
+            if (batches && (method.getCalledType().isObjectMethodCall() || method.getParameters().size() == 1)) {
+                methods.add(createBatchMethodModel(method, methodSpec.getBulkMethodname()));
+            }
+        }
+
+        final List<DispatcherModel> dispatchers = new ArrayList<DispatcherModel>(2);
+        if (dispatchIds != null) {
+            addDispatcher(dispatchers, methods, false, dispatchIds[0]);
+            addDispatcher(dispatchers, methods, true, dispatchIds[1]);
+        }
+
+        return new TypeModel(typeSpec.getGeneratedPackagename(),
+                typeSpec.getGeneratedSimpleClassname(),
+                typeSpec.getGeneratedQualifiedClassname(),
+                typeSpec.getOriAnnotationname(),
+                typeSpec.getOriAnnotationComment(),
+                oriClassnameWithGenerics,
+                oriClassname,
+                methods,
+                dispatchers,
+                lambdas && strategy == ImplementationStrategy.ANONYMOUS_CLASSES);
+    }
+
+    /**
+     * Non-public members are called through a method handle if the generated class is in another
+     * package. This requires {@code java.lang.invoke} and at most {@value #MAX_HANDLE_PARAMETERS}
+     * parameters.
+     */
+    public static boolean isCalledThroughMethodHandle(TypeSpec typeSpec, MethodSpec methodSpec) {
+        return !isDirectAccess(typeSpec) && !"public".equals(methodSpec.getModifier());
+    }
+
+    private static boolean isDirectAccess(TypeSpec typeSpec) {
+        return typeSpec.getGeneratedPackagename().equals(typeSpec.getOriPackagename());
+    }
+
+    public static MethodModel createMethodModel(MethodSpec methodSpec) {
+        return createMethodModel(methodSpec, null, true);
+    }
+
+    /**
+     * @param directAccess {@code true} if the generated class is in the package of the type, all
+     * non-private members are called directly
+     */
+    private static MethodModel createMethodModel(MethodSpec methodSpec, int[] dispatchIds, boolean directAccess) {
+        final List<VariableSpec> parameterSpecs = methodSpec.getParameters();
+        final List<VariableModel> parameters = new ArrayList<VariableModel>(parameterSpecs.size());
+        for (VariableSpec parameterSpec : parameterSpecs) {
+            parameters.add(new VariableModel(parameterSpec.getType(), parameterSpec.getUnboxedType(),
+                    parameterSpec.getErasedType(), parameterSpec.getErasedUnboxedType(), parameterSpec.getName()));
+        }
+
+        final boolean action = methodSpec.isAction();
+        final String delegateClassname = methodSpec.getDelegateClassname();
+        final String modifier = methodSpec.getModifier();
+        final String returnTypeOfCallMethod = methodSpec.getReturnTypeOfCallMethod();
+        final String erasedReturnTypeOfCallMethod = methodSpec.getErasedReturnTypeOfCallMethod();
+        String handleReturnType = null;
+        if (!directAccess && !"public".equals(modifier)) {
+            final String unboxedReturnType = action ? "void" : methodSpec.getUnboxedReturnTypeOfCallMethod();
+            handleReturnType = unboxedReturnType.equals(returnTypeOfCallMethod) ? erasedReturnTypeOfCallMethod : unboxedReturnType;
+        }
+        final String memoizedFunction = handleReturnType == null ? methodSpec.getMemoizedFunction() : null;
+        String memoizedFunctionType = null;
+        if (memoizedFunction != null) {
+            final List<String> typeArguments = new ArrayList<String>(parameters.size() + 1);
+            for (VariableModel parameter : parameters) {
+                typeArguments.add(parameter.getType());
+            }
+            typeArguments.add(returnTypeOfCallMethod);
+            memoizedFunctionType = toParameterizedType(memoizedFunction, typeArguments);
+        }
+
+        // delegated, memoized and handle methods need no implementation
+        String dispatcherClassname = null;
+        int dispatchId = -1;
+        if (dispatchIds != null && delegateClassname == null && memoizedFunction == null && handleReturnType == null) {
+            dispatcherClassname = action ? ACTION_DISPATCHER : FUNC_DISPATCHER;
+            dispatchId = dispatchIds[action ? 1 : 0]++;
+        }
+
+        return MethodModel.builder()
+                .action(action)
+                .calledType(methodSpec.getCalledType())
+                .javadoc(methodSpec.getJavadoc())
+                .modifier(modifier)
+                .genericsDecl(methodSpec.getGenericsDecl())
+                .parameters(parameters)
+                .generatedMethodname(methodSpec.getGeneratedMethodname())
+                .calledMethodname(methodSpec.getCalledMethodname())
+                .returnTypeOfCallMethod(returnTypeOfCallMethod)
+                .erasedReturnTypeOfCallMethod(erasedReturnTypeOfCallMethod)
+                .delegateClassname(delegateClassname)
+                .delegateMethodname(methodSpec.getDelegateMethodname())
+                .overloaded(methodSpec.isOverloaded())
+                .dispatcherClassname(dispatcherClassname)
+                .dispatchId(dispatchId)
+                .memoizedFunctionType(memoizedFunctionType)
+                .cacheSize(methodSpec.getCacheSize())
+                .handleReturnType(handleReturnType)
+                .build();
+    }
+
+    /**
+     * The variant of a method returning a primitive-specialized function. It makes the same call,
+     * but its parameters and the result of the call method keep their primitive types. The
+     * variant is never delegated or dispatched.
+     */
+    private static MethodModel createUnboxedMethodModel(MethodModel method, String unboxedFunction, String unboxedReturnType,
+                                                        String oriClassnameWithGenerics, String oriClassname) {
+        final boolean objectMethodCall = method.getCalledType().isObjectMethodCall();
+        final List<String> typeArguments = new ArrayList<String>();
+        final List<String> erasedTypeArguments = new ArrayList<String>();
+        if (objectMethodCall) {
+            typeArguments.add(oriClassnameWithGenerics);
+            erasedTypeArguments.add(oriClassname);
+        }
+
+        final List<VariableModel> parameters = new ArrayList<VariableModel>(method.getParameters().size());
+        for (VariableModel parameter : method.getParameters()) {
+            final boolean primitive = !parameter.getType().equals(parameter.getUnboxedType());
+            if (!objectMethodCall && !primitive) {
+                typeArguments.add(parameter.getType());
+                erasedTypeArguments.add(parameter.getErasedType());
+            }
+            parameters.add(new VariableModel(parameter.getUnboxedType(), parameter.getUnboxedType(),
+                    parameter.getErasedUnboxedType(), parameter.getErasedUnboxedType(), parameter.getName()));
+        }
+
+        final boolean primitiveResult = !unboxedReturnType.equals(method.getReturnTypeOfCallMethod());
+        final String erasedReturnType = primitiveResult ? unboxedReturnType : method.getErasedReturnTypeOfCallMethod();
+        if (!method.isAction() && !primitiveResult) {
+            typeArguments.add(method.getReturnTypeOfCallMethod());
+            erasedTypeArguments.add(erasedReturnType);
+        }
+
+        return method.variant(UNBOXED_SUFFIX)
+                .parameters(parameters)
+                .returnTypeOfCallMethod(unboxedReturnType)
+                .erasedReturnTypeOfCallMethod(erasedReturnType)
+                .unboxedFunctionType(toParameterizedType(unboxedFunction, typeArguments))
+                .erasedUnboxedFunctionType(toParameterizedType(unboxedFunction, erasedTypeArguments))
+                .build();
+    }
+
+    /**
+     * The variant of an object method returning an {@code Observable.Operator}, which makes the
+     * call without a {@code Func1} in between.
+     */
+    private static MethodModel createOperatorMethodModel(MethodModel method) {
+        return method.variant(OPERATOR_SUFFIX)
+                .operator(true)
+                .build();
+    }
+
+    /**
+     * The variant of a method returning a Func, whose {@code Observable} or {@code Single} makes
+     * the call on a given scheduler.
+     */
+    private static MethodModel createAsyncMethodModel(MethodModel method, AsyncType asyncType) {
+        return method.variant(ASYNC_SUFFIX)
+                .asyncClassname(asyncType == AsyncType.SINGLE ? "rx.Single" : "rx.Observable")
+                .build();
+    }
+
+    /**
+     * The variant of a method returning a Func or Action for a list of items, which loops over
+     * the items or calls the given bulk method.
+     */
+    private static MethodModel createBatchMethodModel(MethodModel method, String bulkMethodname) {
+        return method.variant(BATCH_SUFFIX)
+                .batch(true)
+                .bulkMethodname(bulkMethodname)
+                .build();
+    }
+
+    private static String toParameterizedType(String classname, List<String> typeArguments) {
+        return typeArguments.isEmpty() ? classname : classname + "<" + Joiner.on(", ").join(typeArguments) + ">";
+    }
+
+    private static void addDispatcher(List<DispatcherModel> dispatchers, List<MethodModel> methods, boolean action, int size) {
+        if (size == 0) {
+            return;
+        }
+
+        // call methods ordered by arity, FuncN and ActionN last
+        final SortedMap<Integer, List<MethodModel>> methodsByArity = new TreeMap<Integer, List<MethodModel>>();
+        for (MethodModel method : methods) {
+            if (!method.isDispatched() || method.isAction() != action) {
+                continue;
+            }
+
+            final Integer key = method.getDispatchArity() < 0 ? Integer.MAX_VALUE : method.getDispatchArity();
+            List<MethodModel> arityMethods = methodsByArity.get(key);
+            if (arityMethods == null) {
+                arityMethods = new ArrayList<MethodModel>();
+                methodsByArity.put(key, arityMethods);
+            }
+            arityMethods.add(method);
+        }
+
+        final String interfacePrefix = action ? "Action" : "Func";
+        final List<DispatchCallModel> calls = new ArrayList<DispatchCallModel>(methodsByArity.size());
+        for (Map.Entry<Integer, List<MethodModel>> entry : methodsByArity.entrySet()) {
+            final int arity = entry.getKey() == Integer.MAX_VALUE ? -1 : entry.getKey();
+            calls.add(new DispatchCallModel(interfacePrefix + (arity < 0 ? "N" : String.valueOf(arity)), arity, entry.getValue()));
+        }
+
+        dispatchers.add(new DispatcherModel(action, action ? ACTION_DISPATCHER : FUNC_DISPATCHER, size, calls));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a {@link rx.codegen.internal.spec.TypeSpec} and its methods.
+ * Rendering only reads this model and never touches {@code javax.lang.model}.
+ *
+ * @author Matthias
+ */
+public final class TypeModel {
+
+    private final String packagename;
+    private final String simpleClassname;
+    private final String qualifiedClassname;
+    private final String originatingAnnotationName;
+    private final String originatingAnnotationComment;
+    private final String originatingClassnameWithGenerics;
+    private final String originatingClassname;
+    private final List<MethodModel> methods;
+    private final List<DispatcherModel> dispatchers;
+    private final boolean lambdas;
+
+    TypeModel(String packagename, String simpleClassname, String qualifiedClassname,
+              String originatingAnnotationName, String originatingAnnotationComment,
+              String originatingClassnameWithGenerics, String originatingClassname,
+              List<MethodModel> methods, List<DispatcherModel> dispatchers, boolean lambdas) {
+        this.packagename = packagename;
+        this.simpleClassname = simpleClassname;
+        this.qualifiedClassname = qualifiedClassname;
+        this.originatingAnnotationName = originatingAnnotationName;
+        this.originatingAnnotationComment = originatingAnnotationComment;
+        this.originatingClassnameWithGenerics = originatingClassnameWithGenerics;
+        this.originatingClassname = originatingClassname;
+        this.methods = ImmutableList.copyOf(methods);
+        this.dispatchers = ImmutableList.copyOf(dispatchers);
+        this.lambdas = lambdas;
+    }
+
+    public String getPackagename() {
+        return packagename;
+    }
+
+    public String getSimpleClassname() {
+        return simpleClassname;
+    }
+
+    public String getQualifiedClassname() {
+        return qualifiedClassname;
+    }
+
+    public String getOriginatingAnnotationName() {
+        return originatingAnnotationName;
+    }
+
+    public String getOriginatingAnnotationComment() {
+        return originatingAnnotationComment;
+    }
+
+    public String getOriginatingClassnameWithGenerics() {
+        return originatingClassnameWithGenerics;
+    }
+
+    public String getOriginatingClassname() {
+        return originatingClassname;
+    }
+
+    public List<MethodModel> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return the shared classes of {@link rx.codegen.ImplementationStrategy#DISPATCH_TABLE}
+     * mode, empty otherwise
+     */
+    public List<DispatcherModel> getDispatchers() {
+        return dispatchers;
+    }
+
+    /**
+     * @return {@code true} if the methods return lambdas and method references instead of
+     * anonymous classes
+     */
+    public boolean isLambdas() {
+        return lambdas;
+    }
+
+    /**
+     * @return the number of class files the generated source compiles to
+     */
+    public int countClasses() {
+        int ret = 1 + dispatchers.size();
+        for (MethodModel method : methods) {
+            if (method.isOperator() || method.isAsync()) {
+                ret += 2; //outer and inner anonymous class
+            } else if (method.isMethodHandle()) {
+                ret += method.isSingleton() ? 3 : 2; //handle holder, instance holder and anonymous class
+            } else if (method.isMemoized()) {
+                ret += 2; //holder class and anonymous class
+            } else if (method.isBatch()) {
+                ret++; //anonymous class
+            } else if (!lambdas && !method.isDelegated() && !method.isDispatched()) {
+                ret += method.isSingleton() ? 2 : 1; //holder class and anonymous class, lambdas are linked at runtime
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.model;
+
+/**
+ * Immutable snapshot of a {@link rx.codegen.internal.spec.method.VariableSpec}.
+ *
+ * @author Matthias
+ */
+public final class VariableModel {
+
+    private final String type;
+    private final String unboxedType;
+    private final String erasedType;
+    private final String erasedUnboxedType;
+    private final String name;
+
+    VariableModel(String type, String unboxedType, String erasedType, String erasedUnboxedType, String name) {
+        this.type = type;
+        this.unboxedType = unboxedType;
+        this.erasedType = erasedType;
+        this.erasedUnboxedType = erasedUnboxedType;
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getUnboxedType() {
+        return unboxedType;
+    }
+
+    public String getErasedType() {
+        return erasedType;
+    }
+
+    public String getErasedUnboxedType() {
+        return erasedUnboxedType;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -17,6 +17,7 @@ package rx.codegen.internal.spec;
 
 import java.util.List;
 import javax.lang.model.element.ExecutableElement;
+import rx.codegen.AsyncType;
 import rx.codegen.internal.spec.method.CalledType;
 import rx.codegen.internal.spec.method.VariableSpec;
 
@@ -46,4 +47,57 @@ public interface MethodSpec {
     String getCalledMethodname();
     
     String getReturnTypeOfCallMethod();
+
+    /**
+     * @return the return type of the call method with all type variables erased
+     */
+    String getErasedReturnTypeOfCallMethod();
+
+    /**
+     * @return the return type of the call method, primitive types are not boxed
+     */
+    String getUnboxedReturnTypeOfCallMethod();
+
+    /**
+     * @return the qualified name of the primitive-specialized function which avoids boxing the
+     * parameters and the result, or {@code null} if the method has no primitive types or the
+     * runtime has no matching interface
+     */
+    String getUnboxedFunction();
+
+    /**
+     * @return the async variant requested by {@link rx.codegen.RxMethod}, {@link AsyncType#NONE}
+     * if the type decides
+     */
+    AsyncType getAsyncType();
+
+    /**
+     * @return the name of a static bulk overload, which takes a list of the only parameter and
+     * returns a list of the results, or {@code null}
+     */
+    String getBulkMethodname();
+
+    /**
+     * @return the qualified name of the memoizing function requested by {@link rx.codegen.RxMethod},
+     * {@code null} if the method is not memoized or the runtime is missing
+     */
+    String getMemoizedFunction();
+
+    /**
+     * @return the maximum number of cached results of a memoized method
+     */
+    int getCacheSize();
+
+    /**
+     * @return the generated class the call is delegated to or {@code null}
+     */
+    String getDelegateClassname();
+
+    String getDelegateMethodname();
+
+    /**
+     * @return {@code true} if the called method or constructor is overloaded, a method
+     * reference to it may be ambiguous
+     */
+    boolean isOverloaded();
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.spec;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Elements;
+import rx.codegen.AsyncType;
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.NamingStrategy;
+import rx.codegen.Option;
+
+/**
+ * The values of an {@link Option}, read from its {@link AnnotationMirror} with the defaults.
+ *
+ * <p>Annotation proxies of a nested {@code @Option} that is left at its default fail with an
+ * {@code AnnotationTypeMismatchException} on some javac versions if {@code rx.codegen.Option}
+ * is not completed yet, e.g. with {@code --release 8} on Java 11 and later.
+ *
+ * @author Matthias
+ */
+public final class OptionValues {
+
+    private static final String OPTIONS = "options";
+
+    private final NamingStrategy strategy;
+    private final boolean includeDeprecated;
+    private final boolean includeInherited;
+    private final boolean includeNonPublic;
+    private final ImplementationStrategy implementation;
+    private final boolean unboxed;
+    private final boolean operators;
+    private final AsyncType async;
+    private final boolean batches;
+
+    private OptionValues(Elements elements, AnnotationMirror option) {
+        final Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(option);
+        this.strategy = getEnum(values, "strategy", NamingStrategy.class);
+        this.includeDeprecated = getBoolean(values, "includeDeprecated");
+        this.includeInherited = getBoolean(values, "includeInherited");
+        this.includeNonPublic = getBoolean(values, "includeNonPublic");
+        this.implementation = getEnum(values, "implementation", ImplementationStrategy.class);
+        this.unboxed = getBoolean(values, "unboxed");
+        this.operators = getBoolean(values, "operators");
+        this.async = getEnum(values, "async", AsyncType.class);
+        this.batches = getBoolean(values, "batches");
+    }
+
+    /**
+     * @param annotationType an annotation with an {@code options} element, e.g.
+     * {@code RxCodeGenerator}
+     * @return the options of the annotation of the element or {@code null} if the element is not
+     * annotated
+     */
+    public static OptionValues of(Elements elements, Element element, Class<? extends Annotation> annotationType) {
+        final AnnotationMirror annotation = findAnnotation(element, annotationType);
+        return annotation != null
+                ? new OptionValues(elements, (AnnotationMirror) getValue(elements, annotation, OPTIONS).getValue())
+                : null;
+    }
+
+    /**
+     * @param annotationType an annotation with an array of references, e.g.
+     * {@code RxRefCodeGenerator}
+     * @param name the name of the array, e.g. {@code classes}
+     * @param index the index of the reference in the array
+     * @return the options of the reference
+     */
+    public static OptionValues of(Elements elements, Element element, Class<? extends Annotation> annotationType,
+            String name, int index) {
+        final AnnotationMirror annotation = findAnnotation(element, annotationType);
+        if (annotation == null) {
+            throw new IllegalArgumentException(String.format("%s is not annotated with %s", element, annotationType.getName()));
+        }
+
+        final List<?> references = (List<?>) getValue(elements, annotation, name).getValue();
+        final AnnotationMirror reference = (AnnotationMirror) ((AnnotationValue) references.get(index)).getValue();
+        return new OptionValues(elements, (AnnotationMirror) getValue(elements, reference, OPTIONS).getValue());
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, Class<? extends Annotation> annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationType.getName())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationValue getValue(Elements elements, AnnotationMirror annotation, String name) {
+        return getValue(elements.getElementValuesWithDefaults(annotation), name);
+    }
+
+    private static AnnotationValue getValue(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalArgumentException("Unknown annotation element: " + name);
+    }
+
+    private static boolean getBoolean(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        return (Boolean) getValue(values, name).getValue();
+    }
+
+    private static <E extends Enum<E>> E getEnum(Map<? extends ExecutableElement, ? extends AnnotationValue> values,
+            String name, Class<E> enumType) {
+        final VariableElement constant = (VariableElement) getValue(values, name).getValue();
+        return Enum.valueOf(enumType, constant.getSimpleName().toString());
+    }
+
+    public NamingStrategy strategy() {
+        return strategy;
+    }
+
+    public boolean includeDeprecated() {
+        return includeDeprecated;
+    }
+
+    public boolean includeInherited() {
+        return includeInherited;
+    }
+
+    public boolean includeNonPublic() {
+        return includeNonPublic;
+    }
+
+    public ImplementationStrategy implementation() {
+        return implementation;
+    }
+
+    public boolean unboxed() {
+        return unboxed;
+    }
+
+    public boolean operators() {
+        return operators;
+    }
+
+    public AsyncType async() {
+        return async;
+    }
+
+    public boolean batches() {
+        return batches;
+    }
+
+    /**
+     * Part of the cache keys of the generated sources.
+     */
+    @Override
+    public String toString() {
+        return String.format("@%s(strategy=%s, includeDeprecated=%s, includeInherited=%s, includeNonPublic=%s, "
+                + "implementation=%s, unboxed=%s, operators=%s, async=%s, batches=%s)",
+                Option.class.getName(), strategy, includeDeprecated, includeInherited, includeNonPublic,
+                implementation, unboxed, operators, async, batches);
+    }
+}
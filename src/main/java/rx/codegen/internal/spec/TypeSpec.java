@@ -17,6 +17,8 @@ package rx.codegen.internal.spec;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import rx.codegen.AsyncType;
+import rx.codegen.ImplementationStrategy;
 import rx.codegen.NamingStrategy;
 
 /**
@@ -28,6 +30,8 @@ public interface TypeSpec {
 
     Element getOriginatingElement(); //type or package
 
+    Element[] getOriginatingElements(); //all elements the generated source depends on
+
     TypeElement getTypeElement(); //class, interface, enum
 
     String getOriAnnotationname();
@@ -40,13 +44,31 @@ public interface TypeSpec {
 
     String getFQOriClassname();
 
+    String getOriPackagename();
+
     String getGeneratedSimpleClassname();
 
     String getGeneratedQualifiedClassname(); //packagename + simpleclassname
 
     
     //Addtional
+    OptionValues getOptions(); //effective options
+
     NamingStrategy getMethodNamingStrategy();
 
     boolean includeDeprecated();
+
+    boolean includeInherited();
+
+    boolean includeNonPublic();
+
+    ImplementationStrategy getImplementationStrategy();
+
+    boolean generateUnboxed();
+
+    boolean generateOperators();
+
+    AsyncType getAsyncType();
+
+    boolean generateBatches();
 }
@@ -15,6 +15,7 @@
  */
 package rx.codegen.internal.spec.method;
 
+import rx.codegen.AsyncType;
 import rx.codegen.RxMethod;
 import rx.codegen.internal.spec.MethodSpec;
 import rx.codegen.internal.util.CodegenUtil;
@@ -23,8 +24,12 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
 import java.util.*;
 
 /**
@@ -36,6 +41,7 @@ abstract class AbstractMethodSpec implements MethodSpec {
     protected final CodegenUtil util;
     protected final TypeElement classElement;
     protected final ExecutableElement methodElement;
+    protected final ExecutableType memberType;
     protected final Map<TypeVariable, String> typeVariableNameMapping;
     protected final RxMethod methodGenerator;
 
@@ -43,26 +49,24 @@ abstract class AbstractMethodSpec implements MethodSpec {
         this.util = util;
         this.classElement = classElement;
         this.methodElement = methodElement;
+        this.memberType = util.getMemberType(classElement, methodElement);
         this.methodGenerator = methodElement.getAnnotation(RxMethod.class);
         this.typeVariableNameMapping = initTypeVariableNameMapping();
     }
 
     private Map<TypeVariable, String> initTypeVariableNameMapping() {
-        //FIXME ugly
-        
-        final Map<TypeVariable, String> ret = new HashMap<TypeVariable, String>();
-        final Set<TypeVariable> classTypeVariables = util.findAllTypeVariables(classElement);
-
-        int i = 0;
-        for (TypeVariable classTypeVariable : classTypeVariables) {
-            ret.put(classTypeVariable, String.format("C%d", i++));
+        final Map<TypeVariable, String> classMapping = util.getClassTypeVariableNameMapping(classElement);
+
+        final Set<TypeVariable> methodTypeVariables = util.findAllTypeVariables(memberType.getTypeVariables());
+        methodTypeVariables.removeAll(classMapping.keySet());
+        if (methodTypeVariables.isEmpty()) {
+            return classMapping; //shared by all methods of the class
         }
 
-        final Set<TypeVariable> methodTypeVariables = util.findAllTypeVariablesFromElements(methodElement.getTypeParameters());
-        methodTypeVariables.removeAll(classTypeVariables);
+        final Map<TypeVariable, String> ret = new HashMap<TypeVariable, String>(classMapping);
         int j = 0;
         for (TypeVariable methodTypeVariable : methodTypeVariables) {
-            ret.put(methodTypeVariable, String.format("M%d", j++));
+            ret.put(methodTypeVariable, "M" + j++);
         }
         return ret;
     }
@@ -80,14 +84,10 @@ abstract class AbstractMethodSpec implements MethodSpec {
 
     @Override
     public String getGeneratedMethodname() {
-        // get name of generated method
-        final String name = (methodGenerator == null || methodGenerator.name().isEmpty())
+        // get name of generated method, overrides of methods of object are resolved by the MethodIndex
+        return (methodGenerator == null || methodGenerator.name().isEmpty())
                 ? getCalledMethodname()
                 : methodGenerator.name();
-
-        // if the new method would override a method of object,
-        // then we have to rename our newly generated method
-        return util.overridesMethodOfObject(classElement, methodElement, name) ? name + "_" : name;
     }
 
     @Override
@@ -111,10 +111,67 @@ abstract class AbstractMethodSpec implements MethodSpec {
 
     @Override
     public String getReturnTypeOfCallMethod() {
-        final TypeMirror type = methodElement.getReturnType();
+        final TypeMirror type = memberType.getReturnType();
+        return getTypeParameterName(type, true);
+    }
+
+    @Override
+    public String getErasedReturnTypeOfCallMethod() {
+        final TypeMirror type = util.getTypeUtils().erasure(memberType.getReturnType());
         return getTypeParameterName(type, true);
     }
 
+    @Override
+    public String getUnboxedReturnTypeOfCallMethod() {
+        final TypeMirror type = memberType.getReturnType();
+        return type.getKind().isPrimitive() ? type.toString() : getReturnTypeOfCallMethod();
+    }
+
+    /**
+     * The name follows the parameters and the result of the call method, e.g.
+     * {@code IntIntToIntFunc2}, {@code ToLongFunc1} or {@code LongAction1}. Object parameters
+     * are named {@code Obj}, unless all parameters are objects.
+     */
+    @Override
+    public String getUnboxedFunction() {
+        final StringBuilder name = new StringBuilder();
+        boolean primitive = false;
+        final int arity;
+        if (getCalledType().isObjectMethodCall()) {
+            arity = 1; //the object
+        } else {
+            arity = getNumberOfParameters();
+            for (TypeMirror parameterType : memberType.getParameterTypes()) {
+                final boolean primitiveParameter = parameterType.getKind().isPrimitive();
+                name.append(primitiveParameter ? kindToName(parameterType.getKind()) : "Obj");
+                primitive |= primitiveParameter;
+            }
+            if (!primitive) {
+                name.setLength(0);
+            }
+        }
+
+        final TypeMirror returnType = memberType.getReturnType();
+        if (isAction()) {
+            name.append("Action");
+        } else if (returnType.getKind().isPrimitive()) {
+            name.append("To").append(kindToName(returnType.getKind())).append("Func");
+            primitive = true;
+        } else {
+            name.append("Func");
+        }
+
+        if (!primitive || arity > 9) {
+            return null;
+        }
+        return util.findUnboxedFunction(name.append(arity).toString());
+    }
+
+    private static String kindToName(TypeKind kind) {
+        final String name = kind.name();
+        return name.charAt(0) + name.substring(1).toLowerCase(Locale.US);
+    }
+
     private String getTypeParameterName(TypeMirror type, boolean suppressTypeVarDecl) {
         return util.typeToString(type, typeVariableNameMapping, suppressTypeVarDecl);
     }
@@ -124,14 +181,13 @@ abstract class AbstractMethodSpec implements MethodSpec {
         final Set<TypeVariable> relevantTypeVariables = new LinkedHashSet<TypeVariable>();
 
         if (getCalledType().isStaticMethodCall()) {
-            relevantTypeVariables.addAll(util.findAllTypeVariablesFromElements(methodElement.getParameters()));
-            relevantTypeVariables.addAll(util.findAllTypeVariables(methodElement.getReturnType()));
+            relevantTypeVariables.addAll(util.findAllTypeVariables(memberType.getParameterTypes()));
+            relevantTypeVariables.addAll(util.findAllTypeVariables(memberType.getReturnType()));
 
         } else {
-            final Set<TypeVariable> classTypeVariables = util.findAllTypeVariables(classElement);
-            relevantTypeVariables.addAll(classTypeVariables);
-            relevantTypeVariables.addAll(util.findAllTypeVariablesFromElements(methodElement.getParameters()));
-            relevantTypeVariables.addAll(util.findAllTypeVariables(methodElement.getReturnType()));
+            relevantTypeVariables.addAll(util.getClassTypeVariables(classElement));
+            relevantTypeVariables.addAll(util.findAllTypeVariables(memberType.getParameterTypes()));
+            relevantTypeVariables.addAll(util.findAllTypeVariables(memberType.getReturnType()));
         }
 
         final List<String> ret = new ArrayList<String>();
@@ -145,17 +201,20 @@ abstract class AbstractMethodSpec implements MethodSpec {
     @Override
     public List<VariableSpec> getParameters() {
         final List<? extends VariableElement> variables = methodElement.getParameters();
+        final List<? extends TypeMirror> variableTypes = memberType.getParameterTypes();
         final List<VariableSpec> variableSpecs = new ArrayList<VariableSpec>();
 
         for (int idx = 0; idx < variables.size(); idx++) {
             final VariableElement variable = variables.get(idx);
-            final TypeMirror variableType = variable.asType();
+            final TypeMirror variableType = variableTypes.get(idx);
 
             final String typeName = getTypeParameterName(variableType, true);
             final String unboxedTypeName = variableType.getKind().isPrimitive() ? variableType.toString() : typeName;
+            final String erasedTypeName = getTypeParameterName(util.getTypeUtils().erasure(variableType), true);
+            final String erasedUnboxedTypeName = variableType.getKind().isPrimitive() ? unboxedTypeName : erasedTypeName;
             final String varName = isMethodN() ? String.format("args[%d]", idx) : variable.getSimpleName().toString();
 
-            variableSpecs.add(new DefaultVariableSpec(typeName, unboxedTypeName, varName));
+            variableSpecs.add(new DefaultVariableSpec(typeName, unboxedTypeName, erasedTypeName, erasedUnboxedTypeName, varName));
         }
 
         return variableSpecs;
@@ -169,6 +228,83 @@ abstract class AbstractMethodSpec implements MethodSpec {
         return methodElement.getParameters().size();
     }
 
+    @Override
+    public AsyncType getAsyncType() {
+        return methodGenerator != null ? methodGenerator.async() : AsyncType.NONE;
+    }
+
+    /**
+     * A bulk overload is a public static method of the same type, named like the method or with
+     * an {@code All} suffix. Its only parameter is an {@code Iterable} accepting a list of the
+     * parameter type, and its result is assignable to a list of the result type. Generic methods
+     * are not matched.
+     */
+    @Override
+    public String getBulkMethodname() {
+        if (!getCalledType().isStaticMethodCall() || getNumberOfParameters() != 1 || !memberType.getTypeVariables().isEmpty()) {
+            return null;
+        }
+
+        final Types typeUtils = util.getTypeUtils();
+        final TypeElement listElement = util.getElementUtils().getTypeElement(List.class.getName());
+        final TypeMirror iterableType = typeUtils.erasure(util.getElementUtils().getTypeElement(Iterable.class.getName()).asType());
+        final TypeMirror parameterList = typeUtils.getDeclaredType(listElement, util.boxTypeIfNeeded(memberType.getParameterTypes().get(0)));
+        final TypeMirror resultList = isAction() ? null : typeUtils.getDeclaredType(listElement, util.boxTypeIfNeeded(memberType.getReturnType()));
+
+        final String methodname = getCalledMethodname();
+        for (ExecutableElement candidate : ElementFilter.methodsIn(classElement.getEnclosedElements())) {
+            final String candidateName = candidate.getSimpleName().toString();
+            if ((!candidateName.equals(methodname) && !candidateName.equals(methodname + "All"))
+                    || candidate.equals(methodElement)
+                    || !candidate.getModifiers().contains(Modifier.PUBLIC)
+                    || !candidate.getModifiers().contains(Modifier.STATIC)
+                    || candidate.getParameters().size() != 1
+                    || !candidate.getTypeParameters().isEmpty()
+                    || !candidate.getThrownTypes().isEmpty()) {
+                continue;
+            }
+
+            final ExecutableType candidateType = util.getMemberType(classElement, candidate);
+            final TypeMirror candidateParameter = candidateType.getParameterTypes().get(0);
+            final TypeMirror candidateResult = candidateType.getReturnType();
+            if (typeUtils.isAssignable(typeUtils.erasure(candidateParameter), iterableType)
+                    && typeUtils.isAssignable(parameterList, candidateParameter)
+                    && (isAction() ? candidateResult.getKind() == TypeKind.VOID : typeUtils.isAssignable(candidateResult, resultList))) {
+                return candidateName;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getMemoizedFunction() {
+        if (methodGenerator == null || !methodGenerator.memoize() || !getCalledType().isStaticMethodCall()
+                || isAction() || !memberType.getTypeVariables().isEmpty() || getNumberOfParameters() > 9) {
+            return null;
+        }
+        return util.findMemoizedFunction(getNumberOfParameters());
+    }
+
+    @Override
+    public int getCacheSize() {
+        return methodGenerator != null ? methodGenerator.cacheSize() : 0;
+    }
+
+    @Override
+    public String getDelegateClassname() {
+        return null;
+    }
+
+    @Override
+    public String getDelegateMethodname() {
+        return null;
+    }
+
+    @Override
+    public boolean isOverloaded() {
+        return util.isOverloaded(classElement, methodElement);
+    }
+
     @Override
     public String getJavadoc() {
         final String docComment = util.getElementUtils().getDocComment(methodElement);
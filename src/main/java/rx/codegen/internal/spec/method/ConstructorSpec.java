@@ -45,6 +45,11 @@ class ConstructorSpec extends AbstractMethodSpec {
         return util.generateFullQualifiedNameWithGenerics(classElement);
     }
 
+    @Override
+    public String getErasedReturnTypeOfCallMethod() {
+        return util.rawTypeElementToString(classElement);
+    }
+
     @Override
     public String getGeneratedMethodname() {
         return String.format("new%s", classElement.getSimpleName().toString());
@@ -23,11 +23,15 @@ class DefaultVariableSpec implements VariableSpec {
     
     private final String type;
     private final String unboxedType;
+    private final String erasedType;
+    private final String erasedUnboxedType;
     private final String name;
 
-    public DefaultVariableSpec(String type, String unboxedType, String name) {
+    public DefaultVariableSpec(String type, String unboxedType, String erasedType, String erasedUnboxedType, String name) {
         this.type = type;
         this.unboxedType = unboxedType;
+        this.erasedType = erasedType;
+        this.erasedUnboxedType = erasedUnboxedType;
         this.name = name;
     }
 
@@ -41,6 +45,16 @@ class DefaultVariableSpec implements VariableSpec {
         return unboxedType;
     }
     
+    @Override
+    public String getErasedType() {
+        return erasedType;
+    }
+
+    @Override
+    public String getErasedUnboxedType() {
+        return erasedUnboxedType;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.spec.method;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import rx.codegen.NamingStrategy;
+import rx.codegen.RxExclude;
+import rx.codegen.internal.spec.MethodSpec;
+import rx.codegen.internal.spec.TypeSpec;
+import rx.codegen.internal.util.CodegenUtil;
+import rx.codegen.internal.util.ExecutableElementComparator;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All methods and constructors of one type, analyzed in a single pass.
+ *
+ * <p>Every entry holds its {@link ExecutableElementComparator.Key sort key}, the
+ * support, deprecation and {@link RxExclude} flags, and for candidates the
+ * {@link MethodSpec} with its final generated name. The Object-method override check is
+ * done exactly once per candidate. Entries are sorted once without allocating per
+ * comparison and candidates are grouped by their generated name.
+ *
+ * <p>With {@link TypeSpec#includeInherited()} the inherited instance methods are indexed,
+ * too. They are delegated to the generated class of their declaring type, if any.
+ *
+ * @author Matthias
+ */
+public final class MethodIndex {
+
+    private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            return o1.sortKey.compareTo(o2.sortKey);
+        }
+    };
+
+    private final List<Entry> entries;
+    private final ListMultimap<String, Entry> overloads;
+
+    private MethodIndex(List<Entry> entries, ListMultimap<String, Entry> overloads) {
+        this.entries = entries;
+        this.overloads = overloads;
+    }
+
+    public static MethodIndex create(CodegenUtil util, TypeSpec typeSpec, WrapperRegistry wrappers) {
+        return create(util, typeSpec, typeSpec.getTypeElement(), typeSpec.includeDeprecated(),
+                typeSpec.includeNonPublic(), typeSpec.includeInherited(), wrappers);
+    }
+
+    public static MethodIndex create(CodegenUtil util, TypeElement typeElement, boolean includeDeprecated) {
+        return create(util, null, typeElement, includeDeprecated, false, false, null);
+    }
+
+    private static MethodIndex create(CodegenUtil util, TypeSpec typeSpec, TypeElement typeElement,
+            boolean includeDeprecated, boolean includeNonPublic, boolean includeInherited, WrapperRegistry wrappers) {
+        final boolean instantiable = isInstantiable(typeElement);
+
+        final List<Entry> entries = new ArrayList<Entry>();
+        for (Element element : typeElement.getEnclosedElements()) {
+            final ElementKind kind = element.getKind();
+            if (kind == ElementKind.METHOD || kind == ElementKind.CONSTRUCTOR) {
+                entries.add(new Entry(util, typeElement, (ExecutableElement) element, instantiable, includeDeprecated, includeNonPublic));
+            }
+        }
+        if (includeInherited) {
+            for (ExecutableElement method : util.getInstanceMethods(typeElement)) {
+                if (!method.getEnclosingElement().equals(typeElement)) {
+                    entries.add(new Entry(util, typeElement, method, instantiable, includeDeprecated, false));
+                }
+            }
+        }
+        Collections.sort(entries, ORDER);
+
+        final ListMultimap<String, Entry> overloads = ArrayListMultimap.create();
+        for (Entry entry : entries) {
+            if (entry.isCandidate()) {
+                entry.createSpec(util, typeElement);
+                if (entry.spec != null && entry.inherited && wrappers != null) {
+                    entry.spec = wrappers.delegate(typeSpec, entry.spec);
+                }
+                if (entry.spec != null) {
+                    entry.overloadIndex = overloads.get(entry.generatedMethodname).size();
+                    overloads.put(entry.generatedMethodname, entry);
+                }
+            }
+        }
+        return new MethodIndex(Collections.unmodifiableList(entries), overloads);
+    }
+
+    private static boolean isInstantiable(TypeElement typeElement) {
+        final boolean nested = typeElement.getNestingKind().isNested();
+        final Set<Modifier> modifiers = typeElement.getModifiers();
+
+        if (nested && !modifiers.contains(Modifier.STATIC)) {
+            return false;
+
+        } else if (modifiers.contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Resolves ambiguous generated names with the given strategy: the first candidate of an
+     * overload group keeps its name, the others are renamed or excluded.
+     *
+     * @return the specs of the generated methods, in sort order
+     */
+    public List<MethodSpec> resolveMethodnames(NamingStrategy strategy) {
+        final Map<String, MethodSpec> ret = new LinkedHashMap<String, MethodSpec>(); //preserve order
+
+        for (Entry entry : entries) {
+            if (entry.spec == null) {
+                continue;
+            }
+
+            if (entry.overloadIndex == 0) {
+                entry.resolvedMethodname = entry.generatedMethodname;
+                ret.put(entry.resolvedMethodname, entry.spec);
+
+            } else if (strategy == NamingStrategy.RENAME) {
+                entry.resolvedMethodname = generateUniqueName(entry.generatedMethodname, entry.element);
+                ret.put(entry.resolvedMethodname, MethodSpecFactory.renameMethodDefinition(entry.spec, entry.resolvedMethodname));
+
+            } else {
+                entry.resolvedMethodname = null; //excluded
+            }
+        }
+
+        return new ArrayList<MethodSpec>(ret.values());
+    }
+
+    private static String generateUniqueName(final String generatedMethodname, ExecutableElement element) {
+        final StringBuilder ret = new StringBuilder(generatedMethodname);
+        ret.append("$");
+
+        final List<? extends VariableElement> parameters = element.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i != 0) {
+                ret.append("_");
+            }
+            final VariableElement parameter = parameters.get(i);
+            final TypeMirror paramType = parameter.asType();
+            ret.append(kindToString(paramType.getKind()));
+        }
+
+        return ret.toString();
+    }
+
+    private static String kindToString(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "Bool";
+            case BYTE:
+                return "Byte";
+            case SHORT:
+                return "Short";
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case CHAR:
+                return "Char";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            case VOID:
+                return "Void";
+            case ARRAY:
+                return "Array";
+            case DECLARED:
+                return "Obj";
+            case TYPEVAR:
+                return "TypeVar";
+
+            default:
+                return "Unknown";
+        }
+    }
+
+    /**
+     * @return all methods and constructors, sorted by name, parameter count and parameter type names
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return the candidates with the given generated name, in sort order
+     */
+    public List<Entry> getOverloads(String generatedMethodname) {
+        return Collections.unmodifiableList(overloads.get(generatedMethodname));
+    }
+
+    public int countUnsupported() {
+        int ret = 0;
+        for (Entry entry : entries) {
+            if (!entry.supported) {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    public int countExcluded() {
+        int ret = 0;
+        for (Entry entry : entries) {
+            if (entry.supported && entry.excluded) {
+                ret++;
+            }
+        }
+        return ret;
+    }
+
+    public static final class Entry {
+
+        private final ExecutableElement element;
+        private final boolean inherited;
+        private final ExecutableElementComparator.Key sortKey;
+        private final boolean supported;
+        private final boolean deprecated;
+        private final boolean excluded;
+        private MethodSpec spec;
+        private String generatedMethodname;
+        private boolean objectMethodOverride;
+        private RuntimeException failure;
+        private int overloadIndex;
+        private String resolvedMethodname;
+
+        private Entry(CodegenUtil util, TypeElement typeElement, ExecutableElement element, boolean instantiable,
+                      boolean includeDeprecated, boolean includeNonPublic) {
+            this.element = element;
+            this.inherited = !element.getEnclosingElement().equals(typeElement);
+            this.sortKey = ExecutableElementComparator.createKey(util, element,
+                    util.getMemberType(typeElement, element).getParameterTypes());
+
+            final Set<Modifier> modifiers = element.getModifiers();
+            boolean supportedElement = element.getThrownTypes().isEmpty()
+                    && (modifiers.contains(Modifier.PUBLIC) || (includeNonPublic && !modifiers.contains(Modifier.PRIVATE)))
+                    //only constructors from static nested classes are allowed
+                    && (element.getKind() != ElementKind.CONSTRUCTOR || instantiable);
+            this.deprecated = supportedElement && util.isDeprecatedElement(element);
+            if (deprecated && !includeDeprecated) {
+                supportedElement = false; //filter out deprecated methods
+            }
+            this.supported = supportedElement;
+            this.excluded = element.getAnnotation(RxExclude.class) != null;
+        }
+
+        private void createSpec(CodegenUtil util, TypeElement typeElement) {
+            try {
+                MethodSpec methodSpec = MethodSpecFactory.createMethodSpec(util, typeElement, element);
+                if (methodSpec == null) {
+                    return; //not supported
+                }
+
+                String methodname = methodSpec.getGeneratedMethodname();
+
+                // if the new method would override a method of object,
+                // then we have to rename our newly generated method
+                if (methodSpec.getCalledType() != CalledType.CONSTRUCTOR
+                        && util.overridesMethodOfObject(typeElement, element, methodname)) {
+                    this.objectMethodOverride = true;
+                    methodname = methodname + "_";
+                    methodSpec = MethodSpecFactory.renameMethodDefinition(methodSpec, methodname);
+                }
+
+                this.spec = methodSpec;
+                this.generatedMethodname = methodname;
+            } catch (RuntimeException ex) {
+                this.failure = ex;
+            }
+        }
+
+        public ExecutableElement getElement() {
+            return element;
+        }
+
+        public int getArity() {
+            return sortKey.getArity();
+        }
+
+        /**
+         * @return {@code true} if declared in a supertype
+         */
+        public boolean isInherited() {
+            return inherited;
+        }
+
+        /**
+         * @return {@code false} for methods throwing checked exceptions, private methods, non public
+         * methods unless included, constructors of abstract or inner classes and deprecated methods
+         * unless deprecated methods are included
+         */
+        public boolean isSupported() {
+            return supported;
+        }
+
+        public boolean isDeprecated() {
+            return deprecated;
+        }
+
+        /**
+         * @return {@code true} if annotated with {@link RxExclude}
+         */
+        public boolean isExcluded() {
+            return excluded;
+        }
+
+        /**
+         * @return {@code true} if a spec is generated for this entry
+         */
+        public boolean isCandidate() {
+            return supported && !excluded;
+        }
+
+        /**
+         * @return the spec of a candidate, {@code null} if the method is not supported by the
+         * generator or the spec could not be created
+         */
+        public MethodSpec getSpec() {
+            return spec;
+        }
+
+        /**
+         * @return the reason why the spec of a candidate could not be created or {@code null}
+         */
+        public RuntimeException getFailure() {
+            return failure;
+        }
+
+        public String getGeneratedMethodname() {
+            return generatedMethodname;
+        }
+
+        /**
+         * @return {@code true} if the generated name got a {@code _} suffix because it would
+         * override a method of {@link Object}
+         */
+        public boolean isObjectMethodOverride() {
+            return objectMethodOverride;
+        }
+
+        /**
+         * @return the position within {@link MethodIndex#getOverloads(String)}, {@code 0} for
+         * the first candidate with the generated name
+         */
+        public int getOverloadIndex() {
+            return overloadIndex;
+        }
+
+        /**
+         * @return the name after {@link MethodIndex#resolveMethodnames(NamingStrategy)},
+         * {@code null} if excluded
+         */
+        public String getResolvedMethodname() {
+            return resolvedMethodname;
+        }
+
+        public boolean isRenamed() {
+            return resolvedMethodname != null && !resolvedMethodname.equals(generatedMethodname);
+        }
+
+        public boolean isDelegated() {
+            return spec != null && spec.getDelegateClassname() != null;
+        }
+    }
+}
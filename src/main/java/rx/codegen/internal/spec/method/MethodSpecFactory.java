@@ -16,6 +16,7 @@
 package rx.codegen.internal.spec.method;
 
 import java.util.List;
+import rx.codegen.AsyncType;
 import rx.codegen.internal.spec.MethodSpec;
 import javax.lang.model.element.ElementKind;
 import rx.codegen.internal.util.CodegenUtil;
@@ -52,6 +53,14 @@ public abstract class MethodSpecFactory {
         return new RenamedMethodSpec(definition, unambiguousGeneratedMethodname);
     }
 
+    /**
+     * The generated method calls the given method of an already generated class instead of
+     * creating an own Action or Func.
+     */
+    public static MethodSpec delegateMethodDefinition(MethodSpec definition, String delegateClassname, String delegateMethodname) {
+        return new DelegatedMethodSpec(definition, delegateClassname, delegateMethodname);
+    }
+
     private static class RenamedMethodSpec implements MethodSpec {
 
         private final MethodSpec spec;
@@ -112,9 +121,81 @@ public abstract class MethodSpecFactory {
             return spec.getReturnTypeOfCallMethod();
         }
 
+        @Override
+        public String getErasedReturnTypeOfCallMethod() {
+            return spec.getErasedReturnTypeOfCallMethod();
+        }
+
+        @Override
+        public String getUnboxedReturnTypeOfCallMethod() {
+            return spec.getUnboxedReturnTypeOfCallMethod();
+        }
+
+        @Override
+        public String getUnboxedFunction() {
+            return spec.getUnboxedFunction();
+        }
+
+        @Override
+        public AsyncType getAsyncType() {
+            return spec.getAsyncType();
+        }
+
+        @Override
+        public String getBulkMethodname() {
+            return spec.getBulkMethodname();
+        }
+
+        @Override
+        public String getMemoizedFunction() {
+            return spec.getMemoizedFunction();
+        }
+
+        @Override
+        public int getCacheSize() {
+            return spec.getCacheSize();
+        }
+
         @Override
         public String getJavadoc() {
             return spec.getJavadoc();
         }
+
+        @Override
+        public String getDelegateClassname() {
+            return spec.getDelegateClassname();
+        }
+
+        @Override
+        public String getDelegateMethodname() {
+            return spec.getDelegateMethodname();
+        }
+
+        @Override
+        public boolean isOverloaded() {
+            return spec.isOverloaded();
+        }
+    }
+
+    private static class DelegatedMethodSpec extends RenamedMethodSpec {
+
+        private final String delegateClassname;
+        private final String delegateMethodname;
+
+        public DelegatedMethodSpec(MethodSpec definition, String delegateClassname, String delegateMethodname) {
+            super(definition, definition.getGeneratedMethodname());
+            this.delegateClassname = delegateClassname;
+            this.delegateMethodname = delegateMethodname;
+        }
+
+        @Override
+        public String getDelegateClassname() {
+            return delegateClassname;
+        }
+
+        @Override
+        public String getDelegateMethodname() {
+            return delegateMethodname;
+        }
     }
 }
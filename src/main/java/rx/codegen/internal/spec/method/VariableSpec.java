@@ -24,6 +24,10 @@ public interface VariableSpec {
     String getType();
     
     String getUnboxedType();
+
+    String getErasedType();
+
+    String getErasedUnboxedType();
     
     String getName();
 }
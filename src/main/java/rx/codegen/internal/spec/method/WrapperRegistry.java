@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.spec.method;
+
+import rx.codegen.internal.spec.MethodSpec;
+import rx.codegen.internal.spec.TypeSpec;
+import rx.codegen.internal.util.CodegenUtil;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeVariable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The classes generated so far by an aggregating processor. Inherited methods are delegated
+ * to the generated class of their declaring type, if the method was generated there. The
+ * processor generates the types with inherited methods after all other types of the round,
+ * supertypes before their subtypes, so the result does not depend on the order of the
+ * annotated elements.
+ *
+ * <p>Only the generated class name and the generated names of the object methods of a
+ * non-final type are kept, final types cannot be supertypes.
+ *
+ * <p>Methods with parameters referring to type variables of their declaring type are not
+ * delegated, the compiler cannot always infer the type arguments of such a call.
+ *
+ * @author Matthias
+ */
+public final class WrapperRegistry {
+
+    private final CodegenUtil util;
+    private final Map<TypeElement, Wrapper> wrappers;
+
+    public WrapperRegistry(CodegenUtil util) {
+        this.util = util;
+        this.wrappers = new HashMap<TypeElement, Wrapper>();
+    }
+
+    /**
+     * Registers a generated class with its final method specs.
+     */
+    public void register(TypeSpec typeSpec, List<MethodSpec> methodSpecs) {
+        if (!isFinal(typeSpec)) {
+            final Wrapper wrapper = new Wrapper(typeSpec.getGeneratedPackagename(), typeSpec.getGeneratedQualifiedClassname());
+            wrapper.methodnames = createMethodnames(methodSpecs);
+            wrappers.put(typeSpec.getTypeElement(), wrapper);
+        }
+    }
+
+    /**
+     * Registers a class taken from the source cache. Its methods are resolved on demand.
+     */
+    public void registerCached(TypeSpec typeSpec) {
+        if (!isFinal(typeSpec)) {
+            final Wrapper wrapper = new Wrapper(typeSpec.getGeneratedPackagename(), typeSpec.getGeneratedQualifiedClassname());
+            wrapper.unresolved = typeSpec;
+            wrappers.put(typeSpec.getTypeElement(), wrapper);
+        }
+    }
+
+    private static boolean isFinal(TypeSpec typeSpec) {
+        return typeSpec.getTypeElement().getModifiers().contains(Modifier.FINAL);
+    }
+
+    /**
+     * @return the delegating spec if the declaring type of the method has a generated method
+     * for it, otherwise the given spec
+     */
+    public MethodSpec delegate(TypeSpec typeSpec, MethodSpec spec) {
+        final ExecutableElement methodElement = spec.getOriginatingElement();
+        final Element declaringType = methodElement.getEnclosingElement();
+        final Wrapper wrapper = declaringType.equals(typeSpec.getTypeElement()) ? null : wrappers.get(declaringType);
+        if (wrapper == null || !isAccessible(wrapper, typeSpec)
+                || refersToClassTypeVariables(methodElement, (TypeElement) declaringType)) {
+            return spec;
+        }
+
+        final String methodname = getMethodnames(wrapper).get(methodElement);
+        return methodname != null
+                ? MethodSpecFactory.delegateMethodDefinition(spec, wrapper.generatedQualifiedClassname, methodname)
+                : spec;
+    }
+
+    /**
+     * @return identifies the generated methods of the type or {@code null} if the type has no
+     * generated class
+     */
+    public String getFingerprint(TypeElement typeElement) {
+        final Wrapper wrapper = wrappers.get(typeElement);
+        if (wrapper == null) {
+            return null;
+        }
+
+        final SortedMap<String, String> methodnames = new TreeMap<String, String>();
+        for (Map.Entry<ExecutableElement, String> entry : getMethodnames(wrapper).entrySet()) {
+            methodnames.put(entry.getKey().getEnclosingElement() + "." + entry.getKey(), entry.getValue());
+        }
+        return wrapper.generatedQualifiedClassname + methodnames;
+    }
+
+    private boolean refersToClassTypeVariables(ExecutableElement methodElement, TypeElement declaringType) {
+        final Set<TypeVariable> classTypeVariables = util.getClassTypeVariables(declaringType);
+        if (classTypeVariables.isEmpty()) {
+            return false;
+        }
+
+        final Set<TypeVariable> parameterTypeVariables = util.findAllTypeVariablesFromElements(methodElement.getParameters());
+        parameterTypeVariables.retainAll(classTypeVariables);
+        return !parameterTypeVariables.isEmpty();
+    }
+
+    private static boolean isAccessible(Wrapper wrapper, TypeSpec typeSpec) {
+        // classes of the unnamed package cannot be imported
+        return !wrapper.generatedPackagename.isEmpty()
+                || typeSpec.getGeneratedPackagename().isEmpty();
+    }
+
+    private Map<ExecutableElement, String> getMethodnames(Wrapper wrapper) {
+        if (wrapper.methodnames == null) {
+            final TypeSpec typeSpec = wrapper.unresolved;
+            final MethodIndex methodIndex = MethodIndex.create(util, typeSpec, this);
+            wrapper.methodnames = createMethodnames(methodIndex.resolveMethodnames(typeSpec.getMethodNamingStrategy()));
+            wrapper.unresolved = null;
+        }
+        return wrapper.methodnames;
+    }
+
+    private static Map<ExecutableElement, String> createMethodnames(List<MethodSpec> methodSpecs) {
+        final Map<ExecutableElement, String> ret = new HashMap<ExecutableElement, String>();
+        for (MethodSpec methodSpec : methodSpecs) {
+            if (methodSpec.getCalledType().isObjectMethodCall()) {
+                ret.put(methodSpec.getOriginatingElement(), methodSpec.getGeneratedMethodname());
+            }
+        }
+        return ret;
+    }
+
+    private static class Wrapper {
+
+        private final String generatedPackagename;
+        private final String generatedQualifiedClassname;
+        private Map<ExecutableElement, String> methodnames;
+        private TypeSpec unresolved; //a class of the source cache until its methods are resolved
+
+        Wrapper(String generatedPackagename, String generatedQualifiedClassname) {
+            this.generatedPackagename = generatedPackagename;
+            this.generatedQualifiedClassname = generatedQualifiedClassname;
+        }
+    }
+}
@@ -15,8 +15,12 @@
  */
 package rx.codegen.internal.spec.type;
 
+import rx.codegen.AsyncType;
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.NamingStrategy;
 import rx.codegen.internal.spec.TypeSpec;
 import rx.codegen.internal.util.CodegenUtil;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 
 /**
@@ -38,6 +42,14 @@ abstract class AbstractTypeSpec implements TypeSpec {
         return typeElement;
     }
 
+    @Override
+    public Element[] getOriginatingElements() {
+        final Element originatingElement = getOriginatingElement();
+        return originatingElement.equals(typeElement)
+                ? new Element[]{typeElement}
+                : new Element[]{originatingElement, typeElement};
+    }
+
     @Override
     public String getFQOriClassnameWithGenerics() {
         return util.generateFullQualifiedNameWithGenerics(typeElement);
@@ -48,6 +60,11 @@ abstract class AbstractTypeSpec implements TypeSpec {
         return util.rawTypeElementToString(typeElement);
     }
 
+    @Override
+    public String getOriPackagename() {
+        return util.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+    }
+
     @Override
     public String getGeneratedQualifiedClassname() {
         return getGeneratedPackagename() + "." + getGeneratedSimpleClassname();
@@ -57,4 +74,49 @@ abstract class AbstractTypeSpec implements TypeSpec {
     public String getOriAnnotationComment() {
         return String.format("Orginating type: %s", getFQOriClassname());
     }
+
+    @Override
+    public NamingStrategy getMethodNamingStrategy() {
+        return getOptions().strategy();
+    }
+
+    @Override
+    public boolean includeDeprecated() {
+        return getOptions().includeDeprecated();
+    }
+
+    @Override
+    public boolean includeInherited() {
+        return getOptions().includeInherited();
+    }
+
+    @Override
+    public boolean includeNonPublic() {
+        return getOptions().includeNonPublic();
+    }
+
+    @Override
+    public ImplementationStrategy getImplementationStrategy() {
+        return getOptions().implementation();
+    }
+
+    @Override
+    public boolean generateUnboxed() {
+        return getOptions().unboxed();
+    }
+
+    @Override
+    public boolean generateOperators() {
+        return getOptions().operators();
+    }
+
+    @Override
+    public AsyncType getAsyncType() {
+        return getOptions().async();
+    }
+
+    @Override
+    public boolean generateBatches() {
+        return getOptions().batches();
+    }
 }
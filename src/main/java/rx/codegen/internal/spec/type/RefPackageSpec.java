@@ -15,30 +15,38 @@
  */
 package rx.codegen.internal.spec.type;
 
-import rx.codegen.NamingStrategy;
-import rx.codegen.RefPackage;
 import rx.codegen.RxCodeGenerator;
 import rx.codegen.RxRefCodeGenerator;
+import rx.codegen.internal.spec.OptionValues;
 import rx.codegen.internal.util.CodegenUtil;
 
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 
 /**
+ * A type of a referenced package or module. Types of sub-packages of the source package are
+ * generated into the corresponding sub-packages of the originating package.
+ *
  * @author Matthias
  */
 class RefPackageSpec extends AbstractTypeSpec {
 
     private final PackageElement originatingPackage;
     private final RxRefCodeGenerator refCodeGenerator;
-    private final RefPackage refPackage;
+    private final String sourcePackagename;
+    private final OptionValues options;
 
+    /**
+     * @param sourcePackagename the referenced package, empty for a referenced module
+     */
     public RefPackageSpec(CodegenUtil util, TypeElement typeElement, PackageElement originatingPackage,
-                          RxRefCodeGenerator packageCodeGenerator, RefPackage refPackage) {
+                          RxRefCodeGenerator packageCodeGenerator, String sourcePackagename, OptionValues options) {
         super(util, typeElement);
         this.originatingPackage = originatingPackage;
         this.refCodeGenerator = packageCodeGenerator;
-        this.refPackage = refPackage;
+        this.sourcePackagename = sourcePackagename;
+        final OptionValues classOptions = OptionValues.of(util.getElementUtils(), typeElement, RxCodeGenerator.class);
+        this.options = classOptions != null ? classOptions : options;
     }
 
     @Override
@@ -48,9 +56,12 @@ class RefPackageSpec extends AbstractTypeSpec {
 
     @Override
     public String getGeneratedPackagename() {
-        final String sourcePackage = refPackage.name();
         final PackageElement packageOfType = util.getElementUtils().getPackageOf(typeElement);
-        final String substring = packageOfType.getQualifiedName().toString().substring(sourcePackage.length());
+        String substring = packageOfType.getQualifiedName().toString().substring(sourcePackagename.length());
+        if (substring.startsWith(".")) {
+            substring = substring.substring(1);
+        }
+
         if (substring.isEmpty()) {
             return originatingPackage.getQualifiedName().toString();
         }
@@ -71,18 +82,7 @@ class RefPackageSpec extends AbstractTypeSpec {
     }
 
     @Override
-    public NamingStrategy getMethodNamingStrategy() {
-        final RxCodeGenerator classCodeGenerator = typeElement.getAnnotation(RxCodeGenerator.class);
-        return classCodeGenerator != null
-                ? classCodeGenerator.options().strategy()
-                : refPackage.options().strategy();
-    }
-
-    @Override
-    public boolean includeDeprecated() {
-        final RxCodeGenerator classCodeGenerator = typeElement.getAnnotation(RxCodeGenerator.class);
-        return classCodeGenerator != null
-                ? classCodeGenerator.options().includeDeprecated()
-                : refPackage.options().includeDeprecated();
+    public OptionValues getOptions() {
+        return options;
     }
 }
@@ -17,8 +17,9 @@ package rx.codegen.internal.spec.type;
 
 import rx.codegen.RefClass;
 import rx.codegen.internal.util.CodegenUtil;
+import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
-import rx.codegen.NamingStrategy;
+import rx.codegen.internal.spec.OptionValues;
 import rx.codegen.RxRefCodeGenerator;
 
 /**
@@ -27,26 +28,28 @@ import rx.codegen.RxRefCodeGenerator;
  */
 class RefSpec extends AbstractTypeSpec {
 
-    private final String destinationPackage;
+    private final PackageElement destinationPackage;
     private final RxRefCodeGenerator refCodeGenerator;
     private final RefClass refClass;
+    private final OptionValues options;
 
-    public RefSpec(CodegenUtil util, TypeElement typeElement, String destinationPackage,
-            RxRefCodeGenerator refCodeGenerator, RefClass refClass) {
+    public RefSpec(CodegenUtil util, TypeElement typeElement, PackageElement destinationPackage,
+            RxRefCodeGenerator refCodeGenerator, RefClass refClass, OptionValues options) {
         super(util, typeElement);
         this.destinationPackage = destinationPackage;
         this.refCodeGenerator = refCodeGenerator;
         this.refClass = refClass;
+        this.options = options;
     }
 
     @Override
-    public TypeElement getOriginatingElement() {
-        return typeElement;
+    public PackageElement getOriginatingElement() {
+        return destinationPackage;
     }
 
     @Override
     public String getGeneratedPackagename() {
-        return destinationPackage;
+        return destinationPackage.getQualifiedName().toString();
     }
 
     @Override
@@ -62,12 +65,7 @@ class RefSpec extends AbstractTypeSpec {
     }
 
     @Override
-    public NamingStrategy getMethodNamingStrategy() {
-        return refClass.options().strategy();
+    public OptionValues getOptions() {
+        return options;
     }
-    
-    @Override
-    public boolean includeDeprecated() {
-        return refClass.options().includeDeprecated();
-    }    
 }
@@ -18,7 +18,7 @@ package rx.codegen.internal.spec.type;
 import rx.codegen.RxCodeGenerator;
 import rx.codegen.internal.util.CodegenUtil;
 import javax.lang.model.element.TypeElement;
-import rx.codegen.NamingStrategy;
+import rx.codegen.internal.spec.OptionValues;
 
 /**
  *
@@ -27,10 +27,12 @@ import rx.codegen.NamingStrategy;
 class StandardSpec extends AbstractTypeSpec {
 
     private final RxCodeGenerator classCodeGenerator;
+    private final OptionValues options;
 
-    public StandardSpec(CodegenUtil util, TypeElement typeElement, RxCodeGenerator classCodeGenerator) {
+    public StandardSpec(CodegenUtil util, TypeElement typeElement, RxCodeGenerator classCodeGenerator, OptionValues options) {
         super(util, typeElement);
         this.classCodeGenerator = classCodeGenerator;
+        this.options = options;
     }
 
     @Override
@@ -56,12 +58,7 @@ class StandardSpec extends AbstractTypeSpec {
     }
 
     @Override
-    public NamingStrategy getMethodNamingStrategy() {
-        return classCodeGenerator.options().strategy();
-    }
-
-    @Override
-    public boolean includeDeprecated() {
-        return classCodeGenerator.options().includeDeprecated();
+    public OptionValues getOptions() {
+        return options;
     }
 }
@@ -15,9 +15,12 @@
  */
 package rx.codegen.internal.spec.type;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 import rx.codegen.internal.spec.TypeSpec;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
@@ -26,11 +29,16 @@ import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
+import rx.codegen.RefModule;
 import rx.codegen.RxCodeGenerator;
 import rx.codegen.RefClass;
 import rx.codegen.RxRefCodeGenerator;
 import rx.codegen.RefPackage;
+import rx.codegen.internal.spec.OptionValues;
+import rx.codegen.internal.util.ClassNameFilter;
 import rx.codegen.internal.util.CodegenUtil;
+import rx.codegen.internal.util.ModuleSupport;
+import rx.codegen.internal.util.PackageScanner;
 
 /**
  *
@@ -38,39 +46,47 @@ import rx.codegen.internal.util.CodegenUtil;
  */
 public abstract class TypeSpecFactory {
 
-    public static List<? extends TypeSpec> createTypeSpecs(CodegenUtil util, Element element) {
+    /**
+     * Referenced packages and modules are resolved lazily, one type at a time, so no more
+     * than the currently processed type has to be kept.
+     */
+    public static Iterator<TypeSpec> createTypeSpecs(CodegenUtil util, Element element) {
         final RxCodeGenerator classCodeGenerator = element.getAnnotation(RxCodeGenerator.class);
         final RxRefCodeGenerator refCodeGenerator = element.getAnnotation(RxRefCodeGenerator.class);
 
         if (classCodeGenerator != null && isRelevantClass(element)) {
-            return createFromType(util, (TypeElement) element, classCodeGenerator);
+            return Collections.<TypeSpec>unmodifiableList(
+                    createFromType(util, (TypeElement) element, classCodeGenerator)).iterator();
 
         } else if (refCodeGenerator != null && element.getKind() == ElementKind.PACKAGE) {
-            final List<TypeSpec> ret = new ArrayList<TypeSpec>();
             final PackageElement packageElement = (PackageElement) element;
 
-            ret.addAll(createFromRefClasses(util, packageElement, refCodeGenerator));
-            ret.addAll(createFromRefPackage(util, refCodeGenerator, packageElement));
-            return ret;
+            return Iterators.concat(
+                    Collections.<TypeSpec>unmodifiableList(createFromRefClasses(util, packageElement, refCodeGenerator)).iterator(),
+                    createFromRefPackages(util, refCodeGenerator, packageElement),
+                    createFromRefModules(util, refCodeGenerator, packageElement));
         }
-        return Collections.emptyList();
+        return Collections.<TypeSpec>emptyList().iterator();
     }
 
     private static List<StandardSpec> createFromType(CodegenUtil util, TypeElement typeElement, RxCodeGenerator classCodeGenerator) {
         if (!isTypeElementSupported(util, typeElement)) {
             return Collections.emptyList();
-        } else if (!classCodeGenerator.options().includeDeprecated() && util.isDeprecatedElement(typeElement)) {
-            return Collections.emptyList();
         }
 
-        return Collections.singletonList(new StandardSpec(util, typeElement, classCodeGenerator));
+        final OptionValues options = OptionValues.of(util.getElementUtils(), typeElement, RxCodeGenerator.class);
+        if (!options.includeDeprecated() && util.isDeprecatedElement(typeElement)) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new StandardSpec(util, typeElement, classCodeGenerator, options));
     }
 
     private static List<RefSpec> createFromRefClasses(CodegenUtil util, PackageElement destinationPackageElement, RxRefCodeGenerator refCodeGenerator) {
         final List<RefSpec> ret = new ArrayList<RefSpec>();
-        final String destinationPackageName = destinationPackageElement.getQualifiedName().toString();
 
-        for (RefClass refClass : refCodeGenerator.classes()) {
+        final RefClass[] refClasses = refCodeGenerator.classes();
+        for (int i = 0; i < refClasses.length; i++) {
+            final RefClass refClass = refClasses[i];
             final TypeElement typeElement = util.getElementUtils().getTypeElement(refClass.name());
             if (typeElement == null) {
                 util.getMessager().printMessage(Diagnostic.Kind.WARNING,
@@ -80,50 +96,98 @@ public abstract class TypeSpecFactory {
 
             if (!isTypeElementSupported(util, typeElement)) {
                 continue;
-            } else if (!refClass.options().includeDeprecated() && util.isDeprecatedElement(typeElement)) {
-                continue;
             }
 
-            ret.add(new RefSpec(util, typeElement, destinationPackageName, refCodeGenerator, refClass));
+            final OptionValues options = OptionValues.of(util.getElementUtils(), destinationPackageElement,
+                    RxRefCodeGenerator.class, "classes", i);
+            if (!options.includeDeprecated() && util.isDeprecatedElement(typeElement)) {
+                continue;
+            }
+            ret.add(new RefSpec(util, typeElement, destinationPackageElement, refCodeGenerator, refClass, options));
         }
         return ret;
     }
 
-    private static List<RefPackageSpec> createFromRefPackage(CodegenUtil util,
-            RxRefCodeGenerator refCodeGenerator, PackageElement orginatingPackage) {
-        final List<RefPackageSpec> ret = new ArrayList<RefPackageSpec>();
-        for (RefPackage packageType : refCodeGenerator.packages()) {
-            ret.addAll(createFromRefPackage(util, refCodeGenerator, packageType, orginatingPackage));
-        }
-        return ret;
+    private static Iterator<TypeSpec> createFromRefPackages(final CodegenUtil util,
+            final RxRefCodeGenerator refCodeGenerator, final PackageElement orginatingPackage) {
+        final RefPackage[] refPackages = refCodeGenerator.packages();
+        return Iterators.concat(new AbstractIterator<Iterator<TypeSpec>>() {
+
+            private int index;
+
+            @Override
+            protected Iterator<TypeSpec> computeNext() {
+                return index < refPackages.length
+                        ? createFromRefPackage(util, refCodeGenerator, refPackages[index], index++, orginatingPackage)
+                        : endOfData();
+            }
+        });
     }
 
-    private static List<RefPackageSpec> createFromRefPackage(CodegenUtil util,
-            RxRefCodeGenerator refCodeGenerator, RefPackage refPackage,
+    private static Iterator<TypeSpec> createFromRefPackage(CodegenUtil util,
+            RxRefCodeGenerator refCodeGenerator, RefPackage refPackage, int index,
             PackageElement orginatingPackage) {
         // resolve defined package
         final String packageName = refPackage.name();
         final PackageElement packageElement = util.getElementUtils().getPackageElement(packageName);
         if (packageElement == null) {
             util.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Referenced package '%s' not found", packageName), orginatingPackage);
-            return Collections.emptyList();
+            return Collections.<TypeSpec>emptyList().iterator();
         }
 
-        //find all types in defined package
-        final List<RefPackageSpec> ret = new ArrayList<RefPackageSpec>();
-        final List<TypeElement> typeElements = ElementFilter.typesIn(packageElement.getEnclosedElements());
-        for (TypeElement typeElement : typeElements) {
-            if (!isRelevantClass(typeElement)) {
-                continue;
-            } else if (!isTypeElementSupported(util, typeElement)) {
-                continue;
-            } else if (!refPackage.options().includeDeprecated() && util.isDeprecatedElement(typeElement)) {
-                continue;
+        final List<PackageElement> packages = new ArrayList<PackageElement>();
+        packages.add(packageElement);
+        if (refPackage.recursive()) {
+            final List<PackageElement> subpackages = PackageScanner.getSubpackages(util, packageElement);
+            if (subpackages == null) {
+                util.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("Sub-packages of '%s' cannot be enumerated, its types are not found in a jar or directory", packageName), orginatingPackage);
+                return Collections.<TypeSpec>emptyList().iterator();
             }
+            packages.addAll(subpackages);
+        }
+
+        return new PackageTypeSpecIterator(util, refCodeGenerator, orginatingPackage, packages, packageName,
+                OptionValues.of(util.getElementUtils(), orginatingPackage, RxRefCodeGenerator.class, "packages", index),
+                ClassNameFilter.create(refPackage.includes(), refPackage.excludes()));
+    }
+
+    private static Iterator<TypeSpec> createFromRefModules(final CodegenUtil util,
+            final RxRefCodeGenerator refCodeGenerator, final PackageElement orginatingPackage) {
+        final RefModule[] refModules = refCodeGenerator.modules();
+        return Iterators.concat(new AbstractIterator<Iterator<TypeSpec>>() {
+
+            private int index;
 
-            ret.add(new RefPackageSpec(util, typeElement, orginatingPackage, refCodeGenerator, refPackage));
+            @Override
+            protected Iterator<TypeSpec> computeNext() {
+                return index < refModules.length
+                        ? createFromRefModule(util, refCodeGenerator, refModules[index], index++, orginatingPackage)
+                        : endOfData();
+            }
+        });
+    }
+
+    private static Iterator<TypeSpec> createFromRefModule(CodegenUtil util,
+            RxRefCodeGenerator refCodeGenerator, RefModule refModule, int index,
+            PackageElement orginatingPackage) {
+        if (!ModuleSupport.isSupported()) {
+            util.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("Referenced module '%s' requires Java 9 or later", refModule.name()), orginatingPackage);
+            return Collections.<TypeSpec>emptyList().iterator();
         }
-        return ret;
+
+        final Element moduleElement = ModuleSupport.getModuleElement(util.getElementUtils(), refModule.name());
+        if (moduleElement == null) {
+            util.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("Referenced module '%s' not found", refModule.name()), orginatingPackage);
+            return Collections.<TypeSpec>emptyList().iterator();
+        }
+
+        return new PackageTypeSpecIterator(util, refCodeGenerator, orginatingPackage,
+                ModuleSupport.getExportedPackages(moduleElement), "",
+                OptionValues.of(util.getElementUtils(), orginatingPackage, RxRefCodeGenerator.class, "modules", index),
+                ClassNameFilter.create(refModule.includes(), refModule.excludes()));
     }
 
     private static boolean isTypeElementSupported(CodegenUtil util, TypeElement typeElement) {
@@ -145,4 +209,61 @@ public abstract class TypeSpecFactory {
         final ElementKind kind = element.getKind();
         return kind == ElementKind.CLASS || kind == ElementKind.ENUM || kind == ElementKind.INTERFACE;
     }
+
+    /**
+     * Creates the specs of the types of the given packages on demand. Packages and types are
+     * filtered by name first, so javac does not have to complete filtered types.
+     */
+    private static class PackageTypeSpecIterator extends AbstractIterator<TypeSpec> {
+
+        private final CodegenUtil util;
+        private final RxRefCodeGenerator refCodeGenerator;
+        private final PackageElement orginatingPackage;
+        private final Iterator<PackageElement> packages;
+        private final String sourcePackagename;
+        private final OptionValues options;
+        private final ClassNameFilter filter;
+        private Iterator<TypeElement> typeElements = Collections.<TypeElement>emptyList().iterator();
+
+        PackageTypeSpecIterator(CodegenUtil util, RxRefCodeGenerator refCodeGenerator, PackageElement orginatingPackage,
+                List<PackageElement> packages, String sourcePackagename, OptionValues options, ClassNameFilter filter) {
+            this.util = util;
+            this.refCodeGenerator = refCodeGenerator;
+            this.orginatingPackage = orginatingPackage;
+            this.packages = packages.iterator();
+            this.sourcePackagename = sourcePackagename;
+            this.options = options;
+            this.filter = filter;
+        }
+
+        @Override
+        protected TypeSpec computeNext() {
+            while (true) {
+                while (typeElements.hasNext()) {
+                    final TypeElement typeElement = typeElements.next();
+                    if (!filter.accepts(typeElement.getQualifiedName().toString())) {
+                        continue;
+                    } else if (!isRelevantClass(typeElement)) {
+                        continue;
+                    } else if (!isTypeElementSupported(util, typeElement)) {
+                        continue;
+                    } else if (!options.includeDeprecated() && util.isDeprecatedElement(typeElement)) {
+                        continue;
+                    }
+
+                    return new RefPackageSpec(util, typeElement, orginatingPackage, refCodeGenerator,
+                            sourcePackagename, options);
+                }
+
+                if (!packages.hasNext()) {
+                    return endOfData();
+                }
+
+                final PackageElement packageElement = packages.next();
+                if (filter.mayAcceptPackage(packageElement.getQualifiedName().toString())) {
+                    typeElements = ElementFilter.typesIn(packageElement.getEnclosedElements()).iterator();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Include and exclude patterns of qualified class names. Only names are inspected,
+ * so filtering does not force the compiler to load the filtered types.
+ *
+ * <p>{@code *} matches any characters except {@code .}, {@code **} matches any
+ * characters and {@code ?} matches a single character except {@code .}.
+ *
+ * @author Matthias
+ */
+public final class ClassNameFilter {
+
+    private final List<Pattern> includes;
+    private final List<String> includePrefixes;
+    private final List<Pattern> excludes;
+
+    private ClassNameFilter(List<Pattern> includes, List<String> includePrefixes, List<Pattern> excludes) {
+        this.includes = includes;
+        this.includePrefixes = includePrefixes;
+        this.excludes = excludes;
+    }
+
+    public static ClassNameFilter create(String[] includes, String[] excludes) {
+        final List<Pattern> includePatterns = new ArrayList<Pattern>();
+        final List<String> includePrefixes = new ArrayList<String>();
+        for (String include : includes) {
+            includePatterns.add(toPattern(include));
+            includePrefixes.add(literalPrefix(include));
+        }
+
+        final List<Pattern> excludePatterns = new ArrayList<Pattern>();
+        for (String exclude : excludes) {
+            excludePatterns.add(toPattern(exclude));
+        }
+        return new ClassNameFilter(includePatterns, includePrefixes, excludePatterns);
+    }
+
+    public boolean accepts(String qualifiedClassname) {
+        boolean included = includes.isEmpty();
+        for (int i = 0; !included && i < includes.size(); i++) {
+            included = includes.get(i).matcher(qualifiedClassname).matches();
+        }
+        if (!included) {
+            return false;
+        }
+
+        for (Pattern exclude : excludes) {
+            if (exclude.matcher(qualifiedClassname).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code false} if no class of the given package can be accepted
+     */
+    public boolean mayAcceptPackage(String packagename) {
+        if (includePrefixes.isEmpty()) {
+            return true;
+        }
+
+        final String packagePrefix = packagename + ".";
+        for (String includePrefix : includePrefixes) {
+            if (packagePrefix.startsWith(includePrefix) || includePrefix.startsWith(packagePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String literalPrefix(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            final char c = glob.charAt(i);
+            if (c == '*' || c == '?') {
+                return glob.substring(0, i);
+            }
+        }
+        return glob;
+    }
+
+    private static Pattern toPattern(String glob) {
+        final StringBuilder regex = new StringBuilder();
+        final StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            final char c = glob.charAt(i);
+            if (c != '*' && c != '?') {
+                literal.append(c);
+                continue;
+            }
+
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+
+            if (c == '?') {
+                regex.append("[^.]");
+            } else if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else {
+                regex.append("[^.]*");
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
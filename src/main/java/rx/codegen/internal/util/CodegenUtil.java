@@ -34,6 +34,8 @@ import java.util.regex.Pattern;
 public class CodegenUtil {
 
     private static final String JAVA_LANG_PACKAGE_NAME = "java.lang";
+    private static final String UNBOXED_FUNCTIONS_PACKAGE_NAME = "rx.codegen.functions";
+    private static final String MEMOIZED_FUNCTIONS_PACKAGE_NAME = "rx.codegen.cache";
     private static final Pattern NEW_LINE_PATTERN = Pattern.compile("\\r?\\n");
 
     private final ProcessingEnvironment processingEnv;
@@ -43,14 +45,30 @@ public class CodegenUtil {
     private final PackageElement javaLangPackage;
     private final TypeElement objectTypeElement;
     private final ListMultimap<String, ExecutableElement> objectMethodsByName;
+    private final TypeStringCache typeStringCache;
+    private final ProcessorStatistics statistics;
+    private final Map<TypeElement, Set<TypeVariable>> classTypeVariablesCache;
+    private final Map<TypeElement, Map<TypeVariable, String>> classTypeVariableNameMappingCache;
+    private final Map<TypeElement, List<ExecutableElement>> instanceMethodsCache;
+    private final Map<TypeElement, Set<String>> overloadedMethodnamesCache;
 
     public CodegenUtil(ProcessingEnvironment processingEnv) {
+        this(processingEnv, new ProcessorStatistics(false));
+    }
+
+    public CodegenUtil(ProcessingEnvironment processingEnv, ProcessorStatistics statistics) {
         this.processingEnv = processingEnv;
         this.typeUtils = processingEnv.getTypeUtils();
         this.elementUtils = processingEnv.getElementUtils();
         this.objectTypeElement = elementUtils.getTypeElement(Object.class.getName());
         this.javaLangPackage = elementUtils.getPackageElement(JAVA_LANG_PACKAGE_NAME);
         this.objectMethodsByName = initObjectMethodsByName(objectTypeElement);
+        this.typeStringCache = new TypeStringCache();
+        this.statistics = statistics;
+        this.classTypeVariablesCache = new HashMap<TypeElement, Set<TypeVariable>>();
+        this.classTypeVariableNameMappingCache = new HashMap<TypeElement, Map<TypeVariable, String>>();
+        this.instanceMethodsCache = new HashMap<TypeElement, List<ExecutableElement>>();
+        this.overloadedMethodnamesCache = new HashMap<TypeElement, Set<String>>();
     }
 
     private static ListMultimap<String, ExecutableElement> initObjectMethodsByName(TypeElement objectTypeElement) {
@@ -81,6 +99,29 @@ public class CodegenUtil {
         return elementUtils;
     }
 
+    public TypeStringCache getTypeStringCache() {
+        return typeStringCache;
+    }
+
+    public ProcessorStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Releases the caches of the already processed types. The type string cache is
+     * dropped as a whole once it holds more than {@code maxTypeStrings} entries.
+     * The member tables of {@link #getInstanceMethods(TypeElement)} are kept, they
+     * are shared by all subtypes.
+     */
+    public void releaseTypeCaches(int maxTypeStrings) {
+        classTypeVariablesCache.clear();
+        classTypeVariableNameMappingCache.clear();
+        overloadedMethodnamesCache.clear();
+        if (typeStringCache.size() > maxTypeStrings) {
+            typeStringCache.clear();
+        }
+    }
+
     public String generateSimpleClassname(TypeElement element) {
         return element.getSimpleName().toString() + "_";
     }
@@ -93,7 +134,7 @@ public class CodegenUtil {
         for (int i = 0; i < size; i++) {
             comment.append("     *").append(lines.get(i)).append("\n");
         }
-        comment.append("     */");
+        comment.append("     */").append("\n");
         return comment.toString();
     }
 
@@ -149,15 +190,187 @@ public class CodegenUtil {
         return ret;
     }
 
-    public List<ExecutableElement> findRecursiveAllMethods(TypeElement rootTypeElement) {
-        final List<? extends Element> allMembers = elementUtils.getAllMembers(rootTypeElement);
-        return ElementFilter.methodsIn(allMembers);
+    /**
+     * The non private instance methods of the given type, the declared ones first, followed by the
+     * inherited ones which are not overridden. Methods of {@code java.lang.Object} are not included.
+     * The member table of every supertype is computed only once and shared by all its subtypes.
+     */
+    public List<ExecutableElement> getInstanceMethods(TypeElement typeElement) {
+        List<ExecutableElement> ret = instanceMethodsCache.get(typeElement);
+        if (ret == null) {
+            ret = Collections.unmodifiableList(createInstanceMethods(typeElement));
+            instanceMethodsCache.put(typeElement, ret);
+        }
+        return ret;
+    }
+
+    private List<ExecutableElement> createInstanceMethods(TypeElement typeElement) {
+        final List<ExecutableElement> ret = new ArrayList<ExecutableElement>();
+        if (typeElement.equals(objectTypeElement)) {
+            return ret;
+        }
+
+        final ListMultimap<String, ExecutableElement> methodsByName = ArrayListMultimap.create();
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.PRIVATE)) {
+                ret.add(method);
+                methodsByName.put(method.getSimpleName().toString(), method);
+            }
+        }
+
+        // superclass first, then the interfaces
+        for (TypeElement supertype : getDirectSupertypes(typeElement)) {
+            for (ExecutableElement inherited : getInstanceMethods(supertype)) {
+                final List<ExecutableElement> sameName = methodsByName.get(inherited.getSimpleName().toString());
+                if (!isOverridden(inherited, sameName, typeElement)) {
+                    ret.add(inherited);
+                    sameName.add(inherited);
+                }
+            }
+        }
+        return ret;
+    }
+
+    private boolean isOverridden(ExecutableElement inherited, List<ExecutableElement> candidates, TypeElement typeElement) {
+        for (ExecutableElement candidate : candidates) {
+            if (candidate.equals(inherited) || elementUtils.overrides(candidate, inherited, typeElement)) {
+                return true;
+            }
+
+            // same method inherited twice, e.g. abstract in the superclass and declared in an interface
+            if (candidate.getParameters().size() == inherited.getParameters().size()
+                    && typeUtils.isSubsignature(getMemberType(typeElement, candidate), getMemberType(typeElement, inherited))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the type has other constructors than the given one, or other
+     * methods with the same name, static and inherited methods included
+     */
+    public boolean isOverloaded(TypeElement typeElement, ExecutableElement method) {
+        if (method.getKind() == ElementKind.CONSTRUCTOR) {
+            return ElementFilter.constructorsIn(typeElement.getEnclosedElements()).size() > 1;
+        }
+
+        Set<String> ret = overloadedMethodnamesCache.get(typeElement);
+        if (ret == null) {
+            ret = new HashSet<String>();
+            final Set<String> methodnames = new HashSet<String>();
+            for (ExecutableElement member : ElementFilter.methodsIn(elementUtils.getAllMembers(typeElement))) {
+                final String methodname = member.getSimpleName().toString();
+                if (!methodnames.add(methodname)) {
+                    ret.add(methodname);
+                }
+            }
+            overloadedMethodnamesCache.put(typeElement, ret);
+        }
+        return ret.contains(method.getSimpleName().toString());
+    }
+
+    /**
+     * @return {@code true} if the primitive-specialized functions of rxjava-codegen-runtime are
+     * on the classpath
+     */
+    public boolean isUnboxedFunctionsAvailable() {
+        return elementUtils.getPackageElement(UNBOXED_FUNCTIONS_PACKAGE_NAME) != null;
+    }
+
+    /**
+     * @return the qualified name of the primitive-specialized function with the given simple
+     * name or {@code null} if the runtime has no such interface
+     */
+    public String findUnboxedFunction(String simpleName) {
+        final TypeElement function = elementUtils.getTypeElement(UNBOXED_FUNCTIONS_PACKAGE_NAME + "." + simpleName);
+        return function != null ? function.getQualifiedName().toString() : null;
+    }
+
+    /**
+     * @return the qualified name of the memoizing function of the runtime with the given number
+     * of parameters or {@code null} if the runtime is not on the classpath
+     */
+    public String findMemoizedFunction(int arity) {
+        final TypeElement function = elementUtils.getTypeElement(MEMOIZED_FUNCTIONS_PACKAGE_NAME + ".MemoizedFunc" + arity);
+        return function != null ? function.getQualifiedName().toString() : null;
+    }
+
+    /**
+     * @return the direct supertypes, without {@code java.lang.Object}
+     */
+    public List<TypeElement> getDirectSupertypes(TypeElement typeElement) {
+        final List<TypeElement> ret = new ArrayList<TypeElement>();
+        for (TypeMirror supertype : typeUtils.directSupertypes(typeElement.asType())) {
+            if (supertype.getKind() == TypeKind.DECLARED && !isObjectType(supertype)) {
+                ret.add((TypeElement) ((DeclaredType) supertype).asElement());
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return all supertypes, nearest first, without {@code java.lang.Object}
+     */
+    public Set<TypeElement> getAllSupertypes(TypeElement typeElement) {
+        final Set<TypeElement> ret = new LinkedHashSet<TypeElement>();
+        final LinkedList<TypeElement> queue = new LinkedList<TypeElement>(getDirectSupertypes(typeElement));
+
+        TypeElement current;
+        while ((current = queue.poll()) != null) {
+            if (ret.add(current)) {
+                queue.addAll(getDirectSupertypes(current));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return the type of the method as member of the given type, the type variables of
+     * generic supertypes are substituted by the type arguments of the given type
+     */
+    public ExecutableType getMemberType(TypeElement typeElement, ExecutableElement method) {
+        if (method.getEnclosingElement().equals(typeElement)) {
+            return (ExecutableType) method.asType();
+        }
+        return (ExecutableType) typeUtils.asMemberOf((DeclaredType) typeElement.asType(), method);
     }
 
     public Set<TypeVariable> findAllTypeVariables(TypeElement typeElement) {
         return findAllTypeVariables(typeElement.asType());
     }
 
+    /**
+     * Same as {@link #findAllTypeVariables(TypeElement)}, but computed only once per type.
+     */
+    public Set<TypeVariable> getClassTypeVariables(TypeElement typeElement) {
+        Set<TypeVariable> ret = classTypeVariablesCache.get(typeElement);
+        if (ret == null) {
+            ret = Collections.unmodifiableSet(findAllTypeVariables(typeElement));
+            classTypeVariablesCache.put(typeElement, ret);
+        }
+        return ret;
+    }
+
+    /**
+     * Maps the type variables of the given type to the names {@code C0..Cn}.
+     * The returned map is computed only once per type and shared by all its methods.
+     */
+    public Map<TypeVariable, String> getClassTypeVariableNameMapping(TypeElement typeElement) {
+        Map<TypeVariable, String> ret = classTypeVariableNameMappingCache.get(typeElement);
+        if (ret == null) {
+            final Map<TypeVariable, String> mapping = new HashMap<TypeVariable, String>();
+            int i = 0;
+            for (TypeVariable classTypeVariable : getClassTypeVariables(typeElement)) {
+                mapping.put(classTypeVariable, "C" + i++);
+            }
+            ret = Collections.unmodifiableMap(mapping);
+            classTypeVariableNameMappingCache.put(typeElement, ret);
+        }
+        return ret;
+    }
+
     public Set<TypeVariable> findAllTypeVariablesFromElements(List<? extends Element> elements) {
         final Set<TypeVariable> ret = new LinkedHashSet<TypeVariable>();
         for (Element element : elements) {
@@ -238,6 +451,20 @@ public class CodegenUtil {
     }
 
     public String typeToString(TypeMirror rootType, Map<TypeVariable, String> typeVariableNameMapping, boolean suppressTypeVarDecl) {
+        final long start = statistics.start();
+        try {
+            final String cached = typeStringCache.get(rootType, typeVariableNameMapping, suppressTypeVarDecl);
+            if (cached != null) {
+                return cached;
+            }
+            return typeStringCache.put(rootType, typeVariableNameMapping, suppressTypeVarDecl,
+                    createTypeString(rootType, typeVariableNameMapping, suppressTypeVarDecl));
+        } finally {
+            statistics.stop(ProcessorStatistics.Phase.TYPE_STRINGS, start);
+        }
+    }
+
+    private String createTypeString(TypeMirror rootType, Map<TypeVariable, String> typeVariableNameMapping, boolean suppressTypeVarDecl) {
         final StringBuilder ret = new StringBuilder();
         final Set<TypeMirror> definedTypeArgs = new HashSet<TypeMirror>();
 
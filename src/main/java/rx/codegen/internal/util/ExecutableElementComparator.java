@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders methods and constructors by name, parameter count and parameter type names.
+ *
+ * <p>The sort key of an element can be created once with {@link #createKey}, so sorting
+ * many elements does not build the parameter type names on every comparison.
+ *
+ * @author Matthias
+ */
+public class ExecutableElementComparator implements Comparator<ExecutableElement> {
+
+    private final CodegenUtil util;
+
+    public ExecutableElementComparator(CodegenUtil util) {
+        this.util = util;
+    }
+
+    @Override
+    public int compare(ExecutableElement o1, ExecutableElement o2) {
+        return createKey(util, o1, ((ExecutableType) o1.asType()).getParameterTypes())
+                .compareTo(createKey(util, o2, ((ExecutableType) o2.asType()).getParameterTypes()));
+    }
+
+    /**
+     * @param parameterTypes the parameter types of the element, e.g. as member of a subtype
+     */
+    public static Key createKey(CodegenUtil util, ExecutableElement element, List<? extends TypeMirror> parameterTypes) {
+        final StringBuilder parameterTypeNames = new StringBuilder();
+        for (TypeMirror parameterType : parameterTypes) {
+            parameterTypeNames.append(util.boxTypeIfNeeded(parameterType));
+        }
+        return new Key(element.getSimpleName().toString(), parameterTypes.size(), parameterTypeNames.toString());
+    }
+
+    public static final class Key implements Comparable<Key> {
+
+        private final String name;
+        private final int arity;
+        private final String parameterTypeNames;
+
+        private Key(String name, int arity, String parameterTypeNames) {
+            this.name = name;
+            this.arity = arity;
+            this.parameterTypeNames = parameterTypeNames;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getArity() {
+            return arity;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            //compare by methodname
+            int dif = name.compareTo(other.name);
+            if (dif != 0) {
+                return dif;
+            }
+
+            //compare by parameter count
+            dif = arity - other.arity;
+            if (dif != 0) {
+                return dif;
+            }
+
+            //compare by paramter type names
+            return parameterTypeNames.compareTo(other.parameterTypeNames);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.util.Elements;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Access to the module API of Java 9 and later. The processor is compiled for Java 6,
+ * therefore everything goes through reflection.
+ *
+ * @author Matthias
+ */
+public abstract class ModuleSupport {
+
+    private static final Method GET_MODULE_ELEMENT;
+    private static final Method GET_DIRECTIVES;
+    private static final Method GET_DIRECTIVE_KIND;
+    private static final Method GET_EXPORTED_PACKAGE;
+    private static final Method GET_TARGET_MODULES;
+
+    static {
+        Method getModuleElement = null;
+        Method getDirectives = null;
+        Method getDirectiveKind = null;
+        Method getExportedPackage = null;
+        Method getTargetModules = null;
+        try {
+            getModuleElement = Elements.class.getMethod("getModuleElement", CharSequence.class);
+            getDirectives = Class.forName("javax.lang.model.element.ModuleElement").getMethod("getDirectives");
+            getDirectiveKind = Class.forName("javax.lang.model.element.ModuleElement$Directive").getMethod("getKind");
+
+            final Class<?> exportsDirective = Class.forName("javax.lang.model.element.ModuleElement$ExportsDirective");
+            getExportedPackage = exportsDirective.getMethod("getPackage");
+            getTargetModules = exportsDirective.getMethod("getTargetModules");
+        } catch (ClassNotFoundException ex) {
+            getModuleElement = null; //Java 8 or older
+        } catch (NoSuchMethodException ex) {
+            getModuleElement = null; //Java 8 or older
+        }
+
+        GET_MODULE_ELEMENT = getModuleElement;
+        GET_DIRECTIVES = getDirectives;
+        GET_DIRECTIVE_KIND = getDirectiveKind;
+        GET_EXPORTED_PACKAGE = getExportedPackage;
+        GET_TARGET_MODULES = getTargetModules;
+    }
+
+    public static boolean isSupported() {
+        return GET_MODULE_ELEMENT != null;
+    }
+
+    /**
+     * @return the module element or {@code null} if the module is not found or modules
+     * are not supported
+     */
+    public static Element getModuleElement(Elements elements, String moduleName) {
+        if (!isSupported()) {
+            return null;
+        }
+        return (Element) invoke(GET_MODULE_ELEMENT, elements, moduleName);
+    }
+
+    /**
+     * @return the packages the module exports to all modules, sorted by name
+     */
+    public static List<PackageElement> getExportedPackages(Element moduleElement) {
+        final List<PackageElement> ret = new ArrayList<PackageElement>();
+        for (Object directive : (List<?>) invoke(GET_DIRECTIVES, moduleElement)) {
+            if (!"EXPORTS".equals(invoke(GET_DIRECTIVE_KIND, directive).toString())) {
+                continue;
+            }
+
+            final Collection<?> targetModules = (Collection<?>) invoke(GET_TARGET_MODULES, directive);
+            if (targetModules == null || targetModules.isEmpty()) {
+                ret.add((PackageElement) invoke(GET_EXPORTED_PACKAGE, directive));
+            }
+        }
+
+        sortByName(ret);
+        return ret;
+    }
+
+    /**
+     * Sub-packages of named modules are restricted to the exported packages.
+     *
+     * @return the sub-packages of the given package in its module, sorted by name, or
+     * {@code null} if the package is not in a named module
+     */
+    public static List<PackageElement> getSubpackages(PackageElement packageElement) {
+        final Element moduleElement = packageElement.getEnclosingElement();
+        if (!isSupported() || moduleElement == null || !"MODULE".equals(moduleElement.getKind().name())
+                || moduleElement.getSimpleName().length() == 0) {
+            return null;
+        }
+
+        final List<PackageElement> packages = getExportedPackages(moduleElement);
+        final String prefix = packageElement.getQualifiedName().toString() + ".";
+        final List<PackageElement> ret = new ArrayList<PackageElement>();
+        for (PackageElement candidate : packages) {
+            if (candidate.getQualifiedName().toString().startsWith(prefix)) {
+                ret.add(candidate);
+            }
+        }
+        sortByName(ret);
+        return ret;
+    }
+
+    private static void sortByName(List<PackageElement> packages) {
+        Collections.sort(packages, new Comparator<PackageElement>() {
+
+            @Override
+            public int compare(PackageElement o1, PackageElement o2) {
+                return o1.getQualifiedName().toString().compareTo(o2.getQualifiedName().toString());
+            }
+        });
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        } catch (InvocationTargetException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
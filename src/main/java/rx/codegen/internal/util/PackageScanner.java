@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Lists the sub-packages of a package. Named modules of Java 9 and later contribute
+ * their exported packages. Otherwise the jars and directories which hold the types of
+ * the package are located through the {@link Filer} and scanned for sub-packages,
+ * which also works on Java 6 to 8 and with {@code --release 8}.
+ *
+ * @author Matthias
+ */
+public abstract class PackageScanner {
+
+    private static final StandardLocation[] LOCATIONS = {
+        StandardLocation.CLASS_PATH, StandardLocation.SOURCE_PATH, StandardLocation.PLATFORM_CLASS_PATH
+    };
+
+    /**
+     * @return the sub-packages of the given package, sorted by name, or {@code null} if
+     * they cannot be enumerated
+     */
+    public static List<PackageElement> getSubpackages(CodegenUtil util, PackageElement packageElement) {
+        final List<PackageElement> exported = ModuleSupport.getSubpackages(packageElement);
+        if (exported != null) {
+            return exported;
+        }
+
+        final String packageName = packageElement.getQualifiedName().toString();
+        final Set<File> roots = findRoots(util.getFiler(), packageElement, packageName);
+        if (roots.isEmpty()) {
+            return null;
+        }
+
+        final String packagePath = packageName.replace('.', '/') + "/";
+        final Set<String> names = new TreeSet<String>();
+        for (File root : roots) {
+            try {
+                if (root.isDirectory()) {
+                    scanDirectory(new File(root, packagePath), packageName, names);
+                } else {
+                    scanJar(root, packagePath, names);
+                }
+            } catch (IOException ex) {
+                return null;
+            }
+        }
+
+        final Elements elements = util.getElementUtils();
+        final List<PackageElement> ret = new ArrayList<PackageElement>();
+        for (String name : names) {
+            final PackageElement subpackage = elements.getPackageElement(name);
+            if (subpackage != null) {
+                ret.add(subpackage);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @return the jars and directories which contain a type of the package
+     */
+    private static Set<File> findRoots(Filer filer, PackageElement packageElement, String packageName) {
+        final Set<File> roots = new LinkedHashSet<File>();
+        for (Element element : packageElement.getEnclosedElements()) {
+            if (!(element instanceof TypeElement)) {
+                continue;
+            }
+
+            final String simpleName = element.getSimpleName().toString();
+            for (StandardLocation location : LOCATIONS) {
+                final String extension = location == StandardLocation.SOURCE_PATH ? ".java" : ".class";
+                final File root = findRoot(filer, location, packageName, simpleName + extension);
+                if (root != null) {
+                    roots.add(root);
+                }
+            }
+        }
+        return roots;
+    }
+
+    private static File findRoot(Filer filer, StandardLocation location, String packageName, String relativeName) {
+        final URI uri;
+        try {
+            final FileObject fileObject = filer.getResource(location, packageName, relativeName);
+            uri = fileObject.toUri();
+        } catch (IOException ex) {
+            return null; //not in this location
+        } catch (IllegalArgumentException ex) {
+            return null; //location not supported by the filer
+        }
+
+        if ("jar".equals(uri.getScheme())) {
+            final String path = uri.getRawSchemeSpecificPart();
+            final int separator = path.indexOf("!/");
+            return separator < 0 ? null : toFile(URI.create(path.substring(0, separator)));
+        }
+
+        File root = toFile(uri);
+        if (root == null) {
+            return null; //e.g. the jrt file system, handled by the module API
+        }
+        root = root.getParentFile();
+        for (int i = packageName.indexOf('.'); i >= 0; i = packageName.indexOf('.', i + 1)) {
+            root = root.getParentFile();
+        }
+        return root != null ? root.getParentFile() : null;
+    }
+
+    private static File toFile(URI uri) {
+        return "file".equals(uri.getScheme()) ? new File(uri) : null;
+    }
+
+    private static void scanDirectory(File directory, String packageName, Set<String> names) {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isDirectory()) {
+                final String subpackageName = packageName + "." + file.getName();
+                if (containsTypes(file)) {
+                    names.add(subpackageName);
+                }
+                scanDirectory(file, subpackageName, names);
+            }
+        }
+    }
+
+    private static boolean containsTypes(File directory) {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isFile() && isType(file.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void scanJar(File jar, String packagePath, Set<String> names) throws IOException {
+        final JarFile jarFile = new JarFile(jar);
+        try {
+            final Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                final String name = entries.nextElement().getName();
+                final int slash = name.lastIndexOf('/');
+                if (slash > packagePath.length() && name.startsWith(packagePath) && isType(name)) {
+                    names.add(name.substring(0, slash).replace('/', '.'));
+                }
+            }
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    private static boolean isType(String fileName) {
+        return fileName.endsWith(".class") || fileName.endsWith(".java");
+    }
+}
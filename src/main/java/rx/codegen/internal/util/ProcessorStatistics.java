@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Phase timings and counters of one processor run.
+ *
+ * <p>All methods are thread-safe. If the statistics are disabled, all methods are no-ops.
+ *
+ * @author Matthias
+ */
+public class ProcessorStatistics {
+
+    public enum Phase {
+
+        /**
+         * Processing rounds on the compiler thread, including all other phases except rendering
+         * on the render threads.
+         */
+        PROCESSING("processing"),
+        TYPE_DISCOVERY("typeDiscovery"),
+        METHOD_COLLECTION("methodCollection"),
+        NAMING_STRATEGY("namingStrategy"),
+        MODEL_SNAPSHOT("modelSnapshot"),
+        /**
+         * Contained in {@link #MODEL_SNAPSHOT}.
+         */
+        TYPE_STRINGS("typeStrings"),
+        /**
+         * Summed over all render threads.
+         */
+        RENDERING("rendering"),
+        FILER_IO("filerIo");
+
+        private final String jsonName;
+
+        Phase(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    public enum Counter {
+
+        TYPES_GENERATED("typesGenerated"),
+        TYPES_FROM_SOURCE_CACHE("typesFromSourceCache"),
+        METHODS_GENERATED("methodsGenerated"),
+        METHODS_SKIPPED("methodsSkipped"),
+        METHODS_RENAMED("methodsRenamed"),
+        METHODS_EXCLUDED("methodsExcluded"),
+        METHODS_FAILED("methodsFailed"),
+        METHODS_DELEGATED("methodsDelegated"),
+        METHODS_SINGLETON("methodsSingleton"),
+        /**
+         * Class files of the generated types, without the types from the source cache.
+         */
+        CLASSES_GENERATED("classesGenerated"),
+        SOURCE_CACHE_HITS("sourceCacheHits"),
+        SOURCE_CACHE_MISSES("sourceCacheMisses"),
+        TYPE_STRING_CACHE_HITS("typeStringCacheHits"),
+        TYPE_STRING_CACHE_MISSES("typeStringCacheMisses"),
+        TYPE_STRING_CACHE_ENTRIES("typeStringCacheEntries"),
+        PEAK_HEAP_BYTES("peakHeapBytes");
+
+        private final String jsonName;
+
+        Counter(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    private final boolean enabled;
+    private final AtomicLongArray phaseNanos;
+    private final AtomicLongArray phaseCounts;
+    private final AtomicLongArray counters;
+
+    public ProcessorStatistics(boolean enabled) {
+        this.enabled = enabled;
+        this.phaseNanos = new AtomicLongArray(Phase.values().length);
+        this.phaseCounts = new AtomicLongArray(Phase.values().length);
+        this.counters = new AtomicLongArray(Counter.values().length);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start time to pass to {@link #stop(Phase, long)}
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(Phase phase, long start) {
+        if (enabled) {
+            phaseNanos.addAndGet(phase.ordinal(), System.nanoTime() - start);
+            phaseCounts.incrementAndGet(phase.ordinal());
+        }
+    }
+
+    public void increment(Counter counter) {
+        add(counter, 1L);
+    }
+
+    public void add(Counter counter, long delta) {
+        if (enabled) {
+            counters.addAndGet(counter.ordinal(), delta);
+        }
+    }
+
+    public void set(Counter counter, long value) {
+        if (enabled) {
+            counters.set(counter.ordinal(), value);
+        }
+    }
+
+    public long get(Counter counter) {
+        return counters.get(counter.ordinal());
+    }
+
+    public long getMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(phaseNanos.get(phase.ordinal()));
+    }
+
+    /**
+     * @return the sum of the peak usages of all heap memory pools of this JVM
+     */
+    public static long getPeakHeapUsage() {
+        long ret = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                ret += pool.getPeakUsage().getUsed();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * @param properties additional top level properties, values are written as JSON strings
+     */
+    public void writeJson(Map<String, String> properties, Writer writer) throws IOException {
+        writer.write("{\n");
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            writer.write(String.format("  %s: %s,\n", quote(property.getKey()), quote(property.getValue())));
+        }
+
+        writer.write("  \"phases\": {\n");
+        final Phase[] phases = Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            final Phase phase = phases[i];
+            writer.write(String.format(Locale.US, "    %s: { \"millis\": %.3f, \"count\": %d }%s\n",
+                    quote(phase.jsonName),
+                    phaseNanos.get(phase.ordinal()) / 1000000.0d,
+                    phaseCounts.get(phase.ordinal()),
+                    i < phases.length - 1 ? "," : ""));
+        }
+        writer.write("  },\n");
+
+        writer.write("  \"counters\": {\n");
+        final Counter[] allCounters = Counter.values();
+        for (int i = 0; i < allCounters.length; i++) {
+            final Counter counter = allCounters[i];
+            writer.write(String.format("    %s: %d%s\n",
+                    quote(counter.jsonName),
+                    counters.get(counter.ordinal()),
+                    i < allCounters.length - 1 ? "," : ""));
+        }
+        writer.write("  }\n");
+        writer.write("}\n");
+    }
+
+    private static String quote(String value) {
+        final StringBuilder ret = new StringBuilder(value.length() + 2);
+        ret.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    ret.append("\\\"");
+                    break;
+                case '\\':
+                    ret.append("\\\\");
+                    break;
+                case '\n':
+                    ret.append("\\n");
+                    break;
+                case '\r':
+                    ret.append("\\r");
+                    break;
+                case '\t':
+                    ret.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        ret.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        ret.append(c);
+                    }
+            }
+        }
+        return ret.append('"').toString();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memoizes the results of {@link CodegenUtil#typeToString(TypeMirror, Map, boolean)}
+ * for the lifetime of one compilation.
+ *
+ * @author Matthias
+ */
+public class TypeStringCache {
+
+    private final Map<Key, String> cache = new HashMap<Key, String>();
+    private final Interner<String> interner = Interners.newStrongInterner();
+
+    private long hitCount;
+    private long missCount;
+
+    String get(TypeMirror type, Map<TypeVariable, String> typeVariableNameMapping, boolean suppressTypeVarDecl) {
+        final String ret = cache.get(new Key(type, typeVariableNameMapping, suppressTypeVarDecl));
+        if (ret != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return ret;
+    }
+
+    String put(TypeMirror type, Map<TypeVariable, String> typeVariableNameMapping, boolean suppressTypeVarDecl, String typeString) {
+        final String interned = interner.intern(typeString);
+        cache.put(new Key(type, typeVariableNameMapping, suppressTypeVarDecl), interned);
+        return interned;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards all entries. The hit and miss counts are kept.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Key {
+
+        private final TypeMirror type; //compared by identity
+        private final Map<TypeVariable, String> typeVariableNameMapping;
+        private final boolean suppressTypeVarDecl;
+        private final int hash;
+
+        Key(TypeMirror type, Map<TypeVariable, String> typeVariableNameMapping, boolean suppressTypeVarDecl) {
+            this.type = type;
+            this.typeVariableNameMapping = typeVariableNameMapping;
+            this.suppressTypeVarDecl = suppressTypeVarDecl;
+            this.hash = 31 * (31 * System.identityHashCode(type) + typeVariableNameMapping.hashCode())
+                    + (suppressTypeVarDecl ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+            return type == other.type
+                    && suppressTypeVarDecl == other.suppressTypeVarDecl
+                    && hash == other.hash
+                    && typeVariableNameMapping.equals(other.typeVariableNameMapping);
+        }
+    }
+}
@@ -18,9 +18,225 @@ public abstract class ${classname} {
 <#assign returnType =  mspec.getReturnTypeOfCallMethod()>
 <#assign callType = mspec.getCalledType()>
 <#assign varlist = mspec.getParameters()>
-<#assign returnVal = generateReturn(callType, mspec.isAction(), varlist, returnType)>
+<#assign returnVal = mspec.getUnboxedFunctionType()!generateReturn(callType, mspec.isAction(), varlist, returnType)>
 <#if javadoc?has_content>${javadoc}</#if><#t>
-<#if callType.isConstructorCall()>
+<#if mspec.isOperator()>
+<#assign obj = mspec.getReceiverName()>
+<#assign child = mspec.getUnusedName("child")>
+<#assign operatorResult><#if mspec.isAction()>${originatingClassnameWithGenerics}<#else>${returnType}</#if></#assign>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> rx.Observable.Operator<${operatorResult}, ${originatingClassnameWithGenerics}> ${methodname} (<@generateVariableDecls varlist=varlist/>) {
+        return new rx.Observable.Operator<${operatorResult}, ${originatingClassnameWithGenerics}>() {
+
+            @Override
+            public rx.Subscriber<? super ${originatingClassnameWithGenerics}> call(final rx.Subscriber<? super ${operatorResult}> ${child}) {
+                return new rx.Subscriber<${originatingClassnameWithGenerics}>(${child}) {
+
+                    @Override
+                    public void onNext(final ${originatingClassnameWithGenerics} ${obj}) {
+                        try {
+                            <#if !mspec.isAction()>${child}.onNext(</#if>${obj}.${calledMethodname}(<@generateVariables varlist=varlist/>)<#if !mspec.isAction()>)</#if>;
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, ${obj}));
+<#if mspec.isAction()>
+                            return;
+</#if>
+                        }
+<#if mspec.isAction()>
+                        ${child}.onNext(${obj});
+</#if>
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        ${child}.onError(e);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        ${child}.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+<#elseif mspec.isAsync()>
+<#assign obj = mspec.getReceiverName()>
+<#assign scheduler = mspec.getUnusedName("scheduler")>
+<#assign asyncReturnType = mspec.getAsyncReturnType()>
+<#assign asyncReturnVal = generateReturn(callType, false, varlist, asyncReturnType)>
+<#assign resultType><#if mspec.isAction()>Void<#else>${returnType}</#if></#assign>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${asyncReturnVal} ${methodname} (final rx.Scheduler ${scheduler}<#if callType.isObjectMethodCall() && varlist?has_content>, <@generateVariableDecls varlist=varlist/></#if>) {
+        return new ${asyncReturnVal}() {
+
+            @Override
+            public ${asyncReturnType} call(<#if callType.isObjectMethodCall()>final ${originatingClassnameWithGenerics} ${obj}<#else><@generateVariableDecls varlist=varlist/></#if>) {
+<#if mspec.getAsyncClassname() == "rx.Single">
+<#assign subscriber = mspec.getUnusedName("subscriber")>
+                return rx.Single.create(new rx.Single.OnSubscribe<${resultType}>() {
+
+                    @Override
+                    public void call(final rx.SingleSubscriber<? super ${resultType}> ${subscriber}) {
+                        try {
+<#if mspec.isAction()>
+                            <@generateCall mspec=mspec obj=obj/>;
+                            ${subscriber}.onSuccess(null);
+<#else>
+                            ${subscriber}.onSuccess(<@generateCall mspec=mspec obj=obj/>);
+</#if>
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            ${subscriber}.onError(ex);
+                        }
+                    }
+                }).subscribeOn(${scheduler});
+<#else>
+                return rx.Observable.defer(new Func0<${asyncReturnType}>() {
+
+                    @Override
+                    public ${asyncReturnType} call() {
+<#if mspec.isAction()>
+                        <@generateCall mspec=mspec obj=obj/>;
+                        return rx.Observable.<Void>just(null);
+<#else>
+                        return rx.Observable.<${resultType}>just(<@generateCall mspec=mspec obj=obj/>);
+</#if>
+                    }
+                }).subscribeOn(${scheduler});
+</#if>
+            }
+        };
+    }
+<#elseif mspec.isBatch()>
+<#assign listName = mspec.getUnusedName("list")>
+<#assign itemName = mspec.getUnusedName("item")>
+<#assign retName = mspec.getUnusedName("ret")>
+<#if callType.isObjectMethodCall()><#assign elementType = originatingClassnameWithGenerics><#else><#assign elementType = varlist[0].getType()></#if>
+<#assign batchReturnVal><#if mspec.isAction()>Action1<java.util.List<${elementType}>><#else>Func1<java.util.List<${elementType}>, java.util.List<${returnType}>></#if></#assign>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${batchReturnVal} ${methodname} (<#if callType.isObjectMethodCall()><@generateVariableDecls varlist=varlist/></#if>) {
+        return new ${batchReturnVal}() {
+
+            @Override
+            public <#if mspec.isAction()>void<#else>java.util.List<${returnType}></#if> call(final java.util.List<${elementType}> ${listName}) {
+<#if mspec.getBulkMethodname()??>
+                <#if !mspec.isAction()>return </#if>${originatingClassname}.${mspec.getBulkMethodname()}(${listName});
+<#else>
+<#if !mspec.isAction()>
+                final java.util.List<${returnType}> ${retName} = new java.util.ArrayList<${returnType}>(${listName}.size());
+</#if>
+                for (${elementType} ${itemName} : ${listName}) {
+                    <#if !mspec.isAction()>${retName}.add(</#if><#if callType.isConstructorCall()>new ${originatingClassnameWithGenerics}<#elseif callType.isObjectMethodCall()>${itemName}.${calledMethodname}<#else>${originatingClassname}.${calledMethodname}</#if>(<#if callType.isObjectMethodCall()><@generateVariables varlist=varlist/><#else>(${varlist[0].getUnboxedType()}) ${itemName}</#if>)<#if !mspec.isAction()>)</#if>;
+                }
+<#if !mspec.isAction()>
+                return ${retName};
+</#if>
+</#if>
+            }
+        };
+    }
+<#elseif mspec.isMethodHandle()>
+<#assign obj = mspec.getReceiverName()>
+<#assign memberType><#if callType.isConstructorCall()>Constructor<?><#else>Method</#if></#assign>
+<#if mspec.isSingleton()>
+<#assign erased = mspec.isErasedSingleton()>
+<#if erased>
+<#assign instanceType = generateReturn(callType, mspec.isAction(), varlist, mspec.getErasedReturnTypeOfCallMethod(), true)>
+<#else>
+<#assign instanceType = returnVal>
+</#if>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} () {
+        return <#if erased>(${instanceType?keep_before("<")}) </#if>${methodname}$Instance.INSTANCE;
+    }
+<#if erased>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+</#if>
+    private static final class ${methodname}$Instance {
+
+        static final ${instanceType} INSTANCE = new ${instanceType}() {
+<@generateHandleCall mspec=mspec obj=obj erased=erased/>
+        };
+    }
+<#else>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} (<#if callType.isObjectMethodCall()><@generateVariableDecls varlist=varlist/></#if>) {
+        return new ${returnVal}() {
+<@generateHandleCall mspec=mspec obj=obj erased=false/>
+        };
+    }
+</#if>
+    private static final class ${methodname}$Handle {
+
+        static final java.lang.invoke.MethodHandle HANDLE;
+
+        static {
+            try {
+                final java.lang.reflect.${memberType} member = ${originatingClassname}.class.<#if callType.isConstructorCall()>getDeclaredConstructor(<#else>getDeclaredMethod("${calledMethodname}"<#if varlist?has_content>, </#if></#if><#list varlist as var>${var.getErasedUnboxedType()}.class<#if var_has_next>, </#if></#list>);
+                member.setAccessible(true);
+                HANDLE = java.lang.invoke.MethodHandles.lookup().unreflect<#if callType.isConstructorCall()>Constructor</#if>(member);
+            } catch (Exception ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+    }
+<#elseif mspec.isMemoized()>
+<#assign memoizedType = mspec.getMemoizedFunctionType()>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${memoizedType} ${methodname} () {
+        return ${methodname}$Instance.INSTANCE;
+    }
+    private static final class ${methodname}$Instance {
+
+        static final ${memoizedType} INSTANCE = new ${memoizedType}(<#if varlist?has_content>${mspec.getCacheSize()?c}</#if>) {
+
+            @Override
+            protected ${returnType} compute(<@generateVariableDecls varlist=varlist/>) {
+                return ${originatingClassname}.${calledMethodname}(<@generateVariables varlist=varlist/>);
+            }
+        };
+    }
+<#elseif mspec.isDelegated()>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} (<@generateVariableDecls varlist=varlist/>) {
+        return (<#if mspec.isAction()>Action1<#else>Func1</#if>) ${mspec.getDelegateClassname()}.${mspec.getDelegateMethodname()}(<@generateVariableNames varlist=varlist/>);
+    }
+<#elseif mspec.isDispatched()>
+    @SuppressWarnings("unchecked")
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} (<#if callType.isObjectMethodCall()><@generateVariableDecls varlist=varlist/></#if>) {
+        return <#if mspec.isSingleton()>${mspec.getDispatcherClassname()}.instance(${mspec.getDispatchId()?c})<#else>new ${mspec.getDispatcherClassname()}(${mspec.getDispatchId()?c}, <#if varlist?size gt 9>args<#else>new Object[] {<@generateVariableNames varlist=varlist/>}</#if>)</#if>;
+    }
+<#elseif lambdas>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} (<#if callType.isObjectMethodCall()><@generateVariableDecls varlist=varlist/></#if>) {
+        return <@generateLambda mspec=mspec/>;
+    }
+<#elseif mspec.isSingleton()>
+<#assign erased = mspec.isErasedSingleton()>
+<#if erased>
+<#assign instanceType = mspec.getErasedUnboxedFunctionType()!generateReturn(callType, mspec.isAction(), varlist, mspec.getErasedReturnTypeOfCallMethod(), true)>
+<#assign instanceReturnType = mspec.getErasedReturnTypeOfCallMethod()>
+<#assign instanceClassname = originatingClassname>
+    @SuppressWarnings("unchecked")
+<#else>
+<#assign instanceType = returnVal>
+<#assign instanceReturnType = returnType>
+<#assign instanceClassname = originatingClassnameWithGenerics>
+</#if>
+    ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} () {
+        return <#if erased>(${instanceType?keep_before("<")}) </#if>${methodname}$Instance.INSTANCE;
+    }
+<#if erased>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+</#if>
+    private static final class ${methodname}$Instance {
+
+        static final ${instanceType} INSTANCE = new ${instanceType}() {
+
+            @Override
+            public ${instanceReturnType} call(<#if callType.isObjectMethodCall()>final ${instanceClassname} obj<#else><@generateVariableDecls varlist=varlist erased=erased/></#if>) {
+                <@fillReturn p=mspec/> <#if callType.isConstructorCall()>new ${instanceClassname}<#elseif callType.isObjectMethodCall()>obj.${calledMethodname}<#else>${originatingClassname}.${calledMethodname}</#if>(<@generateVariables varlist=varlist erased=erased/>);
+            }
+        };
+    }
+<#elseif callType.isConstructorCall()>
     ${mspec.getModifier()} static <@generateGenericDecls list=generics/> ${returnVal} ${methodname} () {
         return new ${returnVal}() {
 
@@ -52,28 +268,75 @@ public abstract class ${classname} {
     }
 </#if>
 </#list>
+<#list dispatchers as dispatcher>
+<#assign dispatcherClassname = dispatcher.getClassname()>
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class ${dispatcherClassname} implements <#list dispatcher.getCalls() as call>${call.getInterfacename()}<#if call_has_next>, </#if></#list> {
+
+        private static final ${dispatcherClassname}[] INSTANCES = new ${dispatcherClassname}[${dispatcher.getSize()?c}];
+
+        private final int id;
+        private final Object[] bound;
+
+        ${dispatcherClassname}(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static ${dispatcherClassname} instance(int id) {
+            ${dispatcherClassname} ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new ${dispatcherClassname}(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+<#list dispatcher.getCalls() as call>
+
+        @Override
+        public <#if dispatcher.isAction()>void<#else>Object</#if> call(<@generateDispatchParameterDecls call=call/>) {
+            switch (id) {
+<#list call.getMethods() as dspec>
+                case ${dspec.getDispatchId()?c}:
+                    <#if !dspec.isAction()>return </#if><#if dspec.getCalledType().isConstructorCall()>new ${originatingClassname}<#elseif dspec.getCalledType().isObjectMethodCall()>((${originatingClassname}) t1).${dspec.getCalledMethodname()}<#else>${originatingClassname}.${dspec.getCalledMethodname()}</#if>(<@generateDispatchVariables dspec=dspec call=call/>);
+<#if dspec.isAction()>
+                    return;
+</#if>
+</#list>
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+</#list>
+    }
+</#list>
 }
 
 <#-- ---------------------- -->
 <#-- ReturnType             -->
 <#-- ---------------------- -->
-<#function generateReturn callType isAction varlist returnType>
+<#function generateReturn callType isAction varlist returnType erased=false>
     <#if callType.isStaticMethodCall() || callType.isConstructorCall()>
-        <#return generateStaticMethodReturn(isAction, varlist, returnType)>
+        <#return generateStaticMethodReturn(isAction, varlist, returnType, erased)>
     <#else>
-        <#return generateObjMethodReturn(isAction, returnType)>
+        <#return generateObjMethodReturn(isAction, returnType, erased)>
     </#if>
 </#function>
 
-<#function generateObjMethodReturn isAction returnType>
+<#function generateObjMethodReturn isAction returnType erased>
+    <#if erased>
+        <#local classname = originatingClassname>
+    <#else>
+        <#local classname = originatingClassnameWithGenerics>
+    </#if>
     <#if isAction>
-        <#return "Action1<${originatingClassnameWithGenerics}>">
+        <#return "Action1<${classname}>">
     <#else>
-        <#return "Func1<${originatingClassnameWithGenerics}, ${returnType}>">
+        <#return "Func1<${classname}, ${returnType}>">
     </#if>
 </#function>
 
-<#function generateStaticMethodReturn isAction varlist returnType>
+<#function generateStaticMethodReturn isAction varlist returnType erased>
     <#local size = varlist?size>
     <#local ret>
         <#if isAction>
@@ -84,7 +347,7 @@ public abstract class ${classname} {
             <#else>
                 Action${size}<<#t>
                 <#list varlist as var>
-                    ${var.getType()}<#if var_has_next>, </#if><#t>
+                    <#if erased>${var.getErasedType()}<#else>${var.getType()}</#if><#if var_has_next>, </#if><#t>
                 </#list>
                 ><#t>
             </#if>
@@ -96,7 +359,7 @@ public abstract class ${classname} {
             <#else>
                 Func${size}<<#t>
                 <#list varlist as var>
-                    ${var.getType()}<#if var_has_next>, </#if><#t>
+                    <#if erased>${var.getErasedType()}<#else>${var.getType()}</#if><#if var_has_next>, </#if><#t>
                 </#list>
                 , ${returnType}><#t>
             </#if>
@@ -106,12 +369,62 @@ public abstract class ${classname} {
 </#function>
 
 
+<#-- ---------------------- -->
+<#-- Lambda                 -->
+<#-- ---------------------- -->
+<#macro generateLambda mspec>
+    <#local callType = mspec.getCalledType()>
+    <#local varlist = mspec.getParameters()>
+    <#if mspec.isMethodReference()>
+        ${originatingClassname}::<#if callType.isConstructorCall()>new<#else>${mspec.getCalledMethodname()}</#if><#t>
+    <#elseif callType.isObjectMethodCall()>
+        ${mspec.getReceiverName()} -> ${mspec.getReceiverName()}.${mspec.getCalledMethodname()}(<@generateVariables varlist=varlist/>)<#t>
+    <#elseif callType.isConstructorCall()>
+        (<@generateVariableNames varlist=varlist/>) -> new ${originatingClassnameWithGenerics}(<@generateVariables varlist=varlist/>)<#t>
+    <#else>
+        (<@generateVariableNames varlist=varlist/>) -> ${originatingClassname}.${mspec.getCalledMethodname()}(<@generateVariables varlist=varlist/>)<#t>
+    </#if>
+</#macro>
+
+<#-- ---------------------- -->
+<#-- Call                   -->
+<#-- ---------------------- -->
+<#macro generateCall mspec obj>
+    <#local callType = mspec.getCalledType()>
+    <#if callType.isConstructorCall()>
+        new ${originatingClassnameWithGenerics}(<@generateVariables varlist=mspec.getParameters()/>)<#t>
+    <#elseif callType.isObjectMethodCall()>
+        ${obj}.${mspec.getCalledMethodname()}(<@generateVariables varlist=mspec.getParameters()/>)<#t>
+    <#else>
+        ${originatingClassname}.${mspec.getCalledMethodname()}(<@generateVariables varlist=mspec.getParameters()/>)<#t>
+    </#if>
+</#macro>
+
 <#-- ---------------------- -->
 <#-- Variables              -->
 <#-- ---------------------- -->
-<#macro generateVariables varlist>
+<#macro generateHandleCall mspec obj erased>
+<#local callType = mspec.getCalledType()>
+<#local varlist = mspec.getParameters()>
+<#if erased><#local callReturnType = mspec.getErasedReturnTypeOfCallMethod()><#local receiverType = originatingClassname><#else><#local callReturnType = mspec.getReturnTypeOfCallMethod()><#local receiverType = originatingClassnameWithGenerics></#if>
+
+            @Override
+            public ${callReturnType} call(<#if callType.isObjectMethodCall()>final ${receiverType} ${obj}<#else><@generateVariableDecls varlist=varlist erased=erased/></#if>) {
+                try {
+                    <#if !mspec.isAction()>return <#if callReturnType != mspec.getErasedReturnTypeOfCallMethod()>(${callReturnType}) </#if>(${mspec.getHandleReturnType()}) </#if>${mspec.getGeneratedMethodname()}$Handle.HANDLE.invokeExact(<#if callType.isObjectMethodCall()>(${originatingClassname}) ${obj}<#if varlist?has_content>, </#if></#if><@generateVariables varlist=varlist erased=true/>);
+                } catch (Throwable ex) {
+                    throw rx.exceptions.Exceptions.propagate(ex);
+                }
+            }
+</#macro>
+
+<#macro generateVariables varlist erased=false>
     <#list varlist as var>
-        <#if varlist?size gt 9>
+        <#if erased && varlist?size gt 9>
+            (${var.getErasedType()}) ${var.getName()}<#if var_has_next>, </#if><#t>
+        <#elseif erased>
+            (${var.getErasedUnboxedType()}) ${var.getName()}<#if var_has_next>, </#if><#t>
+        <#elseif varlist?size gt 9>
             (${var.getType()}) ${var.getName()}<#if var_has_next>, </#if><#t>
         <#else>
             (${var.getUnboxedType()}) ${var.getName()}<#if var_has_next>, </#if><#t>
@@ -119,21 +432,62 @@ public abstract class ${classname} {
     </#list>
 </#macro>
 
+<#macro generateVariableNames varlist>
+    <#if varlist?size gt 9>
+        args<#t>
+    <#else>
+        <#list varlist as var>
+            ${var.getName()}<#if var_has_next>, </#if><#t>
+        </#list>
+    </#if>
+</#macro>
+
+<#macro generateDispatchVariables dspec call>
+    <#list dspec.getParameters() as var>
+        <#if dspec.getCalledType().isObjectMethodCall()>
+            <#local source = "bound[${var_index?c}]">
+        <#elseif call.isVarargs()>
+            <#local source = "args[${var_index?c}]">
+        <#else>
+            <#local source = "t${(var_index + 1)?c}">
+        </#if>
+        <#if var.getErasedType() != var.getErasedUnboxedType()>
+            (${var.getErasedUnboxedType()}) (${var.getErasedType()}) ${source}<#if var_has_next>, </#if><#t>
+        <#else>
+            (${var.getErasedType()}) ${source}<#if var_has_next>, </#if><#t>
+        </#if>
+    </#list>
+</#macro>
+
 <#-- ---------------------- -->
 <#-- Parameter declarations -->
 <#-- ---------------------- -->
-<#macro generateVariableDecls varlist>
+<#macro generateVariableDecls varlist erased=false>
     <#if varlist?size gt 9>
         final Object... args<#t>
     <#else>
         <#list varlist as var>
-            <@generateVariableDecl var=var/><#if var_has_next>, </#if><#t>
+            <@generateVariableDecl var=var erased=erased/><#if var_has_next>, </#if><#t>
         </#list>
     </#if>
 </#macro>
 
-<#macro generateVariableDecl var>
-    final ${var.getType()} ${var.getName()}<#t>
+<#macro generateDispatchParameterDecls call>
+    <#if call.isVarargs()>
+        final Object... args<#t>
+    <#elseif call.getArity() gt 0>
+        <#list 1..call.getArity() as i>
+            final Object t${i?c}<#if i_has_next>, </#if><#t>
+        </#list>
+    </#if>
+</#macro>
+
+<#macro generateVariableDecl var erased>
+    <#if erased>
+        final ${var.getErasedType()} ${var.getName()}<#t>
+    <#else>
+        final ${var.getType()} ${var.getName()}<#t>
+    </#if>
 </#macro>
 
 <#-- --------------------- -->
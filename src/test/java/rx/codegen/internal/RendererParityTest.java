@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package rx.codegen.internal;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import rx.codegen.internal.ProcessorOptions.RendererType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@link FreemarkerSourceRenderer} and the {@link DirectSourceRenderer} generate the expected
+ * sources. Runs both processors on the fixtures in {@code src/test/resources/fixtures} once per
+ * renderer and compares the generated files with {@code src/test/resources/expected}.
+ * Run with {@code -Drx.codegen.updateExpected=true} to replace the expected files after an
+ * intended change of the generated code.
+ *
+ * @author Matthias
+ */
+public class RendererParityTest {
+
+    private static final File BASEDIR = new File(System.getProperty("basedir", "."));
+    private static final File FIXTURES = new File(BASEDIR, "src/test/resources/fixtures");
+    private static final File EXPECTED = new File(BASEDIR, "src/test/resources/expected");
+    private static final String UPDATE_EXPECTED = "rx.codegen.updateExpected";
+    /**
+     * The unboxed and memoized functions.
+     */
+    private static final File RUNTIME_SOURCES = new File(BASEDIR, "runtime/src/main/java");
+    private static final String PROCESSORS = RxCodeGeneratorProcessor.class.getName() + ","
+            + RxRefCodeGeneratorProcessor.class.getName();
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void anonymousClasses() throws IOException {
+        final Map<String, String> sources = generateWithBothRenderers("parity", false);
+
+        assertContains(sources, "parity/Item_.java", "getName$Instance.INSTANCE");
+        assertContains(sources, "parity/Item_.java", "identity$Instance.INSTANCE");
+        assertFeatures(sources);
+    }
+
+    @Test
+    public void lambdas() throws IOException {
+        final Map<String, String> sources = generateWithBothRenderers("parity", true);
+
+        assertContains(sources, "parity/Item_.java", "parity.Item::getName");
+        assertContains(sources, "parity/Item_.java", "obj -> obj.isCheaperThan(");
+        assertFeatures(sources);
+    }
+
+    /**
+     * Only {@code @RxRefCodeGenerator}s with the default {@code @Option}s, the annotation
+     * proxies of the options fail if nothing else completes {@code rx.codegen.Option} before.
+     */
+    @Test
+    public void defaultOptions() throws IOException {
+        final Map<String, String> sources = generateWithBothRenderers("defaults", false);
+
+        assertContains(sources, "defaults/Boolean_.java", "public static  Func1<String, Boolean> valueOf$Obj ()");
+        assertContains(sources, "defaults/Functions_.java", "Func1<rx.functions.Func0<? extends M0>, rx.functions.FuncN<M0>> fromFunc ()");
+    }
+
+    private static void assertFeatures(Map<String, String> sources) {
+        //javadoc
+        assertContains(sources, "parity/Item_.java", "     * @return the name\n");
+        //memoize
+        assertContains(sources, "parity/Item_.java", "rx.codegen.cache.MemoizedFunc0<String>");
+        assertContains(sources, "parity/Item_.java", "rx.codegen.cache.MemoizedFunc1<String, Integer>(16)");
+        assertContains(sources, "parity/Item_.java", "rx.codegen.cache.MemoizedFunc2<String, Integer, String>");
+        //async
+        assertContains(sources, "parity/Item_.java", "load$Async (final rx.Scheduler scheduler)");
+        assertContains(sources, "parity/Item_.java", "store$Async (final rx.Scheduler scheduler)");
+        //operators and batches
+        assertContains(sources, "parity/Item_.java", "getName$Operator ()");
+        assertContains(sources, "parity/ItemRef_.java", "isCheaperThan$Operator (final Integer limit)");
+        assertContains(sources, "parity/ItemRef_.java", "getName$Batch ()");
+        //unboxed
+        assertContains(sources, "parity/ItemRef_.java", "rx.codegen.functions.ToIntFunc1<String> checksum$Unboxed ()");
+        assertContains(sources, "parity/Math_.java", "rx.codegen.functions.IntIntToIntFunc2 max$Int_Int$Unboxed ()");
+        //dispatch table
+        assertContains(sources, "parity/ItemDispatch_.java", "private static final class Func$Dispatch");
+        assertContains(sources, "parity/Arrays_.java", "private static final class Func$Dispatch");
+        assertContains(sources, "parity/Objects_.java", "private static final class Func$Dispatch");
+        //method handles
+        assertContains(sources, "parity/refs/Item_.java", "getPrice$Handle.HANDLE.invokeExact(");
+        //inherited methods
+        assertContains(sources, "parity/refs/Bar_.java", "parity.refs.Base_.describe$Obj(prefix)");
+        //sub-packages of a classpath library
+        assertContains(sources, "parity/refs/observables/GroupedObservable_.java", "getKey ()");
+    }
+
+    /**
+     * @param fixture the package of the fixtures, the expected sources are in
+     * {@code expected/<fixture>/anonymous} or {@code expected/<fixture>/lambdas}
+     */
+    private Map<String, String> generateWithBothRenderers(String fixture, boolean lambdas) throws IOException {
+        final File expectedDirectory = new File(new File(EXPECTED, fixture), lambdas ? "lambdas" : "anonymous");
+        final Map<String, String> freemarker = generate(fixture, RendererType.FREEMARKER, lambdas);
+        if (Boolean.getBoolean(UPDATE_EXPECTED)) {
+            writeSources(expectedDirectory, freemarker);
+        }
+
+        final Map<String, String> expected = readSources(expectedDirectory);
+        assertFalse("No expected sources in " + expectedDirectory, expected.isEmpty());
+        assertSources(RendererType.FREEMARKER, expected, freemarker);
+        assertSources(RendererType.DIRECT, expected, generate(fixture, RendererType.DIRECT, lambdas));
+        return freemarker;
+    }
+
+    private static void assertSources(RendererType renderer, Map<String, String> expected, Map<String, String> actual) {
+        assertEquals(renderer + ": generated files", expected.keySet(), actual.keySet());
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            assertEquals(renderer + ": " + entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * @return the generated sources by their path relative to the source output directory
+     */
+    private Map<String, String> generate(String fixture, RendererType renderer, boolean lambdas) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("No system java compiler, run the tests with a JDK", compiler);
+
+        final File output = folder.newFolder();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.US, Charsets.UTF_8);
+        try {
+            final List<String> options = new ArrayList<String>(Arrays.asList(
+                    "-proc:only",
+                    "-implicit:none",
+                    "-processor", PROCESSORS,
+                    "-A" + ProcessorOptions.RENDERER + "=" + renderer.name(),
+                    "-A" + ProcessorOptions.LAMBDAS + "=" + lambdas,
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-sourcepath", RUNTIME_SOURCES.getPath(),
+                    "-s", output.getPath()));
+            if (!System.getProperty("java.specification.version").startsWith("1.")) {
+                //the generated code needs javax.annotation.Generated
+                options.addAll(Arrays.asList("--release", "8"));
+            }
+            compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(listSources(new File(FIXTURES, fixture)))).call();
+        } finally {
+            fileManager.close();
+        }
+
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            assertFalse(renderer + ": " + diagnostic, diagnostic.getKind() == Diagnostic.Kind.ERROR
+                    || diagnostic.getKind() == Diagnostic.Kind.WARNING);
+        }
+
+        final Map<String, String> ret = readSources(output);
+        assertFalse(renderer + ": no generated sources", ret.isEmpty());
+        return ret;
+    }
+
+    /**
+     * @return the sources by their path relative to the directory
+     */
+    private static Map<String, String> readSources(File directory) throws IOException {
+        final Map<String, String> ret = new TreeMap<String, String>();
+        final int prefixLength = directory.getPath().length() + 1;
+        for (File file : listSources(directory)) {
+            ret.put(file.getPath().substring(prefixLength).replace(File.separatorChar, '/'), Files.toString(file, Charsets.UTF_8));
+        }
+        return ret;
+    }
+
+    private static void writeSources(File directory, Map<String, String> sources) throws IOException {
+        if (directory.exists()) {
+            for (File file : Files.fileTreeTraverser().postOrderTraversal(directory)) {
+                if (!file.delete()) {
+                    throw new IOException("Cannot delete " + file);
+                }
+            }
+        }
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            final File file = new File(directory, entry.getKey());
+            Files.createParentDirs(file);
+            Files.write(entry.getValue(), file, Charsets.UTF_8);
+        }
+    }
+
+    private static List<File> listSources(File directory) {
+        final List<File> ret = new ArrayList<File>();
+        for (File file : Files.fileTreeTraverser().preOrderTraversal(directory)) {
+            if (file.isFile() && file.getName().endsWith(".java")) {
+                ret.add(file);
+            }
+        }
+        return ret;
+    }
+
+    private static void assertContains(Map<String, String> sources, String path, String expected) {
+        final String source = sources.get(path);
+        assertNotNull("Not generated: " + path, source);
+        assertTrue(path + " does not contain: " + expected, source.contains(expected));
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package defaults;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: Boolean")
+public abstract class Boolean_ {
+
+    public static  Func1<Boolean, Boolean> newBoolean () {
+        return newBoolean$Instance.INSTANCE;
+    }
+    private static final class newBoolean$Instance {
+
+        static final Func1<Boolean, Boolean> INSTANCE = new Func1<Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean arg0) {
+                return new Boolean((boolean) arg0);
+            }
+        };
+    }
+    public static  Func1<String, Boolean> newBoolean$Obj () {
+        return newBoolean$Obj$Instance.INSTANCE;
+    }
+    private static final class newBoolean$Obj$Instance {
+
+        static final Func1<String, Boolean> INSTANCE = new Func1<String, Boolean>() {
+
+            @Override
+            public Boolean call(final String arg0) {
+                return new Boolean((String) arg0);
+            }
+        };
+    }
+    public static  Func1<Boolean, Boolean> booleanValue () {
+        return booleanValue$Instance.INSTANCE;
+    }
+    private static final class booleanValue$Instance {
+
+        static final Func1<Boolean, Boolean> INSTANCE = new Func1<Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean obj) {
+                return obj.booleanValue();
+            }
+        };
+    }
+    public static  Func2<Boolean, Boolean, Integer> compare () {
+        return compare$Instance.INSTANCE;
+    }
+    private static final class compare$Instance {
+
+        static final Func2<Boolean, Boolean, Integer> INSTANCE = new Func2<Boolean, Boolean, Integer>() {
+
+            @Override
+            public Integer call(final Boolean arg0, final Boolean arg1) {
+                return Boolean.compare((boolean) arg0, (boolean) arg1);
+            }
+        };
+    }
+    public static  Func1<Boolean, Integer> compareTo (final Boolean arg0) {
+        return new Func1<Boolean, Integer>() {
+
+            @Override
+            public Integer call(final Boolean obj) {
+                return obj.compareTo((Boolean) arg0);
+            }
+        };
+    }
+    public static  Func1<Boolean, Boolean> equals_ (final Object arg0) {
+        return new Func1<Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean obj) {
+                return obj.equals((Object) arg0);
+            }
+        };
+    }
+    public static  Func1<String, Boolean> getBoolean () {
+        return getBoolean$Instance.INSTANCE;
+    }
+    private static final class getBoolean$Instance {
+
+        static final Func1<String, Boolean> INSTANCE = new Func1<String, Boolean>() {
+
+            @Override
+            public Boolean call(final String arg0) {
+                return Boolean.getBoolean((String) arg0);
+            }
+        };
+    }
+    public static  Func1<Boolean, Integer> hashCode_ () {
+        return hashCode_$Instance.INSTANCE;
+    }
+    private static final class hashCode_$Instance {
+
+        static final Func1<Boolean, Integer> INSTANCE = new Func1<Boolean, Integer>() {
+
+            @Override
+            public Integer call(final Boolean obj) {
+                return obj.hashCode();
+            }
+        };
+    }
+    public static  Func1<Boolean, Integer> hashCode_$Bool () {
+        return hashCode_$Bool$Instance.INSTANCE;
+    }
+    private static final class hashCode_$Bool$Instance {
+
+        static final Func1<Boolean, Integer> INSTANCE = new Func1<Boolean, Integer>() {
+
+            @Override
+            public Integer call(final Boolean arg0) {
+                return Boolean.hashCode((boolean) arg0);
+            }
+        };
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalAnd () {
+        return logicalAnd$Instance.INSTANCE;
+    }
+    private static final class logicalAnd$Instance {
+
+        static final Func2<Boolean, Boolean, Boolean> INSTANCE = new Func2<Boolean, Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean arg0, final Boolean arg1) {
+                return Boolean.logicalAnd((boolean) arg0, (boolean) arg1);
+            }
+        };
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalOr () {
+        return logicalOr$Instance.INSTANCE;
+    }
+    private static final class logicalOr$Instance {
+
+        static final Func2<Boolean, Boolean, Boolean> INSTANCE = new Func2<Boolean, Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean arg0, final Boolean arg1) {
+                return Boolean.logicalOr((boolean) arg0, (boolean) arg1);
+            }
+        };
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalXor () {
+        return logicalXor$Instance.INSTANCE;
+    }
+    private static final class logicalXor$Instance {
+
+        static final Func2<Boolean, Boolean, Boolean> INSTANCE = new Func2<Boolean, Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean arg0, final Boolean arg1) {
+                return Boolean.logicalXor((boolean) arg0, (boolean) arg1);
+            }
+        };
+    }
+    public static  Func1<String, Boolean> parseBoolean () {
+        return parseBoolean$Instance.INSTANCE;
+    }
+    private static final class parseBoolean$Instance {
+
+        static final Func1<String, Boolean> INSTANCE = new Func1<String, Boolean>() {
+
+            @Override
+            public Boolean call(final String arg0) {
+                return Boolean.parseBoolean((String) arg0);
+            }
+        };
+    }
+    public static  Func1<Boolean, String> toString_ () {
+        return toString_$Instance.INSTANCE;
+    }
+    private static final class toString_$Instance {
+
+        static final Func1<Boolean, String> INSTANCE = new Func1<Boolean, String>() {
+
+            @Override
+            public String call(final Boolean obj) {
+                return obj.toString();
+            }
+        };
+    }
+    public static  Func1<Boolean, String> toString_$Bool () {
+        return toString_$Bool$Instance.INSTANCE;
+    }
+    private static final class toString_$Bool$Instance {
+
+        static final Func1<Boolean, String> INSTANCE = new Func1<Boolean, String>() {
+
+            @Override
+            public String call(final Boolean arg0) {
+                return Boolean.toString((boolean) arg0);
+            }
+        };
+    }
+    public static  Func1<Boolean, Boolean> valueOf () {
+        return valueOf$Instance.INSTANCE;
+    }
+    private static final class valueOf$Instance {
+
+        static final Func1<Boolean, Boolean> INSTANCE = new Func1<Boolean, Boolean>() {
+
+            @Override
+            public Boolean call(final Boolean arg0) {
+                return Boolean.valueOf((boolean) arg0);
+            }
+        };
+    }
+    public static  Func1<String, Boolean> valueOf$Obj () {
+        return valueOf$Obj$Instance.INSTANCE;
+    }
+    private static final class valueOf$Obj$Instance {
+
+        static final Func1<String, Boolean> INSTANCE = new Func1<String, Boolean>() {
+
+            @Override
+            public Boolean call(final String arg0) {
+                return Boolean.valueOf((String) arg0);
+            }
+        };
+    }
+}
+
@@ -0,0 +1,1045 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: parity.Item")
+public abstract class ItemRef_ {
+
+    public static  Func1<String, parity.Item> newItem () {
+        return newItem$Instance.INSTANCE;
+    }
+    private static final class newItem$Instance {
+
+        static final Func1<String, parity.Item> INSTANCE = new Func1<String, parity.Item>() {
+
+            @Override
+            public parity.Item call(final String name) {
+                return new parity.Item((String) name);
+            }
+        };
+    }
+    public static  Func1<String, rx.Observable<parity.Item>> newItem$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<parity.Item>>() {
+
+            @Override
+            public rx.Observable<parity.Item> call(final String name) {
+                return rx.Observable.defer(new Func0<rx.Observable<parity.Item>>() {
+
+                    @Override
+                    public rx.Observable<parity.Item> call() {
+                        return rx.Observable.<parity.Item>just(new parity.Item((String) name));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<String>, java.util.List<parity.Item>> newItem$Batch () {
+        return new Func1<java.util.List<String>, java.util.List<parity.Item>>() {
+
+            @Override
+            public java.util.List<parity.Item> call(final java.util.List<String> list) {
+                final java.util.List<parity.Item> ret = new java.util.ArrayList<parity.Item>(list.size());
+                for (String item : list) {
+                    ret.add(new parity.Item((String) item));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Func2<String, Integer, parity.Item> newItem$Obj_Int () {
+        return newItem$Obj_Int$Instance.INSTANCE;
+    }
+    private static final class newItem$Obj_Int$Instance {
+
+        static final Func2<String, Integer, parity.Item> INSTANCE = new Func2<String, Integer, parity.Item>() {
+
+            @Override
+            public parity.Item call(final String name, final Integer price) {
+                return new parity.Item((String) name, (int) price);
+            }
+        };
+    }
+    public static  Func2<String, Integer, rx.Observable<parity.Item>> newItem$Obj_Int$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, Integer, rx.Observable<parity.Item>>() {
+
+            @Override
+            public rx.Observable<parity.Item> call(final String name, final Integer price) {
+                return rx.Observable.defer(new Func0<rx.Observable<parity.Item>>() {
+
+                    @Override
+                    public rx.Observable<parity.Item> call() {
+                        return rx.Observable.<parity.Item>just(new parity.Item((String) name, (int) price));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> add () {
+        return add$Instance.INSTANCE;
+    }
+    private static final class add$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double a, final Double b) {
+                return parity.Item.add((double) a, (double) b);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 add$Unboxed () {
+        return add$Unboxed$Instance.INSTANCE;
+    }
+    private static final class add$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double a, final double b) {
+                return parity.Item.add((double) a, (double) b);
+            }
+        };
+    }
+    public static  Func2<Double, Double, rx.Observable<Double>> add$Async (final rx.Scheduler scheduler) {
+        return new Func2<Double, Double, rx.Observable<Double>>() {
+
+            @Override
+            public rx.Observable<Double> call(final Double a, final Double b) {
+                return rx.Observable.defer(new Func0<rx.Observable<Double>>() {
+
+                    @Override
+                    public rx.Observable<Double> call() {
+                        return rx.Observable.<Double>just(parity.Item.add((double) a, (double) b));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> add$Long_Long () {
+        return add$Long_Long$Instance.INSTANCE;
+    }
+    private static final class add$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long a, final Long b) {
+                return parity.Item.add((long) a, (long) b);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 add$Long_Long$Unboxed () {
+        return add$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class add$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long a, final long b) {
+                return parity.Item.add((long) a, (long) b);
+            }
+        };
+    }
+    public static  Func2<Long, Long, rx.Observable<Long>> add$Long_Long$Async (final rx.Scheduler scheduler) {
+        return new Func2<Long, Long, rx.Observable<Long>>() {
+
+            @Override
+            public rx.Observable<Long> call(final Long a, final Long b) {
+                return rx.Observable.defer(new Func0<rx.Observable<Long>>() {
+
+                    @Override
+                    public rx.Observable<Long> call() {
+                        return rx.Observable.<Long>just(parity.Item.add((long) a, (long) b));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<String, Integer> checksum () {
+        return checksum$Instance.INSTANCE;
+    }
+    private static final class checksum$Instance {
+
+        static final Func1<String, Integer> INSTANCE = new Func1<String, Integer>() {
+
+            @Override
+            public Integer call(final String value) {
+                return parity.Item.checksum((String) value);
+            }
+        };
+    }
+    public static  rx.codegen.functions.ToIntFunc1<String> checksum$Unboxed () {
+        return checksum$Unboxed$Instance.INSTANCE;
+    }
+    private static final class checksum$Unboxed$Instance {
+
+        static final rx.codegen.functions.ToIntFunc1<String> INSTANCE = new rx.codegen.functions.ToIntFunc1<String>() {
+
+            @Override
+            public int call(final String value) {
+                return parity.Item.checksum((String) value);
+            }
+        };
+    }
+    public static  Func1<String, rx.Observable<Integer>> checksum$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<Integer>>() {
+
+            @Override
+            public rx.Observable<Integer> call(final String value) {
+                return rx.Observable.defer(new Func0<rx.Observable<Integer>>() {
+
+                    @Override
+                    public rx.Observable<Integer> call() {
+                        return rx.Observable.<Integer>just(parity.Item.checksum((String) value));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<String>, java.util.List<Integer>> checksum$Batch () {
+        return new Func1<java.util.List<String>, java.util.List<Integer>>() {
+
+            @Override
+            public java.util.List<Integer> call(final java.util.List<String> list) {
+                final java.util.List<Integer> ret = new java.util.ArrayList<Integer>(list.size());
+                for (String item : list) {
+                    ret.add(parity.Item.checksum((String) item));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Func1<parity.Item, Integer> compareTo (final parity.Item other) {
+        return new Func1<parity.Item, Integer>() {
+
+            @Override
+            public Integer call(final parity.Item obj) {
+                return obj.compareTo((parity.Item) other);
+            }
+        };
+    }
+    public static  rx.codegen.functions.ToIntFunc1<parity.Item> compareTo$Unboxed (final parity.Item other) {
+        return new rx.codegen.functions.ToIntFunc1<parity.Item>() {
+
+            @Override
+            public int call(final parity.Item obj) {
+                return obj.compareTo((parity.Item) other);
+            }
+        };
+    }
+    public static  rx.Observable.Operator<Integer, parity.Item> compareTo$Operator (final parity.Item other) {
+        return new rx.Observable.Operator<Integer, parity.Item>() {
+
+            @Override
+            public rx.Subscriber<? super parity.Item> call(final rx.Subscriber<? super Integer> child) {
+                return new rx.Subscriber<parity.Item>(child) {
+
+                    @Override
+                    public void onNext(final parity.Item obj) {
+                        try {
+                            child.onNext(obj.compareTo((parity.Item) other));
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, obj));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        child.onError(e);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        child.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+    public static  Func1<parity.Item, rx.Observable<Integer>> compareTo$Async (final rx.Scheduler scheduler, final parity.Item other) {
+        return new Func1<parity.Item, rx.Observable<Integer>>() {
+
+            @Override
+            public rx.Observable<Integer> call(final parity.Item obj) {
+                return rx.Observable.defer(new Func0<rx.Observable<Integer>>() {
+
+                    @Override
+                    public rx.Observable<Integer> call() {
+                        return rx.Observable.<Integer>just(obj.compareTo((parity.Item) other));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<parity.Item>, java.util.List<Integer>> compareTo$Batch (final parity.Item other) {
+        return new Func1<java.util.List<parity.Item>, java.util.List<Integer>>() {
+
+            @Override
+            public java.util.List<Integer> call(final java.util.List<parity.Item> list) {
+                final java.util.List<Integer> ret = new java.util.ArrayList<Integer>(list.size());
+                for (parity.Item item : list) {
+                    ret.add(item.compareTo((parity.Item) other));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Func1<int[], int[]> copy () {
+        return copy$Instance.INSTANCE;
+    }
+    private static final class copy$Instance {
+
+        static final Func1<int[], int[]> INSTANCE = new Func1<int[], int[]>() {
+
+            @Override
+            public int[] call(final int[] values) {
+                return parity.Item.copy((int[]) values);
+            }
+        };
+    }
+    public static  Func1<int[], rx.Observable<int[]>> copy$Async (final rx.Scheduler scheduler) {
+        return new Func1<int[], rx.Observable<int[]>>() {
+
+            @Override
+            public rx.Observable<int[]> call(final int[] values) {
+                return rx.Observable.defer(new Func0<rx.Observable<int[]>>() {
+
+                    @Override
+                    public rx.Observable<int[]> call() {
+                        return rx.Observable.<int[]>just(parity.Item.copy((int[]) values));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<int[]>, java.util.List<int[]>> copy$Batch () {
+        return new Func1<java.util.List<int[]>, java.util.List<int[]>>() {
+
+            @Override
+            public java.util.List<int[]> call(final java.util.List<int[]> list) {
+                final java.util.List<int[]> ret = new java.util.ArrayList<int[]>(list.size());
+                for (int[] item : list) {
+                    ret.add(parity.Item.copy((int[]) item));
+                }
+                return ret;
+            }
+        };
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    public static  Func1<parity.Item, String> getName () {
+        return getName$Instance.INSTANCE;
+    }
+    private static final class getName$Instance {
+
+        static final Func1<parity.Item, String> INSTANCE = new Func1<parity.Item, String>() {
+
+            @Override
+            public String call(final parity.Item obj) {
+                return obj.getName();
+            }
+        };
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    public static  rx.Observable.Operator<String, parity.Item> getName$Operator () {
+        return new rx.Observable.Operator<String, parity.Item>() {
+
+            @Override
+            public rx.Subscriber<? super parity.Item> call(final rx.Subscriber<? super String> child) {
+                return new rx.Subscriber<parity.Item>(child) {
+
+                    @Override
+                    public void onNext(final parity.Item obj) {
+                        try {
+                            child.onNext(obj.getName());
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, obj));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        child.onError(e);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        child.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    public static  Func1<parity.Item, rx.Observable<String>> getName$Async (final rx.Scheduler scheduler) {
+        return new Func1<parity.Item, rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final parity.Item obj) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(obj.getName());
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    public static  Func1<java.util.List<parity.Item>, java.util.List<String>> getName$Batch () {
+        return new Func1<java.util.List<parity.Item>, java.util.List<String>>() {
+
+            @Override
+            public java.util.List<String> call(final java.util.List<parity.Item> list) {
+                final java.util.List<String> ret = new java.util.ArrayList<String>(list.size());
+                for (parity.Item item : list) {
+                    ret.add(item.getName());
+                }
+                return ret;
+            }
+        };
+    }
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0, M0> identity () {
+        return (Func1) identity$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class identity$Instance {
+
+        static final Func1<Object, Object> INSTANCE = new Func1<Object, Object>() {
+
+            @Override
+            public Object call(final Object item) {
+                return parity.Item.identity((Object) item);
+            }
+        };
+    }
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     *
+     */
+    public static <M0> Func1<M0, rx.Observable<M0>> identity$Async (final rx.Scheduler scheduler) {
+        return new Func1<M0, rx.Observable<M0>>() {
+
+            @Override
+            public rx.Observable<M0> call(final M0 item) {
+                return rx.Observable.defer(new Func0<rx.Observable<M0>>() {
+
+                    @Override
+                    public rx.Observable<M0> call() {
+                        return rx.Observable.<M0>just(parity.Item.identity((M0) item));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     *
+     */
+    public static <M0> Func1<java.util.List<M0>, java.util.List<M0>> identity$Batch () {
+        return new Func1<java.util.List<M0>, java.util.List<M0>>() {
+
+            @Override
+            public java.util.List<M0> call(final java.util.List<M0> list) {
+                final java.util.List<M0> ret = new java.util.ArrayList<M0>(list.size());
+                for (M0 item$ : list) {
+                    ret.add(parity.Item.identity((M0) item$));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Func1<parity.Item, Boolean> isCheaperThan (final Integer limit) {
+        return new Func1<parity.Item, Boolean>() {
+
+            @Override
+            public Boolean call(final parity.Item obj) {
+                return obj.isCheaperThan((int) limit);
+            }
+        };
+    }
+    public static  rx.codegen.functions.ToBooleanFunc1<parity.Item> isCheaperThan$Unboxed (final int limit) {
+        return new rx.codegen.functions.ToBooleanFunc1<parity.Item>() {
+
+            @Override
+            public boolean call(final parity.Item obj) {
+                return obj.isCheaperThan((int) limit);
+            }
+        };
+    }
+    public static  rx.Observable.Operator<Boolean, parity.Item> isCheaperThan$Operator (final Integer limit) {
+        return new rx.Observable.Operator<Boolean, parity.Item>() {
+
+            @Override
+            public rx.Subscriber<? super parity.Item> call(final rx.Subscriber<? super Boolean> child) {
+                return new rx.Subscriber<parity.Item>(child) {
+
+                    @Override
+                    public void onNext(final parity.Item obj) {
+                        try {
+                            child.onNext(obj.isCheaperThan((int) limit));
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, obj));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        child.onError(e);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        child.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+    public static  Func1<parity.Item, rx.Observable<Boolean>> isCheaperThan$Async (final rx.Scheduler scheduler, final Integer limit) {
+        return new Func1<parity.Item, rx.Observable<Boolean>>() {
+
+            @Override
+            public rx.Observable<Boolean> call(final parity.Item obj) {
+                return rx.Observable.defer(new Func0<rx.Observable<Boolean>>() {
+
+                    @Override
+                    public rx.Observable<Boolean> call() {
+                        return rx.Observable.<Boolean>just(obj.isCheaperThan((int) limit));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<parity.Item>, java.util.List<Boolean>> isCheaperThan$Batch (final Integer limit) {
+        return new Func1<java.util.List<parity.Item>, java.util.List<Boolean>>() {
+
+            @Override
+            public java.util.List<Boolean> call(final java.util.List<parity.Item> list) {
+                final java.util.List<Boolean> ret = new java.util.ArrayList<Boolean>(list.size());
+                for (parity.Item item : list) {
+                    ret.add(item.isCheaperThan((int) limit));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Func2<String, String[], String> join () {
+        return join$Instance.INSTANCE;
+    }
+    private static final class join$Instance {
+
+        static final Func2<String, String[], String> INSTANCE = new Func2<String, String[], String>() {
+
+            @Override
+            public String call(final String separator, final String[] values) {
+                return parity.Item.join((String) separator, (String[]) values);
+            }
+        };
+    }
+    public static  Func2<String, String[], rx.Observable<String>> join$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, String[], rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final String separator, final String[] values) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.join((String) separator, (String[]) values));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<String, String> load () {
+        return load$Instance.INSTANCE;
+    }
+    private static final class load$Instance {
+
+        static final Func1<String, String> INSTANCE = new Func1<String, String>() {
+
+            @Override
+            public String call(final String id) {
+                return parity.Item.load((String) id);
+            }
+        };
+    }
+    public static  Func1<String, rx.Observable<String>> load$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final String id) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.load((String) id));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<String>, java.util.List<String>> load$Batch () {
+        return new Func1<java.util.List<String>, java.util.List<String>>() {
+
+            @Override
+            public java.util.List<String> call(final java.util.List<String> list) {
+                final java.util.List<String> ret = new java.util.ArrayList<String>(list.size());
+                for (String item : list) {
+                    ret.add(parity.Item.load((String) item));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  Action1<String> log () {
+        return log$Instance.INSTANCE;
+    }
+    private static final class log$Instance {
+
+        static final Action1<String> INSTANCE = new Action1<String>() {
+
+            @Override
+            public void call(final String message) {
+                 parity.Item.log((String) message);
+            }
+        };
+    }
+    public static  Func1<String, rx.Observable<Void>> log$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<Void>>() {
+
+            @Override
+            public rx.Observable<Void> call(final String message) {
+                return rx.Observable.defer(new Func0<rx.Observable<Void>>() {
+
+                    @Override
+                    public rx.Observable<Void> call() {
+                        parity.Item.log((String) message);
+                        return rx.Observable.<Void>just(null);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Action1<java.util.List<String>> log$Batch () {
+        return new Action1<java.util.List<String>>() {
+
+            @Override
+            public void call(final java.util.List<String> list) {
+                for (String item : list) {
+                    parity.Item.log((String) item);
+                }
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0 extends Comparable<? super M0>> Func1<java.util.Collection<? extends M0>, M0> max () {
+        return (Func1) max$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class max$Instance {
+
+        static final Func1<java.util.Collection, Comparable> INSTANCE = new Func1<java.util.Collection, Comparable>() {
+
+            @Override
+            public Comparable call(final java.util.Collection items) {
+                return parity.Item.max((java.util.Collection) items);
+            }
+        };
+    }
+    public static <M0 extends Comparable<? super M0>> Func1<java.util.Collection<? extends M0>, rx.Observable<M0>> max$Async (final rx.Scheduler scheduler) {
+        return new Func1<java.util.Collection<? extends M0>, rx.Observable<M0>>() {
+
+            @Override
+            public rx.Observable<M0> call(final java.util.Collection<? extends M0> items) {
+                return rx.Observable.defer(new Func0<rx.Observable<M0>>() {
+
+                    @Override
+                    public rx.Observable<M0> call() {
+                        return rx.Observable.<M0>just(parity.Item.max((java.util.Collection<? extends M0>) items));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static <M0 extends Comparable<? super M0>> Func1<java.util.List<java.util.Collection<? extends M0>>, java.util.List<M0>> max$Batch () {
+        return new Func1<java.util.List<java.util.Collection<? extends M0>>, java.util.List<M0>>() {
+
+            @Override
+            public java.util.List<M0> call(final java.util.List<java.util.Collection<? extends M0>> list) {
+                final java.util.List<M0> ret = new java.util.ArrayList<M0>(list.size());
+                for (java.util.Collection<? extends M0> item : list) {
+                    ret.add(parity.Item.max((java.util.Collection<? extends M0>) item));
+                }
+                return ret;
+            }
+        };
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  rx.codegen.cache.MemoizedFunc1<String, Integer> parse () {
+        return parse$Instance.INSTANCE;
+    }
+    private static final class parse$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc1<String, Integer> INSTANCE = new rx.codegen.cache.MemoizedFunc1<String, Integer>(16) {
+
+            @Override
+            protected Integer compute(final String value) {
+                return parity.Item.parse((String) value);
+            }
+        };
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  rx.codegen.functions.ToIntFunc1<String> parse$Unboxed () {
+        return parse$Unboxed$Instance.INSTANCE;
+    }
+    private static final class parse$Unboxed$Instance {
+
+        static final rx.codegen.functions.ToIntFunc1<String> INSTANCE = new rx.codegen.functions.ToIntFunc1<String>() {
+
+            @Override
+            public int call(final String value) {
+                return parity.Item.parse((String) value);
+            }
+        };
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  Func1<String, rx.Observable<Integer>> parse$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<Integer>>() {
+
+            @Override
+            public rx.Observable<Integer> call(final String value) {
+                return rx.Observable.defer(new Func0<rx.Observable<Integer>>() {
+
+                    @Override
+                    public rx.Observable<Integer> call() {
+                        return rx.Observable.<Integer>just(parity.Item.parse((String) value));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  Func1<java.util.List<String>, java.util.List<Integer>> parse$Batch () {
+        return new Func1<java.util.List<String>, java.util.List<Integer>>() {
+
+            @Override
+            public java.util.List<Integer> call(final java.util.List<String> list) {
+                final java.util.List<Integer> ret = new java.util.ArrayList<Integer>(list.size());
+                for (String item : list) {
+                    ret.add(parity.Item.parse((String) item));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  rx.codegen.cache.MemoizedFunc2<String, Integer, String> repeat () {
+        return repeat$Instance.INSTANCE;
+    }
+    private static final class repeat$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc2<String, Integer, String> INSTANCE = new rx.codegen.cache.MemoizedFunc2<String, Integer, String>(1024) {
+
+            @Override
+            protected String compute(final String value, final Integer count) {
+                return parity.Item.repeat((String) value, (int) count);
+            }
+        };
+    }
+    public static  Func2<String, Integer, rx.Observable<String>> repeat$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, Integer, rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final String value, final Integer count) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.repeat((String) value, (int) count));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Action2<String, parity.Item> store () {
+        return store$Instance.INSTANCE;
+    }
+    private static final class store$Instance {
+
+        static final Action2<String, parity.Item> INSTANCE = new Action2<String, parity.Item>() {
+
+            @Override
+            public void call(final String id, final parity.Item item) {
+                 parity.Item.save((String) id, (parity.Item) item);
+            }
+        };
+    }
+    public static  Func2<String, parity.Item, rx.Observable<Void>> store$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, parity.Item, rx.Observable<Void>>() {
+
+            @Override
+            public rx.Observable<Void> call(final String id, final parity.Item item) {
+                return rx.Observable.defer(new Func0<rx.Observable<Void>>() {
+
+                    @Override
+                    public rx.Observable<Void> call() {
+                        parity.Item.save((String) id, (parity.Item) item);
+                        return rx.Observable.<Void>just(null);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  FuncN<Integer> sum () {
+        return sum$Instance.INSTANCE;
+    }
+    private static final class sum$Instance {
+
+        static final FuncN<Integer> INSTANCE = new FuncN<Integer>() {
+
+            @Override
+            public Integer call(final Object... args) {
+                return parity.Item.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3], (Integer) args[4], (Integer) args[5], (Integer) args[6], (Integer) args[7], (Integer) args[8], (Integer) args[9]);
+            }
+        };
+    }
+    public static  FuncN<rx.Observable<Integer>> sum$Async (final rx.Scheduler scheduler) {
+        return new FuncN<rx.Observable<Integer>>() {
+
+            @Override
+            public rx.Observable<Integer> call(final Object... args) {
+                return rx.Observable.defer(new Func0<rx.Observable<Integer>>() {
+
+                    @Override
+                    public rx.Observable<Integer> call() {
+                        return rx.Observable.<Integer>just(parity.Item.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3], (Integer) args[4], (Integer) args[5], (Integer) args[6], (Integer) args[7], (Integer) args[8], (Integer) args[9]));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0, rx.Observable<M0>> twice () {
+        return (Func1) twice$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class twice$Instance {
+
+        static final Func1<Object, rx.Observable> INSTANCE = new Func1<Object, rx.Observable>() {
+
+            @Override
+            public rx.Observable call(final Object item) {
+                return parity.Item.twice((Object) item);
+            }
+        };
+    }
+    public static <M0> Func1<M0, rx.Observable<rx.Observable<M0>>> twice$Async (final rx.Scheduler scheduler) {
+        return new Func1<M0, rx.Observable<rx.Observable<M0>>>() {
+
+            @Override
+            public rx.Observable<rx.Observable<M0>> call(final M0 item) {
+                return rx.Observable.defer(new Func0<rx.Observable<rx.Observable<M0>>>() {
+
+                    @Override
+                    public rx.Observable<rx.Observable<M0>> call() {
+                        return rx.Observable.<rx.Observable<M0>>just(parity.Item.twice((M0) item));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static <M0> Func1<java.util.List<M0>, java.util.List<rx.Observable<M0>>> twice$Batch () {
+        return new Func1<java.util.List<M0>, java.util.List<rx.Observable<M0>>>() {
+
+            @Override
+            public java.util.List<rx.Observable<M0>> call(final java.util.List<M0> list) {
+                final java.util.List<rx.Observable<M0>> ret = new java.util.ArrayList<rx.Observable<M0>>(list.size());
+                for (M0 item$ : list) {
+                    ret.add(parity.Item.twice((M0) item$));
+                }
+                return ret;
+            }
+        };
+    }
+    public static  rx.codegen.cache.MemoizedFunc0<String> version () {
+        return version$Instance.INSTANCE;
+    }
+    private static final class version$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc0<String> INSTANCE = new rx.codegen.cache.MemoizedFunc0<String>() {
+
+            @Override
+            protected String compute() {
+                return parity.Item.version();
+            }
+        };
+    }
+    public static  Func0<rx.Observable<String>> version$Async (final rx.Scheduler scheduler) {
+        return new Func0<rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call() {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.version());
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<parity.Item, parity.Item> withPrice (final Integer price) {
+        return new Func1<parity.Item, parity.Item>() {
+
+            @Override
+            public parity.Item call(final parity.Item obj) {
+                return obj.withPrice((int) price);
+            }
+        };
+    }
+    public static  rx.Observable.Operator<parity.Item, parity.Item> withPrice$Operator (final Integer price) {
+        return new rx.Observable.Operator<parity.Item, parity.Item>() {
+
+            @Override
+            public rx.Subscriber<? super parity.Item> call(final rx.Subscriber<? super parity.Item> child) {
+                return new rx.Subscriber<parity.Item>(child) {
+
+                    @Override
+                    public void onNext(final parity.Item obj) {
+                        try {
+                            child.onNext(obj.withPrice((int) price));
+                        } catch (Throwable ex) {
+                            rx.exceptions.Exceptions.throwIfFatal(ex);
+                            onError(rx.exceptions.OnErrorThrowable.addValueAsLastCause(ex, obj));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        child.onError(e);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        child.onCompleted();
+                    }
+                };
+            }
+        };
+    }
+    public static  Func1<parity.Item, rx.Observable<parity.Item>> withPrice$Async (final rx.Scheduler scheduler, final Integer price) {
+        return new Func1<parity.Item, rx.Observable<parity.Item>>() {
+
+            @Override
+            public rx.Observable<parity.Item> call(final parity.Item obj) {
+                return rx.Observable.defer(new Func0<rx.Observable<parity.Item>>() {
+
+                    @Override
+                    public rx.Observable<parity.Item> call() {
+                        return rx.Observable.<parity.Item>just(obj.withPrice((int) price));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Func1<java.util.List<parity.Item>, java.util.List<parity.Item>> withPrice$Batch (final Integer price) {
+        return new Func1<java.util.List<parity.Item>, java.util.List<parity.Item>>() {
+
+            @Override
+            public java.util.List<parity.Item> call(final java.util.List<parity.Item> list) {
+                final java.util.List<parity.Item> ret = new java.util.ArrayList<parity.Item>(list.size());
+                for (parity.Item item : list) {
+                    ret.add(item.withPrice((int) price));
+                }
+                return ret;
+            }
+        };
+    }
+}
+
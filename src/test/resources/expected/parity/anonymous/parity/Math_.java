@@ -0,0 +1,1757 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: Math")
+public abstract class Math_ {
+
+    public static  Func2<Double, Double, Double> IEEEremainder () {
+        return IEEEremainder$Instance.INSTANCE;
+    }
+    private static final class IEEEremainder$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.IEEEremainder((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 IEEEremainder$Unboxed () {
+        return IEEEremainder$Unboxed$Instance.INSTANCE;
+    }
+    private static final class IEEEremainder$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.IEEEremainder((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> abs () {
+        return abs$Instance.INSTANCE;
+    }
+    private static final class abs$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.abs((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 abs$Unboxed () {
+        return abs$Unboxed$Instance.INSTANCE;
+    }
+    private static final class abs$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.abs((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Float> abs$Float () {
+        return abs$Float$Instance.INSTANCE;
+    }
+    private static final class abs$Float$Instance {
+
+        static final Func1<Float, Float> INSTANCE = new Func1<Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0) {
+                return Math.abs((float) arg0);
+            }
+        };
+    }
+    public static  Func1<Integer, Integer> abs$Int () {
+        return abs$Int$Instance.INSTANCE;
+    }
+    private static final class abs$Int$Instance {
+
+        static final Func1<Integer, Integer> INSTANCE = new Func1<Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0) {
+                return Math.abs((int) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 abs$Int$Unboxed () {
+        return abs$Int$Unboxed$Instance.INSTANCE;
+    }
+    private static final class abs$Int$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntToIntFunc1 INSTANCE = new rx.codegen.functions.IntToIntFunc1() {
+
+            @Override
+            public int call(final int arg0) {
+                return Math.abs((int) arg0);
+            }
+        };
+    }
+    public static  Func1<Long, Long> abs$Long () {
+        return abs$Long$Instance.INSTANCE;
+    }
+    private static final class abs$Long$Instance {
+
+        static final Func1<Long, Long> INSTANCE = new Func1<Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0) {
+                return Math.abs((long) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 abs$Long$Unboxed () {
+        return abs$Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class abs$Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongToLongFunc1 INSTANCE = new rx.codegen.functions.LongToLongFunc1() {
+
+            @Override
+            public long call(final long arg0) {
+                return Math.abs((long) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> acos () {
+        return acos$Instance.INSTANCE;
+    }
+    private static final class acos$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.acos((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 acos$Unboxed () {
+        return acos$Unboxed$Instance.INSTANCE;
+    }
+    private static final class acos$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.acos((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> addExact () {
+        return addExact$Instance.INSTANCE;
+    }
+    private static final class addExact$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.addExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 addExact$Unboxed () {
+        return addExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class addExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.addExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> addExact$Long_Long () {
+        return addExact$Long_Long$Instance.INSTANCE;
+    }
+    private static final class addExact$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.addExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 addExact$Long_Long$Unboxed () {
+        return addExact$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class addExact$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.addExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> asin () {
+        return asin$Instance.INSTANCE;
+    }
+    private static final class asin$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.asin((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 asin$Unboxed () {
+        return asin$Unboxed$Instance.INSTANCE;
+    }
+    private static final class asin$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.asin((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> atan () {
+        return atan$Instance.INSTANCE;
+    }
+    private static final class atan$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.atan((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 atan$Unboxed () {
+        return atan$Unboxed$Instance.INSTANCE;
+    }
+    private static final class atan$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.atan((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> atan2 () {
+        return atan2$Instance.INSTANCE;
+    }
+    private static final class atan2$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.atan2((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 atan2$Unboxed () {
+        return atan2$Unboxed$Instance.INSTANCE;
+    }
+    private static final class atan2$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.atan2((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> cbrt () {
+        return cbrt$Instance.INSTANCE;
+    }
+    private static final class cbrt$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.cbrt((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cbrt$Unboxed () {
+        return cbrt$Unboxed$Instance.INSTANCE;
+    }
+    private static final class cbrt$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.cbrt((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> ceil () {
+        return ceil$Instance.INSTANCE;
+    }
+    private static final class ceil$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.ceil((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 ceil$Unboxed () {
+        return ceil$Unboxed$Instance.INSTANCE;
+    }
+    private static final class ceil$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.ceil((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> copySign () {
+        return copySign$Instance.INSTANCE;
+    }
+    private static final class copySign$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.copySign((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 copySign$Unboxed () {
+        return copySign$Unboxed$Instance.INSTANCE;
+    }
+    private static final class copySign$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.copySign((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func2<Float, Float, Float> copySign$Float_Float () {
+        return copySign$Float_Float$Instance.INSTANCE;
+    }
+    private static final class copySign$Float_Float$Instance {
+
+        static final Func2<Float, Float, Float> INSTANCE = new Func2<Float, Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0, final Float arg1) {
+                return Math.copySign((float) arg0, (float) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> cos () {
+        return cos$Instance.INSTANCE;
+    }
+    private static final class cos$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.cos((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cos$Unboxed () {
+        return cos$Unboxed$Instance.INSTANCE;
+    }
+    private static final class cos$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.cos((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> cosh () {
+        return cosh$Instance.INSTANCE;
+    }
+    private static final class cosh$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.cosh((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cosh$Unboxed () {
+        return cosh$Unboxed$Instance.INSTANCE;
+    }
+    private static final class cosh$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.cosh((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Integer, Integer> decrementExact () {
+        return decrementExact$Instance.INSTANCE;
+    }
+    private static final class decrementExact$Instance {
+
+        static final Func1<Integer, Integer> INSTANCE = new Func1<Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0) {
+                return Math.decrementExact((int) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 decrementExact$Unboxed () {
+        return decrementExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class decrementExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntToIntFunc1 INSTANCE = new rx.codegen.functions.IntToIntFunc1() {
+
+            @Override
+            public int call(final int arg0) {
+                return Math.decrementExact((int) arg0);
+            }
+        };
+    }
+    public static  Func1<Long, Long> decrementExact$Long () {
+        return decrementExact$Long$Instance.INSTANCE;
+    }
+    private static final class decrementExact$Long$Instance {
+
+        static final Func1<Long, Long> INSTANCE = new Func1<Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0) {
+                return Math.decrementExact((long) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 decrementExact$Long$Unboxed () {
+        return decrementExact$Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class decrementExact$Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongToLongFunc1 INSTANCE = new rx.codegen.functions.LongToLongFunc1() {
+
+            @Override
+            public long call(final long arg0) {
+                return Math.decrementExact((long) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> exp () {
+        return exp$Instance.INSTANCE;
+    }
+    private static final class exp$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.exp((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 exp$Unboxed () {
+        return exp$Unboxed$Instance.INSTANCE;
+    }
+    private static final class exp$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.exp((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> expm1 () {
+        return expm1$Instance.INSTANCE;
+    }
+    private static final class expm1$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.expm1((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 expm1$Unboxed () {
+        return expm1$Unboxed$Instance.INSTANCE;
+    }
+    private static final class expm1$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.expm1((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> floor () {
+        return floor$Instance.INSTANCE;
+    }
+    private static final class floor$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.floor((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 floor$Unboxed () {
+        return floor$Unboxed$Instance.INSTANCE;
+    }
+    private static final class floor$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.floor((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> floorDiv () {
+        return floorDiv$Instance.INSTANCE;
+    }
+    private static final class floorDiv$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.floorDiv((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 floorDiv$Unboxed () {
+        return floorDiv$Unboxed$Instance.INSTANCE;
+    }
+    private static final class floorDiv$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.floorDiv((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> floorDiv$Long_Long () {
+        return floorDiv$Long_Long$Instance.INSTANCE;
+    }
+    private static final class floorDiv$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.floorDiv((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 floorDiv$Long_Long$Unboxed () {
+        return floorDiv$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class floorDiv$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.floorDiv((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> floorMod () {
+        return floorMod$Instance.INSTANCE;
+    }
+    private static final class floorMod$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.floorMod((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 floorMod$Unboxed () {
+        return floorMod$Unboxed$Instance.INSTANCE;
+    }
+    private static final class floorMod$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.floorMod((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> floorMod$Long_Long () {
+        return floorMod$Long_Long$Instance.INSTANCE;
+    }
+    private static final class floorMod$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.floorMod((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 floorMod$Long_Long$Unboxed () {
+        return floorMod$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class floorMod$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.floorMod((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Integer> getExponent () {
+        return getExponent$Instance.INSTANCE;
+    }
+    private static final class getExponent$Instance {
+
+        static final Func1<Double, Integer> INSTANCE = new Func1<Double, Integer>() {
+
+            @Override
+            public Integer call(final Double arg0) {
+                return Math.getExponent((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToIntFunc1 getExponent$Unboxed () {
+        return getExponent$Unboxed$Instance.INSTANCE;
+    }
+    private static final class getExponent$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToIntFunc1 INSTANCE = new rx.codegen.functions.DoubleToIntFunc1() {
+
+            @Override
+            public int call(final double arg0) {
+                return Math.getExponent((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Integer> getExponent$Float () {
+        return getExponent$Float$Instance.INSTANCE;
+    }
+    private static final class getExponent$Float$Instance {
+
+        static final Func1<Float, Integer> INSTANCE = new Func1<Float, Integer>() {
+
+            @Override
+            public Integer call(final Float arg0) {
+                return Math.getExponent((float) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> hypot () {
+        return hypot$Instance.INSTANCE;
+    }
+    private static final class hypot$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.hypot((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 hypot$Unboxed () {
+        return hypot$Unboxed$Instance.INSTANCE;
+    }
+    private static final class hypot$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.hypot((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func1<Integer, Integer> incrementExact () {
+        return incrementExact$Instance.INSTANCE;
+    }
+    private static final class incrementExact$Instance {
+
+        static final Func1<Integer, Integer> INSTANCE = new Func1<Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0) {
+                return Math.incrementExact((int) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 incrementExact$Unboxed () {
+        return incrementExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class incrementExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntToIntFunc1 INSTANCE = new rx.codegen.functions.IntToIntFunc1() {
+
+            @Override
+            public int call(final int arg0) {
+                return Math.incrementExact((int) arg0);
+            }
+        };
+    }
+    public static  Func1<Long, Long> incrementExact$Long () {
+        return incrementExact$Long$Instance.INSTANCE;
+    }
+    private static final class incrementExact$Long$Instance {
+
+        static final Func1<Long, Long> INSTANCE = new Func1<Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0) {
+                return Math.incrementExact((long) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 incrementExact$Long$Unboxed () {
+        return incrementExact$Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class incrementExact$Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongToLongFunc1 INSTANCE = new rx.codegen.functions.LongToLongFunc1() {
+
+            @Override
+            public long call(final long arg0) {
+                return Math.incrementExact((long) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> log () {
+        return log$Instance.INSTANCE;
+    }
+    private static final class log$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.log((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log$Unboxed () {
+        return log$Unboxed$Instance.INSTANCE;
+    }
+    private static final class log$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.log((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> log10 () {
+        return log10$Instance.INSTANCE;
+    }
+    private static final class log10$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.log10((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log10$Unboxed () {
+        return log10$Unboxed$Instance.INSTANCE;
+    }
+    private static final class log10$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.log10((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> log1p () {
+        return log1p$Instance.INSTANCE;
+    }
+    private static final class log1p$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.log1p((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log1p$Unboxed () {
+        return log1p$Unboxed$Instance.INSTANCE;
+    }
+    private static final class log1p$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.log1p((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> max () {
+        return max$Instance.INSTANCE;
+    }
+    private static final class max$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.max((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 max$Unboxed () {
+        return max$Unboxed$Instance.INSTANCE;
+    }
+    private static final class max$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.max((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func2<Float, Float, Float> max$Float_Float () {
+        return max$Float_Float$Instance.INSTANCE;
+    }
+    private static final class max$Float_Float$Instance {
+
+        static final Func2<Float, Float, Float> INSTANCE = new Func2<Float, Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0, final Float arg1) {
+                return Math.max((float) arg0, (float) arg1);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> max$Int_Int () {
+        return max$Int_Int$Instance.INSTANCE;
+    }
+    private static final class max$Int_Int$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.max((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 max$Int_Int$Unboxed () {
+        return max$Int_Int$Unboxed$Instance.INSTANCE;
+    }
+    private static final class max$Int_Int$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.max((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> max$Long_Long () {
+        return max$Long_Long$Instance.INSTANCE;
+    }
+    private static final class max$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.max((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 max$Long_Long$Unboxed () {
+        return max$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class max$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.max((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> min () {
+        return min$Instance.INSTANCE;
+    }
+    private static final class min$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.min((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 min$Unboxed () {
+        return min$Unboxed$Instance.INSTANCE;
+    }
+    private static final class min$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.min((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func2<Float, Float, Float> min$Float_Float () {
+        return min$Float_Float$Instance.INSTANCE;
+    }
+    private static final class min$Float_Float$Instance {
+
+        static final Func2<Float, Float, Float> INSTANCE = new Func2<Float, Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0, final Float arg1) {
+                return Math.min((float) arg0, (float) arg1);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> min$Int_Int () {
+        return min$Int_Int$Instance.INSTANCE;
+    }
+    private static final class min$Int_Int$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.min((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 min$Int_Int$Unboxed () {
+        return min$Int_Int$Unboxed$Instance.INSTANCE;
+    }
+    private static final class min$Int_Int$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.min((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> min$Long_Long () {
+        return min$Long_Long$Instance.INSTANCE;
+    }
+    private static final class min$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.min((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 min$Long_Long$Unboxed () {
+        return min$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class min$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.min((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> multiplyExact () {
+        return multiplyExact$Instance.INSTANCE;
+    }
+    private static final class multiplyExact$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.multiplyExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 multiplyExact$Unboxed () {
+        return multiplyExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class multiplyExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.multiplyExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> multiplyExact$Long_Long () {
+        return multiplyExact$Long_Long$Instance.INSTANCE;
+    }
+    private static final class multiplyExact$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.multiplyExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 multiplyExact$Long_Long$Unboxed () {
+        return multiplyExact$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class multiplyExact$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.multiplyExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func1<Integer, Integer> negateExact () {
+        return negateExact$Instance.INSTANCE;
+    }
+    private static final class negateExact$Instance {
+
+        static final Func1<Integer, Integer> INSTANCE = new Func1<Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0) {
+                return Math.negateExact((int) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 negateExact$Unboxed () {
+        return negateExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class negateExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntToIntFunc1 INSTANCE = new rx.codegen.functions.IntToIntFunc1() {
+
+            @Override
+            public int call(final int arg0) {
+                return Math.negateExact((int) arg0);
+            }
+        };
+    }
+    public static  Func1<Long, Long> negateExact$Long () {
+        return negateExact$Long$Instance.INSTANCE;
+    }
+    private static final class negateExact$Long$Instance {
+
+        static final Func1<Long, Long> INSTANCE = new Func1<Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0) {
+                return Math.negateExact((long) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 negateExact$Long$Unboxed () {
+        return negateExact$Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class negateExact$Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongToLongFunc1 INSTANCE = new rx.codegen.functions.LongToLongFunc1() {
+
+            @Override
+            public long call(final long arg0) {
+                return Math.negateExact((long) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> nextAfter () {
+        return nextAfter$Instance.INSTANCE;
+    }
+    private static final class nextAfter$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.nextAfter((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 nextAfter$Unboxed () {
+        return nextAfter$Unboxed$Instance.INSTANCE;
+    }
+    private static final class nextAfter$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.nextAfter((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func2<Float, Double, Float> nextAfter$Float_Double () {
+        return nextAfter$Float_Double$Instance.INSTANCE;
+    }
+    private static final class nextAfter$Float_Double$Instance {
+
+        static final Func2<Float, Double, Float> INSTANCE = new Func2<Float, Double, Float>() {
+
+            @Override
+            public Float call(final Float arg0, final Double arg1) {
+                return Math.nextAfter((float) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> nextDown () {
+        return nextDown$Instance.INSTANCE;
+    }
+    private static final class nextDown$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.nextDown((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 nextDown$Unboxed () {
+        return nextDown$Unboxed$Instance.INSTANCE;
+    }
+    private static final class nextDown$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.nextDown((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Float> nextDown$Float () {
+        return nextDown$Float$Instance.INSTANCE;
+    }
+    private static final class nextDown$Float$Instance {
+
+        static final Func1<Float, Float> INSTANCE = new Func1<Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0) {
+                return Math.nextDown((float) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> nextUp () {
+        return nextUp$Instance.INSTANCE;
+    }
+    private static final class nextUp$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.nextUp((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 nextUp$Unboxed () {
+        return nextUp$Unboxed$Instance.INSTANCE;
+    }
+    private static final class nextUp$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.nextUp((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Float> nextUp$Float () {
+        return nextUp$Float$Instance.INSTANCE;
+    }
+    private static final class nextUp$Float$Instance {
+
+        static final Func1<Float, Float> INSTANCE = new Func1<Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0) {
+                return Math.nextUp((float) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Double, Double> pow () {
+        return pow$Instance.INSTANCE;
+    }
+    private static final class pow$Instance {
+
+        static final Func2<Double, Double, Double> INSTANCE = new Func2<Double, Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Double arg1) {
+                return Math.pow((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 pow$Unboxed () {
+        return pow$Unboxed$Instance.INSTANCE;
+    }
+    private static final class pow$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleDoubleToDoubleFunc2 INSTANCE = new rx.codegen.functions.DoubleDoubleToDoubleFunc2() {
+
+            @Override
+            public double call(final double arg0, final double arg1) {
+                return Math.pow((double) arg0, (double) arg1);
+            }
+        };
+    }
+    public static  Func0<Double> random () {
+        return random$Instance.INSTANCE;
+    }
+    private static final class random$Instance {
+
+        static final Func0<Double> INSTANCE = new Func0<Double>() {
+
+            @Override
+            public Double call() {
+                return Math.random();
+            }
+        };
+    }
+    public static  rx.codegen.functions.ToDoubleFunc0 random$Unboxed () {
+        return random$Unboxed$Instance.INSTANCE;
+    }
+    private static final class random$Unboxed$Instance {
+
+        static final rx.codegen.functions.ToDoubleFunc0 INSTANCE = new rx.codegen.functions.ToDoubleFunc0() {
+
+            @Override
+            public double call() {
+                return Math.random();
+            }
+        };
+    }
+    public static  Func1<Double, Double> rint () {
+        return rint$Instance.INSTANCE;
+    }
+    private static final class rint$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.rint((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 rint$Unboxed () {
+        return rint$Unboxed$Instance.INSTANCE;
+    }
+    private static final class rint$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.rint((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Long> round () {
+        return round$Instance.INSTANCE;
+    }
+    private static final class round$Instance {
+
+        static final Func1<Double, Long> INSTANCE = new Func1<Double, Long>() {
+
+            @Override
+            public Long call(final Double arg0) {
+                return Math.round((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToLongFunc1 round$Unboxed () {
+        return round$Unboxed$Instance.INSTANCE;
+    }
+    private static final class round$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToLongFunc1 INSTANCE = new rx.codegen.functions.DoubleToLongFunc1() {
+
+            @Override
+            public long call(final double arg0) {
+                return Math.round((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Integer> round$Float () {
+        return round$Float$Instance.INSTANCE;
+    }
+    private static final class round$Float$Instance {
+
+        static final Func1<Float, Integer> INSTANCE = new Func1<Float, Integer>() {
+
+            @Override
+            public Integer call(final Float arg0) {
+                return Math.round((float) arg0);
+            }
+        };
+    }
+    public static  Func2<Double, Integer, Double> scalb () {
+        return scalb$Instance.INSTANCE;
+    }
+    private static final class scalb$Instance {
+
+        static final Func2<Double, Integer, Double> INSTANCE = new Func2<Double, Integer, Double>() {
+
+            @Override
+            public Double call(final Double arg0, final Integer arg1) {
+                return Math.scalb((double) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Float, Integer, Float> scalb$Float_Int () {
+        return scalb$Float_Int$Instance.INSTANCE;
+    }
+    private static final class scalb$Float_Int$Instance {
+
+        static final Func2<Float, Integer, Float> INSTANCE = new Func2<Float, Integer, Float>() {
+
+            @Override
+            public Float call(final Float arg0, final Integer arg1) {
+                return Math.scalb((float) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> signum () {
+        return signum$Instance.INSTANCE;
+    }
+    private static final class signum$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.signum((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 signum$Unboxed () {
+        return signum$Unboxed$Instance.INSTANCE;
+    }
+    private static final class signum$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.signum((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Float> signum$Float () {
+        return signum$Float$Instance.INSTANCE;
+    }
+    private static final class signum$Float$Instance {
+
+        static final Func1<Float, Float> INSTANCE = new Func1<Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0) {
+                return Math.signum((float) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> sin () {
+        return sin$Instance.INSTANCE;
+    }
+    private static final class sin$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.sin((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sin$Unboxed () {
+        return sin$Unboxed$Instance.INSTANCE;
+    }
+    private static final class sin$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.sin((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> sinh () {
+        return sinh$Instance.INSTANCE;
+    }
+    private static final class sinh$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.sinh((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sinh$Unboxed () {
+        return sinh$Unboxed$Instance.INSTANCE;
+    }
+    private static final class sinh$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.sinh((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> sqrt () {
+        return sqrt$Instance.INSTANCE;
+    }
+    private static final class sqrt$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.sqrt((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sqrt$Unboxed () {
+        return sqrt$Unboxed$Instance.INSTANCE;
+    }
+    private static final class sqrt$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.sqrt((double) arg0);
+            }
+        };
+    }
+    public static  Func2<Integer, Integer, Integer> subtractExact () {
+        return subtractExact$Instance.INSTANCE;
+    }
+    private static final class subtractExact$Instance {
+
+        static final Func2<Integer, Integer, Integer> INSTANCE = new Func2<Integer, Integer, Integer>() {
+
+            @Override
+            public Integer call(final Integer arg0, final Integer arg1) {
+                return Math.subtractExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 subtractExact$Unboxed () {
+        return subtractExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class subtractExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.IntIntToIntFunc2 INSTANCE = new rx.codegen.functions.IntIntToIntFunc2() {
+
+            @Override
+            public int call(final int arg0, final int arg1) {
+                return Math.subtractExact((int) arg0, (int) arg1);
+            }
+        };
+    }
+    public static  Func2<Long, Long, Long> subtractExact$Long_Long () {
+        return subtractExact$Long_Long$Instance.INSTANCE;
+    }
+    private static final class subtractExact$Long_Long$Instance {
+
+        static final Func2<Long, Long, Long> INSTANCE = new Func2<Long, Long, Long>() {
+
+            @Override
+            public Long call(final Long arg0, final Long arg1) {
+                return Math.subtractExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 subtractExact$Long_Long$Unboxed () {
+        return subtractExact$Long_Long$Unboxed$Instance.INSTANCE;
+    }
+    private static final class subtractExact$Long_Long$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongLongToLongFunc2 INSTANCE = new rx.codegen.functions.LongLongToLongFunc2() {
+
+            @Override
+            public long call(final long arg0, final long arg1) {
+                return Math.subtractExact((long) arg0, (long) arg1);
+            }
+        };
+    }
+    public static  Func1<Double, Double> tan () {
+        return tan$Instance.INSTANCE;
+    }
+    private static final class tan$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.tan((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 tan$Unboxed () {
+        return tan$Unboxed$Instance.INSTANCE;
+    }
+    private static final class tan$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.tan((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> tanh () {
+        return tanh$Instance.INSTANCE;
+    }
+    private static final class tanh$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.tanh((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 tanh$Unboxed () {
+        return tanh$Unboxed$Instance.INSTANCE;
+    }
+    private static final class tanh$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.tanh((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> toDegrees () {
+        return toDegrees$Instance.INSTANCE;
+    }
+    private static final class toDegrees$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.toDegrees((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 toDegrees$Unboxed () {
+        return toDegrees$Unboxed$Instance.INSTANCE;
+    }
+    private static final class toDegrees$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.toDegrees((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Long, Integer> toIntExact () {
+        return toIntExact$Instance.INSTANCE;
+    }
+    private static final class toIntExact$Instance {
+
+        static final Func1<Long, Integer> INSTANCE = new Func1<Long, Integer>() {
+
+            @Override
+            public Integer call(final Long arg0) {
+                return Math.toIntExact((long) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.LongToIntFunc1 toIntExact$Unboxed () {
+        return toIntExact$Unboxed$Instance.INSTANCE;
+    }
+    private static final class toIntExact$Unboxed$Instance {
+
+        static final rx.codegen.functions.LongToIntFunc1 INSTANCE = new rx.codegen.functions.LongToIntFunc1() {
+
+            @Override
+            public int call(final long arg0) {
+                return Math.toIntExact((long) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> toRadians () {
+        return toRadians$Instance.INSTANCE;
+    }
+    private static final class toRadians$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.toRadians((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 toRadians$Unboxed () {
+        return toRadians$Unboxed$Instance.INSTANCE;
+    }
+    private static final class toRadians$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.toRadians((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Double, Double> ulp () {
+        return ulp$Instance.INSTANCE;
+    }
+    private static final class ulp$Instance {
+
+        static final Func1<Double, Double> INSTANCE = new Func1<Double, Double>() {
+
+            @Override
+            public Double call(final Double arg0) {
+                return Math.ulp((double) arg0);
+            }
+        };
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 ulp$Unboxed () {
+        return ulp$Unboxed$Instance.INSTANCE;
+    }
+    private static final class ulp$Unboxed$Instance {
+
+        static final rx.codegen.functions.DoubleToDoubleFunc1 INSTANCE = new rx.codegen.functions.DoubleToDoubleFunc1() {
+
+            @Override
+            public double call(final double arg0) {
+                return Math.ulp((double) arg0);
+            }
+        };
+    }
+    public static  Func1<Float, Float> ulp$Float () {
+        return ulp$Float$Instance.INSTANCE;
+    }
+    private static final class ulp$Float$Instance {
+
+        static final Func1<Float, Float> INSTANCE = new Func1<Float, Float>() {
+
+            @Override
+            public Float call(final Float arg0) {
+                return Math.ulp((float) arg0);
+            }
+        };
+    }
+}
+
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: java.util.Objects")
+public abstract class Objects_ {
+
+    @SuppressWarnings("unchecked")
+    public static <M0> Func3<M0, M0, java.util.Comparator<? super M0>, Integer> compare () {
+        return Func$Dispatch.instance(0);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Object, Object, Boolean> deepEquals () {
+        return Func$Dispatch.instance(1);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Object, Object, Boolean> equals () {
+        return Func$Dispatch.instance(2);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object[], Integer> hash () {
+        return Func$Dispatch.instance(3);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object, Integer> hashCode_ () {
+        return Func$Dispatch.instance(4);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object, Boolean> isNull () {
+        return Func$Dispatch.instance(5);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object, Boolean> nonNull () {
+        return Func$Dispatch.instance(6);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0, M0> requireNonNull () {
+        return Func$Dispatch.instance(7);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func2<M0, java.util.function.Supplier<String>, M0> requireNonNull$TypeVar_Obj () {
+        return Func$Dispatch.instance(8);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object, String> toString_ () {
+        return Func$Dispatch.instance(9);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Object, String, String> toString_$Obj_Obj () {
+        return Func$Dispatch.instance(10);
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Func$Dispatch implements Func1, Func2, Func3 {
+
+        private static final Func$Dispatch[] INSTANCES = new Func$Dispatch[11];
+
+        private final int id;
+        private final Object[] bound;
+
+        Func$Dispatch(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static Func$Dispatch instance(int id) {
+            Func$Dispatch ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new Func$Dispatch(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+
+        @Override
+        public Object call(final Object t1) {
+            switch (id) {
+                case 3:
+                    return java.util.Objects.hash((Object[]) t1);
+                case 4:
+                    return java.util.Objects.hashCode((Object) t1);
+                case 5:
+                    return java.util.Objects.isNull((Object) t1);
+                case 6:
+                    return java.util.Objects.nonNull((Object) t1);
+                case 7:
+                    return java.util.Objects.requireNonNull((Object) t1);
+                case 9:
+                    return java.util.Objects.toString((Object) t1);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2) {
+            switch (id) {
+                case 1:
+                    return java.util.Objects.deepEquals((Object) t1, (Object) t2);
+                case 2:
+                    return java.util.Objects.equals((Object) t1, (Object) t2);
+                case 8:
+                    return java.util.Objects.requireNonNull((Object) t1, (java.util.function.Supplier) t2);
+                case 10:
+                    return java.util.Objects.toString((Object) t1, (String) t2);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2, final Object t3) {
+            switch (id) {
+                case 0:
+                    return java.util.Objects.compare((Object) t1, (Object) t2, (java.util.Comparator) t3);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+    }
+}
+
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: parity.Bar")
+public abstract class Bar_ {
+
+    public static  Func0<parity.Bar> newBar () {
+        return newBar$Instance.INSTANCE;
+    }
+    private static final class newBar$Instance {
+
+        static final Func0<parity.Bar> INSTANCE = new Func0<parity.Bar>() {
+
+            @Override
+            public parity.Bar call() {
+                return new parity.Bar();
+            }
+        };
+    }
+    public static  Func1<parity.Bar, String> describe () {
+        return describe$Instance.INSTANCE;
+    }
+    private static final class describe$Instance {
+
+        static final Func1<parity.Bar, String> INSTANCE = new Func1<parity.Bar, String>() {
+
+            @Override
+            public String call(final parity.Bar obj) {
+                return obj.describe();
+            }
+        };
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static  Func1<parity.Bar, String> describe$Obj (final String prefix) {
+        return (Func1) parity.refs.Base_.describe$Obj(prefix);
+    }
+    public static  Func1<parity.Bar, Integer> size () {
+        return size$Instance.INSTANCE;
+    }
+    private static final class size$Instance {
+
+        static final Func1<parity.Bar, Integer> INSTANCE = new Func1<parity.Bar, Integer>() {
+
+            @Override
+            public Integer call(final parity.Bar obj) {
+                return obj.size();
+            }
+        };
+    }
+}
+
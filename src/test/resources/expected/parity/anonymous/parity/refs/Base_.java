@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: parity.Base")
+public abstract class Base_ {
+
+    public static  Func0<parity.Base> newBase () {
+        return newBase$Instance.INSTANCE;
+    }
+    private static final class newBase$Instance {
+
+        static final Func0<parity.Base> INSTANCE = new Func0<parity.Base>() {
+
+            @Override
+            public parity.Base call() {
+                return new parity.Base();
+            }
+        };
+    }
+    public static  Func0<parity.Base> create () {
+        return create$Instance.INSTANCE;
+    }
+    private static final class create$Instance {
+
+        static final Func0<parity.Base> INSTANCE = new Func0<parity.Base>() {
+
+            @Override
+            public parity.Base call() {
+                return parity.Base.create();
+            }
+        };
+    }
+    public static  Func1<parity.Base, String> describe () {
+        return describe$Instance.INSTANCE;
+    }
+    private static final class describe$Instance {
+
+        static final Func1<parity.Base, String> INSTANCE = new Func1<parity.Base, String>() {
+
+            @Override
+            public String call(final parity.Base obj) {
+                return obj.describe();
+            }
+        };
+    }
+    public static  Func1<parity.Base, String> describe$Obj (final String prefix) {
+        return new Func1<parity.Base, String>() {
+
+            @Override
+            public String call(final parity.Base obj) {
+                return obj.describe((String) prefix);
+            }
+        };
+    }
+}
+
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: rx.functions.Functions")
+public abstract class Functions_ {
+
+    public static  Func1<rx.functions.Action0, rx.functions.FuncN<Void>> fromAction () {
+        return fromAction$Instance.INSTANCE;
+    }
+    private static final class fromAction$Instance {
+
+        static final Func1<rx.functions.Action0, rx.functions.FuncN<Void>> INSTANCE = new Func1<rx.functions.Action0, rx.functions.FuncN<Void>>() {
+
+            @Override
+            public rx.functions.FuncN<Void> call(final rx.functions.Action0 f) {
+                return rx.functions.Functions.fromAction((rx.functions.Action0) f);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0, M1, M2> Func1<rx.functions.Action3<? super M0, ? super M1, ? super M2>, rx.functions.FuncN<Void>> fromAction$Obj () {
+        return (Func1) fromAction$Obj$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class fromAction$Obj$Instance {
+
+        static final Func1<rx.functions.Action3, rx.functions.FuncN> INSTANCE = new Func1<rx.functions.Action3, rx.functions.FuncN>() {
+
+            @Override
+            public rx.functions.FuncN call(final rx.functions.Action3 f) {
+                return rx.functions.Functions.fromAction((rx.functions.Action3) f);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<rx.functions.Func0<? extends M0>, rx.functions.FuncN<M0>> fromFunc () {
+        return (Func1) fromFunc$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class fromFunc$Instance {
+
+        static final Func1<rx.functions.Func0, rx.functions.FuncN> INSTANCE = new Func1<rx.functions.Func0, rx.functions.FuncN>() {
+
+            @Override
+            public rx.functions.FuncN call(final rx.functions.Func0 f) {
+                return rx.functions.Functions.fromFunc((rx.functions.Func0) f);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0, M1, M2, M3, M4, M5, M6, M7, M8, M9> Func1<rx.functions.Func9<? super M0, ? super M1, ? super M2, ? super M3, ? super M4, ? super M5, ? super M6, ? super M7, ? super M8, ? extends M9>, rx.functions.FuncN<M9>> fromFunc$Obj () {
+        return (Func1) fromFunc$Obj$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class fromFunc$Obj$Instance {
+
+        static final Func1<rx.functions.Func9, rx.functions.FuncN> INSTANCE = new Func1<rx.functions.Func9, rx.functions.FuncN>() {
+
+            @Override
+            public rx.functions.FuncN call(final rx.functions.Func9 f) {
+                return rx.functions.Functions.fromFunc((rx.functions.Func9) f);
+            }
+        };
+    }
+}
+
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs.observables;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: rx.observables.GroupedObservable")
+public abstract class GroupedObservable_ {
+
+    @SuppressWarnings("unchecked")
+    public static <M0, M1> Func2<M0, rx.Observable.OnSubscribe<M1>, rx.observables.GroupedObservable<M0, M1>> create () {
+        return (Func2) create$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class create$Instance {
+
+        static final Func2<Object, rx.Observable.OnSubscribe, rx.observables.GroupedObservable> INSTANCE = new Func2<Object, rx.Observable.OnSubscribe, rx.observables.GroupedObservable>() {
+
+            @Override
+            public rx.observables.GroupedObservable call(final Object key, final rx.Observable.OnSubscribe f) {
+                return rx.observables.GroupedObservable.create((Object) key, (rx.Observable.OnSubscribe) f);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0, M1> Func2<M0, rx.Observable<M1>, rx.observables.GroupedObservable<M0, M1>> from () {
+        return (Func2) from$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class from$Instance {
+
+        static final Func2<Object, rx.Observable, rx.observables.GroupedObservable> INSTANCE = new Func2<Object, rx.Observable, rx.observables.GroupedObservable>() {
+
+            @Override
+            public rx.observables.GroupedObservable call(final Object key, final rx.Observable o) {
+                return rx.observables.GroupedObservable.from((Object) key, (rx.Observable) o);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static <C0, C1> Func1<rx.observables.GroupedObservable<C0, C1>, C0> getKey () {
+        return (Func1) getKey$Instance.INSTANCE;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class getKey$Instance {
+
+        static final Func1<rx.observables.GroupedObservable, Object> INSTANCE = new Func1<rx.observables.GroupedObservable, Object>() {
+
+            @Override
+            public Object call(final rx.observables.GroupedObservable obj) {
+                return obj.getKey();
+            }
+        };
+    }
+}
+
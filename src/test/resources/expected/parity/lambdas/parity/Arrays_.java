@@ -0,0 +1,629 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: java.util.Arrays")
+public abstract class Arrays_ {
+
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0[], java.util.List<M0>> asList () {
+        return Func$Dispatch.instance(0);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<byte[], Byte, Integer> binarySearch () {
+        return Func$Dispatch.instance(1);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<char[], Character, Integer> binarySearch$Array_Char () {
+        return Func$Dispatch.instance(2);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<double[], Double, Integer> binarySearch$Array_Double () {
+        return Func$Dispatch.instance(3);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<float[], Float, Integer> binarySearch$Array_Float () {
+        return Func$Dispatch.instance(4);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<int[], Integer, Integer> binarySearch$Array_Int () {
+        return Func$Dispatch.instance(5);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Object[], Object, Integer> binarySearch$Array_Obj () {
+        return Func$Dispatch.instance(6);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<long[], Long, Integer> binarySearch$Array_Long () {
+        return Func$Dispatch.instance(7);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<short[], Short, Integer> binarySearch$Array_Short () {
+        return Func$Dispatch.instance(8);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func3<M0[], M0, java.util.Comparator<? super M0>, Integer> binarySearch$Array_TypeVar_Obj () {
+        return Func$Dispatch.instance(9);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<byte[], Integer, Integer, Byte, Integer> binarySearch$Array_Int_Int_Byte () {
+        return Func$Dispatch.instance(10);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<char[], Integer, Integer, Character, Integer> binarySearch$Array_Int_Int_Char () {
+        return Func$Dispatch.instance(11);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<double[], Integer, Integer, Double, Integer> binarySearch$Array_Int_Int_Double () {
+        return Func$Dispatch.instance(12);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<float[], Integer, Integer, Float, Integer> binarySearch$Array_Int_Int_Float () {
+        return Func$Dispatch.instance(13);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<int[], Integer, Integer, Integer, Integer> binarySearch$Array_Int_Int_Int () {
+        return Func$Dispatch.instance(14);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<Object[], Integer, Integer, Object, Integer> binarySearch$Array_Int_Int_Obj () {
+        return Func$Dispatch.instance(15);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<long[], Integer, Integer, Long, Integer> binarySearch$Array_Int_Int_Long () {
+        return Func$Dispatch.instance(16);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func4<short[], Integer, Integer, Short, Integer> binarySearch$Array_Int_Int_Short () {
+        return Func$Dispatch.instance(17);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func5<M0[], Integer, Integer, M0, java.util.Comparator<? super M0>, Integer> binarySearch$Array_Int_Int_TypeVar_Obj () {
+        return Func$Dispatch.instance(18);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func2<M0[], Integer, M0[]> copyOf () {
+        return Func$Dispatch.instance(19);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<short[], Integer, short[]> copyOf$Array_Int () {
+        return Func$Dispatch.instance(20);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M1, M0> Func3<M1[], Integer, Class<? extends M0[]>, M0[]> copyOf$Array_Int_Obj () {
+        return Func$Dispatch.instance(21);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func3<M0[], Integer, Integer, M0[]> copyOfRange () {
+        return Func$Dispatch.instance(22);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func3<short[], Integer, Integer, short[]> copyOfRange$Array_Int_Int () {
+        return Func$Dispatch.instance(23);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M1, M0> Func4<M1[], Integer, Integer, Class<? extends M0[]>, M0[]> copyOfRange$Array_Int_Int_Obj () {
+        return Func$Dispatch.instance(24);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Object[], Object[], Boolean> deepEquals () {
+        return Func$Dispatch.instance(25);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object[], Integer> deepHashCode () {
+        return Func$Dispatch.instance(26);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<Object[], String> deepToString () {
+        return Func$Dispatch.instance(27);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<boolean[], boolean[], Boolean> equals () {
+        return Func$Dispatch.instance(28);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<short[], short[], Boolean> equals$Array_Array () {
+        return Func$Dispatch.instance(29);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<boolean[], Boolean> fill () {
+        return Action$Dispatch.instance(0);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<byte[], Byte> fill$Array_Byte () {
+        return Action$Dispatch.instance(1);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<char[], Character> fill$Array_Char () {
+        return Action$Dispatch.instance(2);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<double[], Double> fill$Array_Double () {
+        return Action$Dispatch.instance(3);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<float[], Float> fill$Array_Float () {
+        return Action$Dispatch.instance(4);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<int[], Integer> fill$Array_Int () {
+        return Action$Dispatch.instance(5);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<Object[], Object> fill$Array_Obj () {
+        return Action$Dispatch.instance(6);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<long[], Long> fill$Array_Long () {
+        return Action$Dispatch.instance(7);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<short[], Short> fill$Array_Short () {
+        return Action$Dispatch.instance(8);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<boolean[], Integer, Integer, Boolean> fill$Array_Int_Int_Bool () {
+        return Action$Dispatch.instance(9);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<byte[], Integer, Integer, Byte> fill$Array_Int_Int_Byte () {
+        return Action$Dispatch.instance(10);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<char[], Integer, Integer, Character> fill$Array_Int_Int_Char () {
+        return Action$Dispatch.instance(11);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<double[], Integer, Integer, Double> fill$Array_Int_Int_Double () {
+        return Action$Dispatch.instance(12);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<float[], Integer, Integer, Float> fill$Array_Int_Int_Float () {
+        return Action$Dispatch.instance(13);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<int[], Integer, Integer, Integer> fill$Array_Int_Int_Int () {
+        return Action$Dispatch.instance(14);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<Object[], Integer, Integer, Object> fill$Array_Int_Int_Obj () {
+        return Action$Dispatch.instance(15);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<long[], Integer, Integer, Long> fill$Array_Int_Int_Long () {
+        return Action$Dispatch.instance(16);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<short[], Integer, Integer, Short> fill$Array_Int_Int_Short () {
+        return Action$Dispatch.instance(17);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<boolean[], Integer> hashCode_ () {
+        return Func$Dispatch.instance(30);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<short[], Integer> hashCode_$Array () {
+        return Func$Dispatch.instance(31);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action2<M0[], java.util.function.BinaryOperator<M0>> parallelPrefix () {
+        return Action$Dispatch.instance(18);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<long[], java.util.function.LongBinaryOperator> parallelPrefix$Array_Obj () {
+        return Action$Dispatch.instance(19);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action4<long[], Integer, Integer, java.util.function.LongBinaryOperator> parallelPrefix$Array_Int_Int_Obj () {
+        return Action$Dispatch.instance(20);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action2<M0[], java.util.function.IntFunction<? extends M0>> parallelSetAll () {
+        return Action$Dispatch.instance(21);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<long[], java.util.function.IntToLongFunction> parallelSetAll$Array_Obj () {
+        return Action$Dispatch.instance(22);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0 extends Comparable<? super M0>> Action1<M0[]> parallelSort () {
+        return Action$Dispatch.instance(23);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action1<short[]> parallelSort$Array () {
+        return Action$Dispatch.instance(24);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action2<M0[], java.util.Comparator<? super M0>> parallelSort$Array_Obj () {
+        return Action$Dispatch.instance(25);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action3<short[], Integer, Integer> parallelSort$Array_Int_Int () {
+        return Action$Dispatch.instance(26);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action4<M0[], Integer, Integer, java.util.Comparator<? super M0>> parallelSort$Array_Int_Int_Obj () {
+        return Action$Dispatch.instance(27);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action2<M0[], java.util.function.IntFunction<? extends M0>> setAll () {
+        return Action$Dispatch.instance(28);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<long[], java.util.function.IntToLongFunction> setAll$Array_Obj () {
+        return Action$Dispatch.instance(29);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action1<byte[]> sort () {
+        return Action$Dispatch.instance(30);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action1<short[]> sort$Array () {
+        return Action$Dispatch.instance(31);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action2<M0[], java.util.Comparator<? super M0>> sort$Array_Obj () {
+        return Action$Dispatch.instance(32);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action3<short[], Integer, Integer> sort$Array_Int_Int () {
+        return Action$Dispatch.instance(33);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Action4<M0[], Integer, Integer, java.util.Comparator<? super M0>> sort$Array_Int_Int_Obj () {
+        return Action$Dispatch.instance(34);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0[], java.util.Spliterator<M0>> spliterator () {
+        return Func$Dispatch.instance(32);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<long[], java.util.Spliterator.OfLong> spliterator$Array () {
+        return Func$Dispatch.instance(33);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func3<long[], Integer, Integer, java.util.Spliterator.OfLong> spliterator$Array_Int_Int () {
+        return Func$Dispatch.instance(34);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0[], java.util.stream.Stream<M0>> stream () {
+        return Func$Dispatch.instance(35);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<long[], java.util.stream.LongStream> stream$Array () {
+        return Func$Dispatch.instance(36);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func3<long[], Integer, Integer, java.util.stream.LongStream> stream$Array_Int_Int () {
+        return Func$Dispatch.instance(37);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<boolean[], String> toString_ () {
+        return Func$Dispatch.instance(38);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<short[], String> toString_$Array () {
+        return Func$Dispatch.instance(39);
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Func$Dispatch implements Func1, Func2, Func3, Func4, Func5 {
+
+        private static final Func$Dispatch[] INSTANCES = new Func$Dispatch[40];
+
+        private final int id;
+        private final Object[] bound;
+
+        Func$Dispatch(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static Func$Dispatch instance(int id) {
+            Func$Dispatch ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new Func$Dispatch(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+
+        @Override
+        public Object call(final Object t1) {
+            switch (id) {
+                case 0:
+                    return java.util.Arrays.asList((Object[]) t1);
+                case 26:
+                    return java.util.Arrays.deepHashCode((Object[]) t1);
+                case 27:
+                    return java.util.Arrays.deepToString((Object[]) t1);
+                case 30:
+                    return java.util.Arrays.hashCode((boolean[]) t1);
+                case 31:
+                    return java.util.Arrays.hashCode((short[]) t1);
+                case 32:
+                    return java.util.Arrays.spliterator((Object[]) t1);
+                case 33:
+                    return java.util.Arrays.spliterator((long[]) t1);
+                case 35:
+                    return java.util.Arrays.stream((Object[]) t1);
+                case 36:
+                    return java.util.Arrays.stream((long[]) t1);
+                case 38:
+                    return java.util.Arrays.toString((boolean[]) t1);
+                case 39:
+                    return java.util.Arrays.toString((short[]) t1);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2) {
+            switch (id) {
+                case 1:
+                    return java.util.Arrays.binarySearch((byte[]) t1, (byte) (Byte) t2);
+                case 2:
+                    return java.util.Arrays.binarySearch((char[]) t1, (char) (Character) t2);
+                case 3:
+                    return java.util.Arrays.binarySearch((double[]) t1, (double) (Double) t2);
+                case 4:
+                    return java.util.Arrays.binarySearch((float[]) t1, (float) (Float) t2);
+                case 5:
+                    return java.util.Arrays.binarySearch((int[]) t1, (int) (Integer) t2);
+                case 6:
+                    return java.util.Arrays.binarySearch((Object[]) t1, (Object) t2);
+                case 7:
+                    return java.util.Arrays.binarySearch((long[]) t1, (long) (Long) t2);
+                case 8:
+                    return java.util.Arrays.binarySearch((short[]) t1, (short) (Short) t2);
+                case 19:
+                    return java.util.Arrays.copyOf((Object[]) t1, (int) (Integer) t2);
+                case 20:
+                    return java.util.Arrays.copyOf((short[]) t1, (int) (Integer) t2);
+                case 25:
+                    return java.util.Arrays.deepEquals((Object[]) t1, (Object[]) t2);
+                case 28:
+                    return java.util.Arrays.equals((boolean[]) t1, (boolean[]) t2);
+                case 29:
+                    return java.util.Arrays.equals((short[]) t1, (short[]) t2);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2, final Object t3) {
+            switch (id) {
+                case 9:
+                    return java.util.Arrays.binarySearch((Object[]) t1, (Object) t2, (java.util.Comparator) t3);
+                case 21:
+                    return java.util.Arrays.copyOf((Object[]) t1, (int) (Integer) t2, (Class) t3);
+                case 22:
+                    return java.util.Arrays.copyOfRange((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                case 23:
+                    return java.util.Arrays.copyOfRange((short[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                case 34:
+                    return java.util.Arrays.spliterator((long[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                case 37:
+                    return java.util.Arrays.stream((long[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2, final Object t3, final Object t4) {
+            switch (id) {
+                case 10:
+                    return java.util.Arrays.binarySearch((byte[]) t1, (int) (Integer) t2, (int) (Integer) t3, (byte) (Byte) t4);
+                case 11:
+                    return java.util.Arrays.binarySearch((char[]) t1, (int) (Integer) t2, (int) (Integer) t3, (char) (Character) t4);
+                case 12:
+                    return java.util.Arrays.binarySearch((double[]) t1, (int) (Integer) t2, (int) (Integer) t3, (double) (Double) t4);
+                case 13:
+                    return java.util.Arrays.binarySearch((float[]) t1, (int) (Integer) t2, (int) (Integer) t3, (float) (Float) t4);
+                case 14:
+                    return java.util.Arrays.binarySearch((int[]) t1, (int) (Integer) t2, (int) (Integer) t3, (int) (Integer) t4);
+                case 15:
+                    return java.util.Arrays.binarySearch((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (Object) t4);
+                case 16:
+                    return java.util.Arrays.binarySearch((long[]) t1, (int) (Integer) t2, (int) (Integer) t3, (long) (Long) t4);
+                case 17:
+                    return java.util.Arrays.binarySearch((short[]) t1, (int) (Integer) t2, (int) (Integer) t3, (short) (Short) t4);
+                case 24:
+                    return java.util.Arrays.copyOfRange((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (Class) t4);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2, final Object t3, final Object t4, final Object t5) {
+            switch (id) {
+                case 18:
+                    return java.util.Arrays.binarySearch((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (Object) t4, (java.util.Comparator) t5);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Action$Dispatch implements Action1, Action2, Action3, Action4 {
+
+        private static final Action$Dispatch[] INSTANCES = new Action$Dispatch[35];
+
+        private final int id;
+        private final Object[] bound;
+
+        Action$Dispatch(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static Action$Dispatch instance(int id) {
+            Action$Dispatch ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new Action$Dispatch(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+
+        @Override
+        public void call(final Object t1) {
+            switch (id) {
+                case 23:
+                    java.util.Arrays.parallelSort((Comparable[]) t1);
+                    return;
+                case 24:
+                    java.util.Arrays.parallelSort((short[]) t1);
+                    return;
+                case 30:
+                    java.util.Arrays.sort((byte[]) t1);
+                    return;
+                case 31:
+                    java.util.Arrays.sort((short[]) t1);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public void call(final Object t1, final Object t2) {
+            switch (id) {
+                case 0:
+                    java.util.Arrays.fill((boolean[]) t1, (boolean) (Boolean) t2);
+                    return;
+                case 1:
+                    java.util.Arrays.fill((byte[]) t1, (byte) (Byte) t2);
+                    return;
+                case 2:
+                    java.util.Arrays.fill((char[]) t1, (char) (Character) t2);
+                    return;
+                case 3:
+                    java.util.Arrays.fill((double[]) t1, (double) (Double) t2);
+                    return;
+                case 4:
+                    java.util.Arrays.fill((float[]) t1, (float) (Float) t2);
+                    return;
+                case 5:
+                    java.util.Arrays.fill((int[]) t1, (int) (Integer) t2);
+                    return;
+                case 6:
+                    java.util.Arrays.fill((Object[]) t1, (Object) t2);
+                    return;
+                case 7:
+                    java.util.Arrays.fill((long[]) t1, (long) (Long) t2);
+                    return;
+                case 8:
+                    java.util.Arrays.fill((short[]) t1, (short) (Short) t2);
+                    return;
+                case 18:
+                    java.util.Arrays.parallelPrefix((Object[]) t1, (java.util.function.BinaryOperator) t2);
+                    return;
+                case 19:
+                    java.util.Arrays.parallelPrefix((long[]) t1, (java.util.function.LongBinaryOperator) t2);
+                    return;
+                case 21:
+                    java.util.Arrays.parallelSetAll((Object[]) t1, (java.util.function.IntFunction) t2);
+                    return;
+                case 22:
+                    java.util.Arrays.parallelSetAll((long[]) t1, (java.util.function.IntToLongFunction) t2);
+                    return;
+                case 25:
+                    java.util.Arrays.parallelSort((Object[]) t1, (java.util.Comparator) t2);
+                    return;
+                case 28:
+                    java.util.Arrays.setAll((Object[]) t1, (java.util.function.IntFunction) t2);
+                    return;
+                case 29:
+                    java.util.Arrays.setAll((long[]) t1, (java.util.function.IntToLongFunction) t2);
+                    return;
+                case 32:
+                    java.util.Arrays.sort((Object[]) t1, (java.util.Comparator) t2);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public void call(final Object t1, final Object t2, final Object t3) {
+            switch (id) {
+                case 26:
+                    java.util.Arrays.parallelSort((short[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                    return;
+                case 33:
+                    java.util.Arrays.sort((short[]) t1, (int) (Integer) t2, (int) (Integer) t3);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public void call(final Object t1, final Object t2, final Object t3, final Object t4) {
+            switch (id) {
+                case 9:
+                    java.util.Arrays.fill((boolean[]) t1, (int) (Integer) t2, (int) (Integer) t3, (boolean) (Boolean) t4);
+                    return;
+                case 10:
+                    java.util.Arrays.fill((byte[]) t1, (int) (Integer) t2, (int) (Integer) t3, (byte) (Byte) t4);
+                    return;
+                case 11:
+                    java.util.Arrays.fill((char[]) t1, (int) (Integer) t2, (int) (Integer) t3, (char) (Character) t4);
+                    return;
+                case 12:
+                    java.util.Arrays.fill((double[]) t1, (int) (Integer) t2, (int) (Integer) t3, (double) (Double) t4);
+                    return;
+                case 13:
+                    java.util.Arrays.fill((float[]) t1, (int) (Integer) t2, (int) (Integer) t3, (float) (Float) t4);
+                    return;
+                case 14:
+                    java.util.Arrays.fill((int[]) t1, (int) (Integer) t2, (int) (Integer) t3, (int) (Integer) t4);
+                    return;
+                case 15:
+                    java.util.Arrays.fill((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (Object) t4);
+                    return;
+                case 16:
+                    java.util.Arrays.fill((long[]) t1, (int) (Integer) t2, (int) (Integer) t3, (long) (Long) t4);
+                    return;
+                case 17:
+                    java.util.Arrays.fill((short[]) t1, (int) (Integer) t2, (int) (Integer) t3, (short) (Short) t4);
+                    return;
+                case 20:
+                    java.util.Arrays.parallelPrefix((long[]) t1, (int) (Integer) t2, (int) (Integer) t3, (java.util.function.LongBinaryOperator) t4);
+                    return;
+                case 27:
+                    java.util.Arrays.parallelSort((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (java.util.Comparator) t4);
+                    return;
+                case 34:
+                    java.util.Arrays.sort((Object[]) t1, (int) (Integer) t2, (int) (Integer) t3, (java.util.Comparator) t4);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+    }
+}
+
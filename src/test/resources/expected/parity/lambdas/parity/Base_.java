@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxCodeGenerator", comments = "Orginating type: parity.Base")
+public abstract class Base_ {
+
+    public static  Func0<parity.Base> newBase () {
+        return parity.Base::new;
+    }
+    public static  Func0<parity.Base> create () {
+        return parity.Base::create;
+    }
+    public static  Func1<parity.Base, String> describe () {
+        return obj -> obj.describe();
+    }
+    public static  Func1<parity.Base, String> describe$Obj (final String prefix) {
+        return obj -> obj.describe((String) prefix);
+    }
+}
+
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: parity.Item")
+public abstract class ItemDispatch_ {
+
+    @SuppressWarnings("unchecked")
+    public static  Func1<String, parity.Item> newItem () {
+        return Func$Dispatch.instance(0);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<String, Integer, parity.Item> newItem$Obj_Int () {
+        return Func$Dispatch.instance(1);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Double, Double, Double> add () {
+        return Func$Dispatch.instance(2);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<Long, Long, Long> add$Long_Long () {
+        return Func$Dispatch.instance(3);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<String, Integer> checksum () {
+        return Func$Dispatch.instance(4);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<parity.Item, Integer> compareTo (final parity.Item other) {
+        return new Func$Dispatch(5, new Object[] {other});
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<int[], int[]> copy () {
+        return Func$Dispatch.instance(6);
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static  Func1<parity.Item, String> getName () {
+        return Func$Dispatch.instance(7);
+    }
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0, M0> identity () {
+        return Func$Dispatch.instance(8);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<parity.Item, Boolean> isCheaperThan (final Integer limit) {
+        return new Func$Dispatch(9, new Object[] {limit});
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func2<String, String[], String> join () {
+        return Func$Dispatch.instance(10);
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<String, String> load () {
+        return Func$Dispatch.instance(11);
+    }
+    public static  Func1<String, rx.Observable<String>> load$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final String id) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.load((String) id));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action1<String> log () {
+        return Action$Dispatch.instance(0);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0 extends Comparable<? super M0>> Func1<java.util.Collection<? extends M0>, M0> max () {
+        return Func$Dispatch.instance(12);
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  rx.codegen.cache.MemoizedFunc1<String, Integer> parse () {
+        return parse$Instance.INSTANCE;
+    }
+    private static final class parse$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc1<String, Integer> INSTANCE = new rx.codegen.cache.MemoizedFunc1<String, Integer>(16) {
+
+            @Override
+            protected Integer compute(final String value) {
+                return parity.Item.parse((String) value);
+            }
+        };
+    }
+    public static  rx.codegen.cache.MemoizedFunc2<String, Integer, String> repeat () {
+        return repeat$Instance.INSTANCE;
+    }
+    private static final class repeat$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc2<String, Integer, String> INSTANCE = new rx.codegen.cache.MemoizedFunc2<String, Integer, String>(1024) {
+
+            @Override
+            protected String compute(final String value, final Integer count) {
+                return parity.Item.repeat((String) value, (int) count);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static  Action2<String, parity.Item> store () {
+        return Action$Dispatch.instance(1);
+    }
+    public static  Func2<String, parity.Item, rx.Observable<Void>> store$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, parity.Item, rx.Observable<Void>>() {
+
+            @Override
+            public rx.Observable<Void> call(final String id, final parity.Item item) {
+                return rx.Observable.defer(new Func0<rx.Observable<Void>>() {
+
+                    @Override
+                    public rx.Observable<Void> call() {
+                        parity.Item.save((String) id, (parity.Item) item);
+                        return rx.Observable.<Void>just(null);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static  FuncN<Integer> sum () {
+        return Func$Dispatch.instance(13);
+    }
+    @SuppressWarnings("unchecked")
+    public static <M0> Func1<M0, rx.Observable<M0>> twice () {
+        return Func$Dispatch.instance(14);
+    }
+    public static  rx.codegen.cache.MemoizedFunc0<String> version () {
+        return version$Instance.INSTANCE;
+    }
+    private static final class version$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc0<String> INSTANCE = new rx.codegen.cache.MemoizedFunc0<String>() {
+
+            @Override
+            protected String compute() {
+                return parity.Item.version();
+            }
+        };
+    }
+    @SuppressWarnings("unchecked")
+    public static  Func1<parity.Item, parity.Item> withPrice (final Integer price) {
+        return new Func$Dispatch(15, new Object[] {price});
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Func$Dispatch implements Func1, Func2, FuncN {
+
+        private static final Func$Dispatch[] INSTANCES = new Func$Dispatch[16];
+
+        private final int id;
+        private final Object[] bound;
+
+        Func$Dispatch(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static Func$Dispatch instance(int id) {
+            Func$Dispatch ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new Func$Dispatch(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+
+        @Override
+        public Object call(final Object t1) {
+            switch (id) {
+                case 0:
+                    return new parity.Item((String) t1);
+                case 4:
+                    return parity.Item.checksum((String) t1);
+                case 5:
+                    return ((parity.Item) t1).compareTo((parity.Item) bound[0]);
+                case 6:
+                    return parity.Item.copy((int[]) t1);
+                case 7:
+                    return ((parity.Item) t1).getName();
+                case 8:
+                    return parity.Item.identity((Object) t1);
+                case 9:
+                    return ((parity.Item) t1).isCheaperThan((int) (Integer) bound[0]);
+                case 11:
+                    return parity.Item.load((String) t1);
+                case 12:
+                    return parity.Item.max((java.util.Collection) t1);
+                case 14:
+                    return parity.Item.twice((Object) t1);
+                case 15:
+                    return ((parity.Item) t1).withPrice((int) (Integer) bound[0]);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object t1, final Object t2) {
+            switch (id) {
+                case 1:
+                    return new parity.Item((String) t1, (int) (Integer) t2);
+                case 2:
+                    return parity.Item.add((double) (Double) t1, (double) (Double) t2);
+                case 3:
+                    return parity.Item.add((long) (Long) t1, (long) (Long) t2);
+                case 10:
+                    return parity.Item.join((String) t1, (String[]) t2);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public Object call(final Object... args) {
+            switch (id) {
+                case 13:
+                    return parity.Item.sum((int) (Integer) args[0], (int) (Integer) args[1], (int) (Integer) args[2], (int) (Integer) args[3], (int) (Integer) args[4], (int) (Integer) args[5], (int) (Integer) args[6], (int) (Integer) args[7], (int) (Integer) args[8], (int) (Integer) args[9]);
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Action$Dispatch implements Action1, Action2 {
+
+        private static final Action$Dispatch[] INSTANCES = new Action$Dispatch[2];
+
+        private final int id;
+        private final Object[] bound;
+
+        Action$Dispatch(int id, Object[] bound) {
+            this.id = id;
+            this.bound = bound;
+        }
+
+        static Action$Dispatch instance(int id) {
+            Action$Dispatch ret = INSTANCES[id];
+            if (ret == null) {
+                ret = new Action$Dispatch(id, null);
+                INSTANCES[id] = ret; //racy, instances of the same id are interchangeable
+            }
+            return ret;
+        }
+
+        @Override
+        public void call(final Object t1) {
+            switch (id) {
+                case 0:
+                    parity.Item.log((String) t1);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+
+        @Override
+        public void call(final Object t1, final Object t2) {
+            switch (id) {
+                case 1:
+                    parity.Item.save((String) t1, (parity.Item) t2);
+                    return;
+                default:
+                    throw new AssertionError(id);
+            }
+        }
+    }
+}
+
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: Math")
+public abstract class Math_ {
+
+    public static  Func2<Double, Double, Double> IEEEremainder () {
+        return Math::IEEEremainder;
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 IEEEremainder$Unboxed () {
+        return Math::IEEEremainder;
+    }
+    public static  Func1<Double, Double> abs () {
+        return (arg0) -> Math.abs((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 abs$Unboxed () {
+        return (arg0) -> Math.abs((double) arg0);
+    }
+    public static  Func1<Float, Float> abs$Float () {
+        return (arg0) -> Math.abs((float) arg0);
+    }
+    public static  Func1<Integer, Integer> abs$Int () {
+        return (arg0) -> Math.abs((int) arg0);
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 abs$Int$Unboxed () {
+        return (arg0) -> Math.abs((int) arg0);
+    }
+    public static  Func1<Long, Long> abs$Long () {
+        return (arg0) -> Math.abs((long) arg0);
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 abs$Long$Unboxed () {
+        return (arg0) -> Math.abs((long) arg0);
+    }
+    public static  Func1<Double, Double> acos () {
+        return Math::acos;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 acos$Unboxed () {
+        return Math::acos;
+    }
+    public static  Func2<Integer, Integer, Integer> addExact () {
+        return (arg0, arg1) -> Math.addExact((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 addExact$Unboxed () {
+        return (arg0, arg1) -> Math.addExact((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> addExact$Long_Long () {
+        return (arg0, arg1) -> Math.addExact((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 addExact$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.addExact((long) arg0, (long) arg1);
+    }
+    public static  Func1<Double, Double> asin () {
+        return Math::asin;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 asin$Unboxed () {
+        return Math::asin;
+    }
+    public static  Func1<Double, Double> atan () {
+        return Math::atan;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 atan$Unboxed () {
+        return Math::atan;
+    }
+    public static  Func2<Double, Double, Double> atan2 () {
+        return Math::atan2;
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 atan2$Unboxed () {
+        return Math::atan2;
+    }
+    public static  Func1<Double, Double> cbrt () {
+        return Math::cbrt;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cbrt$Unboxed () {
+        return Math::cbrt;
+    }
+    public static  Func1<Double, Double> ceil () {
+        return Math::ceil;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 ceil$Unboxed () {
+        return Math::ceil;
+    }
+    public static  Func2<Double, Double, Double> copySign () {
+        return (arg0, arg1) -> Math.copySign((double) arg0, (double) arg1);
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 copySign$Unboxed () {
+        return (arg0, arg1) -> Math.copySign((double) arg0, (double) arg1);
+    }
+    public static  Func2<Float, Float, Float> copySign$Float_Float () {
+        return (arg0, arg1) -> Math.copySign((float) arg0, (float) arg1);
+    }
+    public static  Func1<Double, Double> cos () {
+        return Math::cos;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cos$Unboxed () {
+        return Math::cos;
+    }
+    public static  Func1<Double, Double> cosh () {
+        return Math::cosh;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 cosh$Unboxed () {
+        return Math::cosh;
+    }
+    public static  Func1<Integer, Integer> decrementExact () {
+        return (arg0) -> Math.decrementExact((int) arg0);
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 decrementExact$Unboxed () {
+        return (arg0) -> Math.decrementExact((int) arg0);
+    }
+    public static  Func1<Long, Long> decrementExact$Long () {
+        return (arg0) -> Math.decrementExact((long) arg0);
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 decrementExact$Long$Unboxed () {
+        return (arg0) -> Math.decrementExact((long) arg0);
+    }
+    public static  Func1<Double, Double> exp () {
+        return Math::exp;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 exp$Unboxed () {
+        return Math::exp;
+    }
+    public static  Func1<Double, Double> expm1 () {
+        return Math::expm1;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 expm1$Unboxed () {
+        return Math::expm1;
+    }
+    public static  Func1<Double, Double> floor () {
+        return Math::floor;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 floor$Unboxed () {
+        return Math::floor;
+    }
+    public static  Func2<Integer, Integer, Integer> floorDiv () {
+        return (arg0, arg1) -> Math.floorDiv((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 floorDiv$Unboxed () {
+        return (arg0, arg1) -> Math.floorDiv((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> floorDiv$Long_Long () {
+        return (arg0, arg1) -> Math.floorDiv((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 floorDiv$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.floorDiv((long) arg0, (long) arg1);
+    }
+    public static  Func2<Integer, Integer, Integer> floorMod () {
+        return (arg0, arg1) -> Math.floorMod((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 floorMod$Unboxed () {
+        return (arg0, arg1) -> Math.floorMod((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> floorMod$Long_Long () {
+        return (arg0, arg1) -> Math.floorMod((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 floorMod$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.floorMod((long) arg0, (long) arg1);
+    }
+    public static  Func1<Double, Integer> getExponent () {
+        return (arg0) -> Math.getExponent((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToIntFunc1 getExponent$Unboxed () {
+        return (arg0) -> Math.getExponent((double) arg0);
+    }
+    public static  Func1<Float, Integer> getExponent$Float () {
+        return (arg0) -> Math.getExponent((float) arg0);
+    }
+    public static  Func2<Double, Double, Double> hypot () {
+        return Math::hypot;
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 hypot$Unboxed () {
+        return Math::hypot;
+    }
+    public static  Func1<Integer, Integer> incrementExact () {
+        return (arg0) -> Math.incrementExact((int) arg0);
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 incrementExact$Unboxed () {
+        return (arg0) -> Math.incrementExact((int) arg0);
+    }
+    public static  Func1<Long, Long> incrementExact$Long () {
+        return (arg0) -> Math.incrementExact((long) arg0);
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 incrementExact$Long$Unboxed () {
+        return (arg0) -> Math.incrementExact((long) arg0);
+    }
+    public static  Func1<Double, Double> log () {
+        return Math::log;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log$Unboxed () {
+        return Math::log;
+    }
+    public static  Func1<Double, Double> log10 () {
+        return Math::log10;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log10$Unboxed () {
+        return Math::log10;
+    }
+    public static  Func1<Double, Double> log1p () {
+        return Math::log1p;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 log1p$Unboxed () {
+        return Math::log1p;
+    }
+    public static  Func2<Double, Double, Double> max () {
+        return (arg0, arg1) -> Math.max((double) arg0, (double) arg1);
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 max$Unboxed () {
+        return (arg0, arg1) -> Math.max((double) arg0, (double) arg1);
+    }
+    public static  Func2<Float, Float, Float> max$Float_Float () {
+        return (arg0, arg1) -> Math.max((float) arg0, (float) arg1);
+    }
+    public static  Func2<Integer, Integer, Integer> max$Int_Int () {
+        return (arg0, arg1) -> Math.max((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 max$Int_Int$Unboxed () {
+        return (arg0, arg1) -> Math.max((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> max$Long_Long () {
+        return (arg0, arg1) -> Math.max((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 max$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.max((long) arg0, (long) arg1);
+    }
+    public static  Func2<Double, Double, Double> min () {
+        return (arg0, arg1) -> Math.min((double) arg0, (double) arg1);
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 min$Unboxed () {
+        return (arg0, arg1) -> Math.min((double) arg0, (double) arg1);
+    }
+    public static  Func2<Float, Float, Float> min$Float_Float () {
+        return (arg0, arg1) -> Math.min((float) arg0, (float) arg1);
+    }
+    public static  Func2<Integer, Integer, Integer> min$Int_Int () {
+        return (arg0, arg1) -> Math.min((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 min$Int_Int$Unboxed () {
+        return (arg0, arg1) -> Math.min((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> min$Long_Long () {
+        return (arg0, arg1) -> Math.min((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 min$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.min((long) arg0, (long) arg1);
+    }
+    public static  Func2<Integer, Integer, Integer> multiplyExact () {
+        return (arg0, arg1) -> Math.multiplyExact((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 multiplyExact$Unboxed () {
+        return (arg0, arg1) -> Math.multiplyExact((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> multiplyExact$Long_Long () {
+        return (arg0, arg1) -> Math.multiplyExact((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 multiplyExact$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.multiplyExact((long) arg0, (long) arg1);
+    }
+    public static  Func1<Integer, Integer> negateExact () {
+        return (arg0) -> Math.negateExact((int) arg0);
+    }
+    public static  rx.codegen.functions.IntToIntFunc1 negateExact$Unboxed () {
+        return (arg0) -> Math.negateExact((int) arg0);
+    }
+    public static  Func1<Long, Long> negateExact$Long () {
+        return (arg0) -> Math.negateExact((long) arg0);
+    }
+    public static  rx.codegen.functions.LongToLongFunc1 negateExact$Long$Unboxed () {
+        return (arg0) -> Math.negateExact((long) arg0);
+    }
+    public static  Func2<Double, Double, Double> nextAfter () {
+        return (arg0, arg1) -> Math.nextAfter((double) arg0, (double) arg1);
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 nextAfter$Unboxed () {
+        return (arg0, arg1) -> Math.nextAfter((double) arg0, (double) arg1);
+    }
+    public static  Func2<Float, Double, Float> nextAfter$Float_Double () {
+        return (arg0, arg1) -> Math.nextAfter((float) arg0, (double) arg1);
+    }
+    public static  Func1<Double, Double> nextDown () {
+        return (arg0) -> Math.nextDown((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 nextDown$Unboxed () {
+        return (arg0) -> Math.nextDown((double) arg0);
+    }
+    public static  Func1<Float, Float> nextDown$Float () {
+        return (arg0) -> Math.nextDown((float) arg0);
+    }
+    public static  Func1<Double, Double> nextUp () {
+        return (arg0) -> Math.nextUp((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 nextUp$Unboxed () {
+        return (arg0) -> Math.nextUp((double) arg0);
+    }
+    public static  Func1<Float, Float> nextUp$Float () {
+        return (arg0) -> Math.nextUp((float) arg0);
+    }
+    public static  Func2<Double, Double, Double> pow () {
+        return Math::pow;
+    }
+    public static  rx.codegen.functions.DoubleDoubleToDoubleFunc2 pow$Unboxed () {
+        return Math::pow;
+    }
+    public static  Func0<Double> random () {
+        return Math::random;
+    }
+    public static  rx.codegen.functions.ToDoubleFunc0 random$Unboxed () {
+        return Math::random;
+    }
+    public static  Func1<Double, Double> rint () {
+        return Math::rint;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 rint$Unboxed () {
+        return Math::rint;
+    }
+    public static  Func1<Double, Long> round () {
+        return (arg0) -> Math.round((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToLongFunc1 round$Unboxed () {
+        return (arg0) -> Math.round((double) arg0);
+    }
+    public static  Func1<Float, Integer> round$Float () {
+        return (arg0) -> Math.round((float) arg0);
+    }
+    public static  Func2<Double, Integer, Double> scalb () {
+        return (arg0, arg1) -> Math.scalb((double) arg0, (int) arg1);
+    }
+    public static  Func2<Float, Integer, Float> scalb$Float_Int () {
+        return (arg0, arg1) -> Math.scalb((float) arg0, (int) arg1);
+    }
+    public static  Func1<Double, Double> signum () {
+        return (arg0) -> Math.signum((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 signum$Unboxed () {
+        return (arg0) -> Math.signum((double) arg0);
+    }
+    public static  Func1<Float, Float> signum$Float () {
+        return (arg0) -> Math.signum((float) arg0);
+    }
+    public static  Func1<Double, Double> sin () {
+        return Math::sin;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sin$Unboxed () {
+        return Math::sin;
+    }
+    public static  Func1<Double, Double> sinh () {
+        return Math::sinh;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sinh$Unboxed () {
+        return Math::sinh;
+    }
+    public static  Func1<Double, Double> sqrt () {
+        return Math::sqrt;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 sqrt$Unboxed () {
+        return Math::sqrt;
+    }
+    public static  Func2<Integer, Integer, Integer> subtractExact () {
+        return (arg0, arg1) -> Math.subtractExact((int) arg0, (int) arg1);
+    }
+    public static  rx.codegen.functions.IntIntToIntFunc2 subtractExact$Unboxed () {
+        return (arg0, arg1) -> Math.subtractExact((int) arg0, (int) arg1);
+    }
+    public static  Func2<Long, Long, Long> subtractExact$Long_Long () {
+        return (arg0, arg1) -> Math.subtractExact((long) arg0, (long) arg1);
+    }
+    public static  rx.codegen.functions.LongLongToLongFunc2 subtractExact$Long_Long$Unboxed () {
+        return (arg0, arg1) -> Math.subtractExact((long) arg0, (long) arg1);
+    }
+    public static  Func1<Double, Double> tan () {
+        return Math::tan;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 tan$Unboxed () {
+        return Math::tan;
+    }
+    public static  Func1<Double, Double> tanh () {
+        return Math::tanh;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 tanh$Unboxed () {
+        return Math::tanh;
+    }
+    public static  Func1<Double, Double> toDegrees () {
+        return Math::toDegrees;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 toDegrees$Unboxed () {
+        return Math::toDegrees;
+    }
+    public static  Func1<Long, Integer> toIntExact () {
+        return Math::toIntExact;
+    }
+    public static  rx.codegen.functions.LongToIntFunc1 toIntExact$Unboxed () {
+        return Math::toIntExact;
+    }
+    public static  Func1<Double, Double> toRadians () {
+        return Math::toRadians;
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 toRadians$Unboxed () {
+        return Math::toRadians;
+    }
+    public static  Func1<Double, Double> ulp () {
+        return (arg0) -> Math.ulp((double) arg0);
+    }
+    public static  rx.codegen.functions.DoubleToDoubleFunc1 ulp$Unboxed () {
+        return (arg0) -> Math.ulp((double) arg0);
+    }
+    public static  Func1<Float, Float> ulp$Float () {
+        return (arg0) -> Math.ulp((float) arg0);
+    }
+}
+
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: Boolean")
+public abstract class Boolean_ {
+
+    public static  Func1<Boolean, Boolean> newBoolean () {
+        return (arg0) -> new Boolean((boolean) arg0);
+    }
+    public static  Func1<String, Boolean> newBoolean$Obj () {
+        return (arg0) -> new Boolean((String) arg0);
+    }
+    public static  Func1<Boolean, Boolean> booleanValue () {
+        return Boolean::booleanValue;
+    }
+    public static  Func2<Boolean, Boolean, Integer> compare () {
+        return Boolean::compare;
+    }
+    public static  Func1<Boolean, Integer> compareTo (final Boolean arg0) {
+        return obj -> obj.compareTo((Boolean) arg0);
+    }
+    public static  Func1<Boolean, Boolean> equals_ (final Object arg0) {
+        return obj -> obj.equals((Object) arg0);
+    }
+    public static  Func1<String, Boolean> getBoolean () {
+        return Boolean::getBoolean;
+    }
+    public static  Func1<Boolean, Integer> hashCode_ () {
+        return obj -> obj.hashCode();
+    }
+    public static  Func1<Boolean, Integer> hashCode_$Bool () {
+        return (arg0) -> Boolean.hashCode((boolean) arg0);
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalAnd () {
+        return Boolean::logicalAnd;
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalOr () {
+        return Boolean::logicalOr;
+    }
+    public static  Func2<Boolean, Boolean, Boolean> logicalXor () {
+        return Boolean::logicalXor;
+    }
+    public static  Func1<String, Boolean> parseBoolean () {
+        return Boolean::parseBoolean;
+    }
+    public static  Func1<Boolean, String> toString_ () {
+        return obj -> obj.toString();
+    }
+    public static  Func1<Boolean, String> toString_$Bool () {
+        return (arg0) -> Boolean.toString((boolean) arg0);
+    }
+    public static  Func1<Boolean, Boolean> valueOf () {
+        return (arg0) -> Boolean.valueOf((boolean) arg0);
+    }
+    public static  Func1<String, Boolean> valueOf$Obj () {
+        return (arg0) -> Boolean.valueOf((String) arg0);
+    }
+}
+
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: parity.Item")
+public abstract class Item_ {
+
+    public static  Func1<String, parity.Item> newItem () {
+        return (name) -> new parity.Item((String) name);
+    }
+    public static  Func2<String, Integer, parity.Item> newItem$Obj_Int () {
+        return (name, price) -> new parity.Item((String) name, (int) price);
+    }
+    public static  Func2<Double, Double, Double> add () {
+        return (a, b) -> parity.Item.add((double) a, (double) b);
+    }
+    public static  Func2<Long, Long, Long> add$Long_Long () {
+        return (a, b) -> parity.Item.add((long) a, (long) b);
+    }
+    public static  Func1<String, Integer> checksum () {
+        return parity.Item::checksum;
+    }
+    public static  Func1<parity.Item, Integer> compareTo (final parity.Item other) {
+        return obj -> obj.compareTo((parity.Item) other);
+    }
+    public static  Func1<int[], int[]> copy () {
+        return parity.Item::copy;
+    }
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     *
+     */
+    public static  Func1<parity.Item, String> getName () {
+        return parity.Item::getName;
+    }
+    @SuppressWarnings({"unchecked", "rawtypes"})
+     static  Func1<parity.Item, Integer> getPrice () {
+        return getPrice$Instance.INSTANCE;
+    }
+    private static final class getPrice$Instance {
+
+        static final Func1<parity.Item, Integer> INSTANCE = new Func1<parity.Item, Integer>() {
+
+            @Override
+            public Integer call(final parity.Item obj) {
+                try {
+                    return (int) getPrice$Handle.HANDLE.invokeExact((parity.Item) obj);
+                } catch (Throwable ex) {
+                    throw rx.exceptions.Exceptions.propagate(ex);
+                }
+            }
+        };
+    }
+    private static final class getPrice$Handle {
+
+        static final java.lang.invoke.MethodHandle HANDLE;
+
+        static {
+            try {
+                final java.lang.reflect.Method member = parity.Item.class.getDeclaredMethod("getPrice");
+                member.setAccessible(true);
+                HANDLE = java.lang.invoke.MethodHandles.lookup().unreflect(member);
+            } catch (Exception ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+    }
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     *
+     */
+    public static <M0> Func1<M0, M0> identity () {
+        return parity.Item::identity;
+    }
+    public static  Func1<parity.Item, Boolean> isCheaperThan (final Integer limit) {
+        return obj -> obj.isCheaperThan((int) limit);
+    }
+    public static  Func2<String, String[], String> join () {
+        return parity.Item::join;
+    }
+    public static  Func1<String, String> load () {
+        return parity.Item::load;
+    }
+    public static  Func1<String, rx.Observable<String>> load$Async (final rx.Scheduler scheduler) {
+        return new Func1<String, rx.Observable<String>>() {
+
+            @Override
+            public rx.Observable<String> call(final String id) {
+                return rx.Observable.defer(new Func0<rx.Observable<String>>() {
+
+                    @Override
+                    public rx.Observable<String> call() {
+                        return rx.Observable.<String>just(parity.Item.load((String) id));
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  Action1<String> log () {
+        return parity.Item::log;
+    }
+    public static <M0 extends Comparable<? super M0>> Func1<java.util.Collection<? extends M0>, M0> max () {
+        return parity.Item::max;
+    }
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     *
+     */
+    public static  rx.codegen.cache.MemoizedFunc1<String, Integer> parse () {
+        return parse$Instance.INSTANCE;
+    }
+    private static final class parse$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc1<String, Integer> INSTANCE = new rx.codegen.cache.MemoizedFunc1<String, Integer>(16) {
+
+            @Override
+            protected Integer compute(final String value) {
+                return parity.Item.parse((String) value);
+            }
+        };
+    }
+    public static  rx.codegen.cache.MemoizedFunc2<String, Integer, String> repeat () {
+        return repeat$Instance.INSTANCE;
+    }
+    private static final class repeat$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc2<String, Integer, String> INSTANCE = new rx.codegen.cache.MemoizedFunc2<String, Integer, String>(1024) {
+
+            @Override
+            protected String compute(final String value, final Integer count) {
+                return parity.Item.repeat((String) value, (int) count);
+            }
+        };
+    }
+    public static  Action2<String, parity.Item> store () {
+        return parity.Item::save;
+    }
+    public static  Func2<String, parity.Item, rx.Observable<Void>> store$Async (final rx.Scheduler scheduler) {
+        return new Func2<String, parity.Item, rx.Observable<Void>>() {
+
+            @Override
+            public rx.Observable<Void> call(final String id, final parity.Item item) {
+                return rx.Observable.defer(new Func0<rx.Observable<Void>>() {
+
+                    @Override
+                    public rx.Observable<Void> call() {
+                        parity.Item.save((String) id, (parity.Item) item);
+                        return rx.Observable.<Void>just(null);
+                    }
+                }).subscribeOn(scheduler);
+            }
+        };
+    }
+    public static  FuncN<Integer> sum () {
+        return (args) -> parity.Item.sum((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3], (Integer) args[4], (Integer) args[5], (Integer) args[6], (Integer) args[7], (Integer) args[8], (Integer) args[9]);
+    }
+    public static <M0> Func1<M0, rx.Observable<M0>> twice () {
+        return parity.Item::twice;
+    }
+    public static  rx.codegen.cache.MemoizedFunc0<String> version () {
+        return version$Instance.INSTANCE;
+    }
+    private static final class version$Instance {
+
+        static final rx.codegen.cache.MemoizedFunc0<String> INSTANCE = new rx.codegen.cache.MemoizedFunc0<String>() {
+
+            @Override
+            protected String compute() {
+                return parity.Item.version();
+            }
+        };
+    }
+    public static  Func1<parity.Item, parity.Item> withPrice (final Integer price) {
+        return obj -> obj.withPrice((int) price);
+    }
+}
+
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity.refs.observables;
+
+import javax.annotation.Generated;
+import rx.functions.*;
+
+/**
+ * Do NOT modify this code. The content of this class is always regenerated.
+ */
+@Generated(value = "rx.codegen.RxRefCodeGenerator", comments = "Orginating type: rx.observables.GroupedObservable")
+public abstract class GroupedObservable_ {
+
+    public static <M0, M1> Func2<M0, rx.Observable.OnSubscribe<M1>, rx.observables.GroupedObservable<M0, M1>> create () {
+        return (key, f) -> rx.observables.GroupedObservable.create((M0) key, (rx.Observable.OnSubscribe<M1>) f);
+    }
+    public static <M0, M1> Func2<M0, rx.Observable<M1>, rx.observables.GroupedObservable<M0, M1>> from () {
+        return (key, o) -> rx.observables.GroupedObservable.from((M0) key, (rx.Observable<M1>) o);
+    }
+    public static <C0, C1> Func1<rx.observables.GroupedObservable<C0, C1>, C0> getKey () {
+        return rx.observables.GroupedObservable::getKey;
+    }
+}
+
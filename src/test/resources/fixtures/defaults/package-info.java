@@ -0,0 +1,28 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Only references with the default options, without any {@code @RxCodeGenerator} in the
+ * compilation.
+ *
+ * @author Matthias
+ */
+@RxRefCodeGenerator(classes = @RefClass(name = "java.lang.Boolean"),
+        packages = @RefPackage(name = "rx.functions", includes = "rx.functions.Functions"))
+package defaults;
+
+import rx.codegen.RefClass;
+import rx.codegen.RefPackage;
+import rx.codegen.RxRefCodeGenerator;
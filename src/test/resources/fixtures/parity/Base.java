@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import rx.codegen.RxCodeGenerator;
+
+/**
+ * Fixture of {@code RendererParityTest}, with the default options.
+ *
+ * @author Matthias
+ */
+@RxCodeGenerator
+public class Base {
+
+    public String describe() {
+        return "base";
+    }
+
+    public String describe(String prefix) {
+        return prefix + describe();
+    }
+
+    public static Base create() {
+        return new Base();
+    }
+}
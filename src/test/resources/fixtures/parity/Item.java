@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parity;
+
+import java.util.Collection;
+import rx.Observable;
+import rx.codegen.AsyncType;
+import rx.codegen.Option;
+import rx.codegen.RxCodeGenerator;
+import rx.codegen.RxMethod;
+
+/**
+ * Fixture of {@code RendererParityTest}.
+ *
+ * @author Matthias
+ */
+@RxCodeGenerator(options = @Option(operators = true, batches = true))
+public class Item implements Comparable<Item> {
+
+    private final String name;
+    private final int price;
+
+    public Item(String name) {
+        this(name, 0);
+    }
+
+    public Item(String name, int price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    /**
+     * Returns the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    int getPrice() {
+        return price;
+    }
+
+    public boolean isCheaperThan(int limit) {
+        return price < limit;
+    }
+
+    public Item withPrice(int price) {
+        return new Item(name, price);
+    }
+
+    @Override
+    public int compareTo(Item other) {
+        return name.compareTo(other.name);
+    }
+
+    public static int checksum(String value) {
+        return value.hashCode();
+    }
+
+    public static long add(long a, long b) {
+        return a + b;
+    }
+
+    public static double add(double a, double b) {
+        return a + b;
+    }
+
+    /**
+     * Returns the item.
+     *
+     * @param <T> the type of the item
+     * @param item an item
+     * @return {@code item}
+     */
+    public static <T> T identity(T item) {
+        return item;
+    }
+
+    public static <T extends Comparable<? super T>> T max(Collection<? extends T> items) {
+        T ret = null;
+        for (T item : items) {
+            if (ret == null || item.compareTo(ret) > 0) {
+                ret = item;
+            }
+        }
+        return ret;
+    }
+
+    public static <T> Observable<T> twice(T item) {
+        return Observable.just(item, item);
+    }
+
+    public static String join(String separator, String... values) {
+        final StringBuilder ret = new StringBuilder();
+        for (String value : values) {
+            ret.append(ret.length() == 0 ? "" : separator).append(value);
+        }
+        return ret.toString();
+    }
+
+    public static int[] copy(int[] values) {
+        return values.clone();
+    }
+
+    public static void log(String message) {
+    }
+
+    @RxMethod(memoize = true)
+    public static String version() {
+        return "1";
+    }
+
+    /**
+     * Parses a number.
+     *
+     * @param value a number
+     * @return the number
+     */
+    @RxMethod(memoize = true, cacheSize = 16)
+    public static int parse(String value) {
+        return Integer.parseInt(value);
+    }
+
+    @RxMethod(memoize = true)
+    public static String repeat(String value, int count) {
+        final StringBuilder ret = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ret.append(value);
+        }
+        return ret.toString();
+    }
+
+    @RxMethod(async = AsyncType.OBSERVABLE)
+    public static String load(String id) {
+        return id;
+    }
+
+    @RxMethod(name = "store", async = AsyncType.OBSERVABLE)
+    public static void save(String id, Item item) {
+    }
+
+    public static int sum(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        return a0 + a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9;
+    }
+}
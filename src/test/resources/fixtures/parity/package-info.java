@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * The unboxed, operator, batch, async and dispatch table variants of {@code Item} and of JDK classes.
+ *
+ * @author Matthias
+ */
+@RxRefCodeGenerator(classes = {
+    @RefClass(name = "parity.Item", simpleName = "ItemRef_",
+            options = @Option(unboxed = true, operators = true, batches = true, async = AsyncType.OBSERVABLE)),
+    @RefClass(name = "parity.Item", simpleName = "ItemDispatch_",
+            options = @Option(implementation = ImplementationStrategy.DISPATCH_TABLE)),
+    @RefClass(name = "java.lang.Math", options = @Option(unboxed = true))},
+        packages = @RefPackage(name = "java.util", includes = {"java.util.Arrays", "java.util.Objects"},
+                options = @Option(implementation = ImplementationStrategy.DISPATCH_TABLE)))
+package parity;
+
+import rx.codegen.AsyncType;
+import rx.codegen.ImplementationStrategy;
+import rx.codegen.Option;
+import rx.codegen.RefClass;
+import rx.codegen.RefPackage;
+import rx.codegen.RxRefCodeGenerator;
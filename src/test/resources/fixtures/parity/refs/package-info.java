@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Matthias Schorsch.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * References with the default options first, the method handles of the non-public methods of
+ * {@code Item}, the inherited methods of {@code Bar} and a sub-package of a classpath library.
+ * {@code Bar} is listed before {@code Base}.
+ *
+ * @author Matthias
+ */
+@RxRefCodeGenerator(classes = {
+    @RefClass(name = "java.lang.Boolean"),
+    @RefClass(name = "parity.Item", options = @Option(includeNonPublic = true)),
+    @RefClass(name = "parity.Bar", options = @Option(includeInherited = true)),
+    @RefClass(name = "parity.Base")},
+        packages = {
+            @RefPackage(name = "rx.functions", includes = "rx.functions.Functions"),
+            @RefPackage(name = "rx", recursive = true, includes = "rx.observables.GroupedObservable")})
+package parity.refs;
+
+import rx.codegen.Option;
+import rx.codegen.RefClass;
+import rx.codegen.RefPackage;
+import rx.codegen.RxRefCodeGenerator;